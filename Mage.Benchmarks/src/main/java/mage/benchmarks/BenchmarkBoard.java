@@ -0,0 +1,110 @@
+package mage.benchmarks;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.players.Player;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Reproducible game for benchmarks: fixed board and game seed, it's made by the same helpers as card tests.
+ * <p>
+ * Needs Mage.Tests folder as working dir (configs and decks).
+ */
+public class BenchmarkBoard extends CardTestPlayerBase {
+
+    public static final long GAME_SEED = 20231018L;
+
+    public enum Type {
+        /**
+         * Few creatures and lands, no static or triggered abilities
+         */
+        SIMPLE,
+        /**
+         * Typical middle game: lords, anthems, mana creatures, triggers and cards in hand
+         */
+        COMPLEX
+    }
+
+    private BenchmarkBoard() {
+    }
+
+    /**
+     * Start new game and stop it on main phase of the first player (turn 3)
+     */
+    public static BenchmarkBoard prepare(Type type) throws Exception {
+        init();
+        // test init enables debug logs
+        Logger.getRootLogger().setLevel(Level.WARN);
+
+        BenchmarkBoard board = new BenchmarkBoard();
+        board.reset();
+        currentGame.getState().setRandomSeed(GAME_SEED);
+        switch (type) {
+            case SIMPLE:
+                board.addSimpleCards();
+                break;
+            case COMPLEX:
+                board.addComplexCards();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown board type: " + type);
+        }
+        board.setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        board.execute();
+        return board;
+    }
+
+    private void addSimpleCards() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 2);
+    }
+
+    private void addComplexCards() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 4);
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Elvish Archdruid", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Honor of the Pure", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Soul Warden", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Ajani's Pridemate", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Serra Angel", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Lord of Atlantis", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Merfolk of the Pearl Trident", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.HAND, playerA, "Eladamri's Call", 1);
+        addCard(Zone.HAND, playerA, "Counsel of the Soratami", 1);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Serra Angel", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Soul Warden", 1);
+        addCard(Zone.HAND, playerB, "Lightning Bolt", 2);
+    }
+
+    public Game getGame() {
+        return currentGame;
+    }
+
+    /**
+     * @return active player with priority
+     */
+    public Player getPlayer() {
+        return playerA;
+    }
+
+    public Player getOpponent() {
+        return playerB;
+    }
+}
@@ -0,0 +1,31 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.players.Player;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state: game on the fixture board, one per trial
+ */
+@State(Scope.Benchmark)
+public class BoardState {
+
+    @Param({"SIMPLE", "COMPLEX"})
+    public BenchmarkBoard.Type boardType;
+
+    public Game game;
+    public Player player;
+    public Player opponent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkBoard board = BenchmarkBoard.prepare(boardType);
+        this.game = board.getGame();
+        this.player = board.getPlayer();
+        this.opponent = board.getOpponent();
+    }
+}
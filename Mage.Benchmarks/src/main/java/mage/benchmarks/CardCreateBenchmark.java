@@ -0,0 +1,42 @@
+package mage.benchmarks;
+
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardSetInfo;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * New card objects: deck loading, tokens and card copies
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardCreateBenchmark {
+
+    @Param({"Grizzly Bears", "Lightning Bolt", "Elvish Archdruid", "Fire // Ice"})
+    public String cardName;
+
+    private String className;
+    private CardSetInfo setInfo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CardScanner.scan();
+        CardInfo cardInfo = CardRepository.instance.findCards(cardName).get(0);
+        this.className = cardInfo.getClassName();
+        this.setInfo = new CardSetInfo(cardInfo.getName(), cardInfo.getSetCode(), cardInfo.getCardNumber(), cardInfo.getRarity());
+    }
+
+    @Benchmark
+    public Card createCard() {
+        return CardImpl.createCard(className, setInfo);
+    }
+}
@@ -0,0 +1,21 @@
+package mage.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Layers system, it runs after each game action
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContinuousEffectsBenchmark {
+
+    @Benchmark
+    public void applyEffects(BoardState board) {
+        board.game.getContinuousEffects().apply(board.game);
+    }
+}
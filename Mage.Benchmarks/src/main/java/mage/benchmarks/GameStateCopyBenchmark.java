@@ -0,0 +1,28 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.game.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game copies: AI simulations, rollback bookmarks and saved states
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateCopyBenchmark {
+
+    @Benchmark
+    public GameState copyState(BoardState board) {
+        return board.game.getState().copy();
+    }
+
+    @Benchmark
+    public Game copyGame(BoardState board) {
+        return board.game.copy();
+    }
+}
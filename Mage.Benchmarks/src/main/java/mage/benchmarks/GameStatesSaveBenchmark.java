@@ -0,0 +1,46 @@
+package mage.benchmarks;
+
+import mage.game.DeltaGameStates;
+import mage.game.GameState;
+import mage.game.GameStates;
+import mage.util.Copier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saved states history: each state save of the game with save game mode (live copies vs serialized deltas)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStatesSaveBenchmark {
+
+    private GameStates copyStates;
+    private DeltaGameStates deltaStates;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // new history for each iteration, so memory usage doesn't grow
+        copyStates = new GameStates();
+        deltaStates = new DeltaGameStates();
+    }
+
+    @Benchmark
+    public void saveCopy(BoardState board) {
+        copyStates.save(board.game.getState());
+    }
+
+    @Benchmark
+    public byte[] serializeState(BoardState board) {
+        return new Copier<GameState>().toBytes(board.game.getState());
+    }
+
+    @Benchmark
+    public void saveDelta(BoardState board) {
+        deltaStates.save(board.game.getState());
+    }
+}
@@ -0,0 +1,68 @@
+package mage.benchmarks;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.remote.traffic.ViewsDeltaEncoder;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client data: server makes and sends game view on each game update
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameViewBenchmark {
+
+    private GameView createView(BoardState board) {
+        return new GameView(board.game.getState(), board.game, board.player.getId(), null);
+    }
+
+    @Benchmark
+    public GameView createGameView(BoardState board) {
+        return createView(board);
+    }
+
+    @Benchmark
+    public byte[] createAndSerializeGameView(BoardState board) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(data)) {
+            output.writeObject(createView(board));
+        }
+        return data.toByteArray();
+    }
+
+    @Benchmark
+    public Object createAndCompressGameView(BoardState board) {
+        // same as network callback
+        return CompressUtil.compress(createView(board));
+    }
+
+    @State(Scope.Thread)
+    public static class EncoderState {
+
+        public ViewsDeltaEncoder encoder;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            encoder = new ViewsDeltaEncoder();
+        }
+    }
+
+    @Benchmark
+    public Object createAndEncodeGameViewDelta(BoardState board, EncoderState encoderState) {
+        // same as network callback of the user's session (new game view on each update)
+        ClientCallback call = new ClientCallback(ClientCallbackMethod.GAME_UPDATE, board.game.getId(), createView(board), true);
+        ViewsDeltaEncoder.Prepared delta = encoderState.encoder.encode(call);
+        encoderState.encoder.commit(delta);
+        return delta.getCallback();
+    }
+}
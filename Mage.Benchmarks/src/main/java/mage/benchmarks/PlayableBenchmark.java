@@ -0,0 +1,36 @@
+package mage.benchmarks;
+
+import mage.abilities.ActivatedAbility;
+import mage.abilities.mana.ManaOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playable abilities and available mana, GUI and AI ask it on each priority
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayableBenchmark {
+
+    @Benchmark
+    public List<ActivatedAbility> getPlayable(BoardState board) {
+        // new state version disables playable cache, so it's a full calculation
+        board.game.getState().updateStateVersion();
+        return board.player.getPlayable(board.game, true);
+    }
+
+    @Benchmark
+    public List<ActivatedAbility> getPlayableCached(BoardState board) {
+        return board.player.getPlayable(board.game, true);
+    }
+
+    @Benchmark
+    public ManaOptions getManaAvailable(BoardState board) {
+        return board.player.getManaAvailable(board.game);
+    }
+}
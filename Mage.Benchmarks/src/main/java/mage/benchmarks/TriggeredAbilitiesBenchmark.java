@@ -0,0 +1,41 @@
+package mage.benchmarks;
+
+import mage.game.events.GameEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Triggers search, it runs for each game event
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TriggeredAbilitiesBenchmark {
+
+    private GameEvent gainedLifeEvent;
+    private GameEvent drawCardEvent;
+
+    @Setup(Level.Trial)
+    public void setUp(BoardState board) {
+        // complex board has life gain triggers
+        gainedLifeEvent = GameEvent.getEvent(GameEvent.EventType.GAINED_LIFE, board.player.getId(), null, board.player.getId(), 1);
+        drawCardEvent = GameEvent.getEvent(GameEvent.EventType.DRAW_CARD, board.player.getId(), null, board.player.getId());
+    }
+
+    @Benchmark
+    public void checkTriggersGainedLife(BoardState board) {
+        board.game.getState().getTriggers().checkTriggers(gainedLifeEvent, board.game);
+        // triggered abilities must not be accumulated between calls
+        board.game.getState().clearTriggeredAbilities();
+    }
+
+    @Benchmark
+    public void checkTriggersDrawCard(BoardState board) {
+        board.game.getState().getTriggers().checkTriggers(drawCardEvent, board.game);
+        board.game.getState().clearTriggeredAbilities();
+    }
+}
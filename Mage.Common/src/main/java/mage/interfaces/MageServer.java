@@ -189,4 +189,9 @@ public interface MageServer {
     void removeTable(String sessionId, UUID tableId) throws MageException;
 
     void sendBroadcastMessage(String sessionId, String message) throws MageException;
+
+    /**
+     * @return server metrics in the plain text exposition format (compatible with Prometheus)
+     */
+    String getServerMetrics(String sessionId) throws MageException;
 }
@@ -1,20 +1,33 @@
 package mage.interfaces.callback;
 
+import mage.remote.traffic.ViewsDeltaObject;
 import mage.remote.traffic.ZippedObject;
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.util.metrics.MetricCounter;
+import mage.util.metrics.MetricsRegistry;
 import mage.utils.CompressUtil;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public class ClientCallback implements Serializable {
 
+    // server side stats of sent callbacks
+    private static final Map<ClientCallbackMethod, MetricCounter> sentCounters = new ConcurrentHashMap<>();
+    private static final Map<ClientCallbackMethod, MetricCounter> sentBytesCounters = new ConcurrentHashMap<>();
+
     private UUID objectId;
     private Object data;
     private ClientCallbackMethod method;
     private int messageId;
+    private transient boolean useCompress; // data compresses on sending only, so server side can replace it by views delta
 
     public ClientCallback(ClientCallbackMethod method, UUID objectId, Object data) {
         this(method, objectId, data, true);
@@ -51,11 +64,8 @@ public class ClientCallback implements Serializable {
     }
 
     public void setData(Object data, boolean useCompress) {
-        if (!useCompress || data == null || data instanceof ZippedObject) {
-            this.data = data;
-        } else {
-            this.data = CompressUtil.compress(data);
-        }
+        this.data = data;
+        this.useCompress = useCompress;
     }
 
     public void decompressData() {
@@ -80,4 +90,50 @@ public class ClientCallback implements Serializable {
         return messageId;
     }
 
+    /**
+     * Same callback can be sent to multiple users from different threads, so each sending uses own copy
+     */
+    public synchronized ClientCallback copy() {
+        ClientCallback res = new ClientCallback(method, objectId);
+        res.data = this.data;
+        res.useCompress = this.useCompress;
+        res.messageId = this.messageId;
+        return res;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        // same callback can be sent to multiple users, so keep compressed data for next sending
+        if (useCompress && data != null && !(data instanceof ZippedObject)) {
+            Object compressed = CompressUtil.compress(data);
+            if (compressed != null) {
+                data = compressed;
+            }
+            useCompress = false;
+        }
+        out.defaultWriteObject();
+        recordSending();
+    }
+
+    private void recordSending() {
+        if (method == null) {
+            return;
+        }
+        sentCounters.computeIfAbsent(method, m -> MetricsRegistry.instance.counter(
+                "xmage_callback_sent_total", "Sent callbacks", "method", m.name())
+        ).increment();
+
+        // compressed data only (all callbacks with big data use compression)
+        int size;
+        if (data instanceof ZippedObjectImpl) {
+            size = ((ZippedObjectImpl<?>) data).getSize();
+        } else if (data instanceof ViewsDeltaObject) {
+            size = ((ViewsDeltaObject) data).getSize();
+        } else {
+            return;
+        }
+        sentBytesCounters.computeIfAbsent(method, m -> MetricsRegistry.instance.counter(
+                "xmage_callback_sent_bytes_total", "Serialized data size of sent callbacks", "method", m.name())
+        ).add(size);
+    }
+
 }
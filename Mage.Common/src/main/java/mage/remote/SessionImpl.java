@@ -16,6 +16,7 @@ import mage.interfaces.MageServer;
 import mage.interfaces.ServerState;
 import mage.interfaces.callback.ClientCallback;
 import mage.players.PlayerType;
+import mage.remote.traffic.ViewsDeltaDecoder;
 import mage.players.net.UserData;
 import mage.utils.CompressUtil;
 import mage.view.*;
@@ -573,10 +574,15 @@ public class SessionImpl implements Session {
 
     class CallbackHandler implements InvokerCallbackHandler {
 
+        private final ViewsDeltaDecoder viewsDeltaDecoder = new ViewsDeltaDecoder();
+
         @Override
         public void handleCallback(Callback callback) throws HandleCallbackException {
             try {
-                client.processCallback((ClientCallback) callback.getCallbackObject());
+                ClientCallback clientCallback = (ClientCallback) callback.getCallbackObject();
+                if (viewsDeltaDecoder.decode(clientCallback)) {
+                    client.processCallback(clientCallback);
+                }
             } catch (Exception ex) {
                 logger.error("handleCallback error", ex);
             }
@@ -1522,6 +1528,20 @@ public class SessionImpl implements Session {
         return null;
     }
 
+    @Override
+    public String getServerMetrics() {
+        try {
+            if (isConnected()) {
+                return server.getServerMetrics(sessionId);
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return null;
+    }
+
     @Override
     public List<String> getServerMessages() {
         try {
@@ -19,6 +19,11 @@ public interface ServerState {
 
     List<UserView> getUsers();
 
+    /**
+     * Admin only: server metrics in text format
+     */
+    String getServerMetrics();
+
     Collection<RoomUsersView> getRoomUsers (UUID roomId) throws MageRemoteException;
     
     List<String> getServerMessages();
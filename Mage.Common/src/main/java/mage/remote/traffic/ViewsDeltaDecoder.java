@@ -0,0 +1,106 @@
+package mage.remote.traffic;
+
+import mage.interfaces.callback.ClientCallback;
+import org.apache.log4j.Logger;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Client side of the game views delta protocol (one decoder per server connection), see {@link ViewsDeltaEncoder}
+ */
+public class ViewsDeltaDecoder {
+
+    private static final Logger logger = Logger.getLogger(ViewsDeltaDecoder.class);
+
+    // must be bigger than keyframes interval, so re-ordered messages can use old card views too
+    private static final int KEEP_MESSAGES = ViewsDeltaEncoder.KEYFRAME_MESSAGES * 2;
+
+    private final Map<UUID, GameState> games = new HashMap<>();
+
+    /**
+     * Restore full data in the callback
+     *
+     * @return false if callback can't be restored and must be ignored
+     */
+    public synchronized boolean decode(ClientCallback callback) {
+        if (ViewsDeltaEncoder.isResetMethod(callback.getMethod())) {
+            games.remove(callback.getObjectId());
+            return true;
+        }
+        if (!ViewsDeltaEncoder.isSupported(callback.getMethod()) || !(callback.getData() instanceof ViewsDeltaObject)) {
+            return true;
+        }
+
+        GameState state = games.computeIfAbsent(callback.getObjectId(), k -> new GameState());
+        state.messageNumber++;
+        try (CardViewsInputStream in = new CardViewsInputStream(
+                new GZIPInputStream(new ByteArrayInputStream(((ViewsDeltaObject) callback.getData()).getData())), state)) {
+            callback.setData(in.readObject(), false);
+        } catch (IOException | ClassNotFoundException e) {
+            logger.warn("Can't restore game views delta for " + callback.getMethod() + ", messageId "
+                    + callback.getMessageId() + " (possible reason: connection problems): " + e.getMessage());
+            return false;
+        } finally {
+            state.knownCards.values().removeIf(card -> card.messageNumber <= state.messageNumber - KEEP_MESSAGES);
+        }
+        return true;
+    }
+
+    private static final class GameState {
+
+        private int messageNumber = 0;
+        private final Map<Long, KnownCard> knownCards = new HashMap<>();
+    }
+
+    private static final class KnownCard {
+
+        private final byte[] data;
+        private int messageNumber;
+
+        KnownCard(byte[] data, int messageNumber) {
+            this.data = data;
+            this.messageNumber = messageNumber;
+        }
+    }
+
+    private static final class CardViewsInputStream extends ObjectInputStream {
+
+        private final GameState state;
+
+        CardViewsInputStream(InputStream in, GameState state) throws IOException {
+            super(in);
+            this.state = state;
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) throws IOException {
+            KnownCard card;
+            if (obj instanceof ViewsDeltaObject.CardViewData) {
+                ViewsDeltaObject.CardViewData cardData = (ViewsDeltaObject.CardViewData) obj;
+                card = new KnownCard(cardData.data, state.messageNumber);
+                state.knownCards.put(cardData.hash, card);
+            } else if (obj instanceof ViewsDeltaObject.CardViewRef) {
+                card = state.knownCards.get(((ViewsDeltaObject.CardViewRef) obj).hash);
+                if (card == null) {
+                    throw new InvalidObjectException("unknown card view");
+                }
+                card.messageNumber = state.messageNumber;
+            } else {
+                return obj;
+            }
+
+            // each message must get own card view objects (client can change it)
+            try (ObjectInputStream ois = new ObjectInputStream(new SequenceInputStream(
+                    new ByteArrayInputStream(ViewsDeltaObject.CARD_STREAM_HEADER), new ByteArrayInputStream(card.data)))) {
+                return ois.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new InvalidClassException(e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package mage.remote.traffic;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.view.CardView;
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Server side of the game views delta protocol (one encoder per user's session).
+ * <p>
+ * Game updates send full game view on each priority change, but most of the card views are the same
+ * as in the previous messages. Encoder serializes each card view separately and replaces already sent card views
+ * by hash references (client keeps received card views in {@link ViewsDeltaDecoder}).
+ * <p>
+ * Messages can be lost or re-ordered and there are no acks, so each {@link #KEYFRAME_MESSAGES}-th message
+ * is a keyframe: it sends all card views with full data and next messages can use references to the card views
+ * since the last keyframe only. Lost data breaks only messages until the next keyframe (decoder ignores it),
+ * decoder keeps card views twice longer for re-ordered messages. Card views must be sent by remembered hashes
+ * only after successful sending (see {@link #commit(Prepared)}).
+ * <p>
+ * Same card views can be sent to multiple sessions (example: public game view for all game watchers),
+ * so serialized card views are cached by card view object for all sessions of the server: each card view
+ * object serializes only once (card views must not be changed after the callback was fired).
+ * <p>
+ * Not thread safe, must be used under session's callback lock.
+ */
+public class ViewsDeltaEncoder {
+
+    private static final Logger logger = Logger.getLogger(ViewsDeltaEncoder.class);
+
+    static final int KEYFRAME_MESSAGES = 10;
+
+    // non-interactive callbacks only: client can't ask a full view, so lost delta must not stop the game
+    private static final Set<ClientCallbackMethod> SUPPORTED_METHODS = EnumSet.of(
+            ClientCallbackMethod.GAME_UPDATE,
+            ClientCallbackMethod.GAME_INFORM,
+            ClientCallbackMethod.GAME_INFORM_PERSONAL
+    );
+
+    // card view -> serialized card view, weak keys will be removed after all sessions send the card view
+    // (card views don't override equals/hashCode, so it works as identity map)
+    private static final Map<CardView, SerializedCard> serializedCards = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<UUID, GameState> games = new HashMap<>();
+
+    // one stream for all card views (new stream for each card view is much slower),
+    // each card view starts from reset, so its data doesn't depend on other card views
+    private final ByteArrayOutputStream cardBuffer = new ByteArrayOutputStream();
+    private ObjectOutputStream cardStream = null;
+
+    /**
+     * Prepare delta version of the callback
+     *
+     * @return prepared delta or null if callback must be sent as is
+     */
+    public Prepared encode(ClientCallback call) {
+        if (isResetMethod(call.getMethod())) {
+            reset(call.getObjectId());
+            return null;
+        }
+        if (!isSupported(call.getMethod()) || call.getObjectId() == null || call.getData() == null) {
+            return null;
+        }
+
+        GameState state = games.computeIfAbsent(call.getObjectId(), k -> new GameState());
+        boolean keyframe = state.messagesFromKeyframe >= KEYFRAME_MESSAGES;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        CardViewsOutputStream out;
+        try {
+            out = new CardViewsOutputStream(new GZIPOutputStream(bos), state, keyframe);
+            out.writeObject(call.getData());
+            out.close();
+        } catch (IOException e) {
+            logger.error("Can't prepare game views delta for " + call.getMethod() + ", full data will be sent", e);
+            return null;
+        }
+
+        ViewsDeltaObject delta = new ViewsDeltaObject(bos.toByteArray(), out.cardsTotal, out.cardsSent);
+        ClientCallback deltaCall = new ClientCallback(call.getMethod(), call.getObjectId(), delta, false);
+        deltaCall.setMessageId(call.getMessageId());
+        return new Prepared(deltaCall, state, keyframe, out.usedHashes);
+    }
+
+    /**
+     * Remember sent card views, so next messages can use references to it
+     */
+    public void commit(Prepared prepared) {
+        GameState state = prepared.state;
+        if (prepared.keyframe) {
+            state.knownCards.clear();
+            state.messagesFromKeyframe = 0;
+        }
+        state.knownCards.addAll(prepared.usedHashes);
+        state.messagesFromKeyframe++;
+    }
+
+    public void reset(UUID objectId) {
+        GameState state = games.remove(objectId);
+        if (state != null && logger.isDebugEnabled()) {
+            logger.debug("Game views delta for " + objectId + ": sent " + state.cardsSent + " of " + state.cardsTotal + " card views");
+        }
+    }
+
+    public static boolean isSupported(ClientCallbackMethod method) {
+        return SUPPORTED_METHODS.contains(method);
+    }
+
+    static boolean isResetMethod(ClientCallbackMethod method) {
+        return method == ClientCallbackMethod.GAME_INIT || method == ClientCallbackMethod.GAME_OVER;
+    }
+
+    private byte[] serializeCard(CardView card) throws IOException {
+        if (cardStream == null) {
+            cardStream = new ObjectOutputStream(cardBuffer);
+            cardStream.flush(); // stream header is not a part of card's data
+        }
+        cardBuffer.reset();
+        cardStream.reset();
+        cardStream.writeObject(card);
+        cardStream.flush();
+        return cardBuffer.toByteArray();
+    }
+
+    private static final class GameState {
+
+        private int messagesFromKeyframe = KEYFRAME_MESSAGES; // first message must be a keyframe
+        private final Set<Long> knownCards = new HashSet<>(); // card views since the last keyframe
+        private long cardsTotal = 0;
+        private long cardsSent = 0;
+    }
+
+    private static final class SerializedCard {
+
+        private final long hash;
+        private final byte[] data;
+
+        private SerializedCard(long hash, byte[] data) {
+            this.hash = hash;
+            this.data = data;
+        }
+    }
+
+    public static final class Prepared {
+
+        private final ClientCallback callback;
+        private final GameState state;
+        private final boolean keyframe;
+        private final Set<Long> usedHashes;
+
+        private Prepared(ClientCallback callback, GameState state, boolean keyframe, Set<Long> usedHashes) {
+            this.callback = callback;
+            this.state = state;
+            this.keyframe = keyframe;
+            this.usedHashes = usedHashes;
+        }
+
+        public ClientCallback getCallback() {
+            return callback;
+        }
+    }
+
+    private final class CardViewsOutputStream extends ObjectOutputStream {
+
+        private final GameState state;
+        private final boolean keyframe;
+        private final Set<Long> usedHashes = new HashSet<>();
+        private final Map<CardView, Object> replaced = new IdentityHashMap<>(); // same card view object must be same in the result
+        private int cardsTotal = 0;
+        private int cardsSent = 0;
+
+        CardViewsOutputStream(OutputStream out, GameState state, boolean keyframe) throws IOException {
+            super(out);
+            this.state = state;
+            this.keyframe = keyframe;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (!(obj instanceof CardView)) {
+                return obj;
+            }
+            Object res = replaced.get(obj);
+            if (res != null) {
+                return res;
+            }
+
+            SerializedCard card = serializedCards.get(obj);
+            if (card == null) {
+                byte[] data = serializeCard((CardView) obj);
+                card = new SerializedCard(ViewsDeltaObject.hash(data), data);
+                serializedCards.put((CardView) obj, card);
+            }
+            long hash = card.hash;
+            cardsTotal++;
+            state.cardsTotal++;
+            if (!keyframe && state.knownCards.contains(hash)) {
+                res = new ViewsDeltaObject.CardViewRef(hash);
+            } else {
+                cardsSent++;
+                state.cardsSent++;
+                res = new ViewsDeltaObject.CardViewData(hash, card.data);
+            }
+            usedHashes.add(hash);
+            replaced.put((CardView) obj, res);
+            return res;
+        }
+    }
+}
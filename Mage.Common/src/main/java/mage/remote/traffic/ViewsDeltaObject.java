@@ -0,0 +1,93 @@
+package mage.remote.traffic;
+
+import java.io.ObjectStreamConstants;
+import java.io.Serializable;
+
+/**
+ * Callback's data with card views delta: card views that were sent in the previous messages
+ * are replaced by hash references, so the client re-uses its own copies instead of receiving same data again.
+ *
+ * @see ViewsDeltaEncoder
+ * @see ViewsDeltaDecoder
+ */
+public class ViewsDeltaObject implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // card's data is a part of the object stream without header (see ViewsDeltaEncoder.serializeCard)
+    static final byte[] CARD_STREAM_HEADER = {
+            (byte) (ObjectStreamConstants.STREAM_MAGIC >> 8), (byte) ObjectStreamConstants.STREAM_MAGIC,
+            (byte) (ObjectStreamConstants.STREAM_VERSION >> 8), (byte) ObjectStreamConstants.STREAM_VERSION
+    };
+
+    private final byte[] data; // gzipped object stream with replaced card views
+    private final int cardsTotal;
+    private final int cardsSent;
+
+    ViewsDeltaObject(byte[] data, int cardsTotal, int cardsSent) {
+        this.data = data;
+        this.cardsTotal = cardsTotal;
+        this.cardsSent = cardsSent;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    public int getSize() {
+        return data.length;
+    }
+
+    public int getCardsTotal() {
+        return cardsTotal;
+    }
+
+    /**
+     * @return amount of card views with full data, other card views are references to the previous messages
+     */
+    public int getCardsSent() {
+        return cardsSent;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of serialized card view
+     */
+    static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Card view with full data (new or changed card)
+     */
+    static final class CardViewData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final long hash;
+        final byte[] data;
+
+        CardViewData(long hash, byte[] data) {
+            this.hash = hash;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Card view from the previous messages (unchanged card)
+     */
+    static final class CardViewRef implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final long hash;
+
+        CardViewRef(long hash) {
+            this.hash = hash;
+        }
+    }
+}
@@ -36,6 +36,13 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
         }
     }
 
+    /**
+     * @return compressed data size in bytes
+     */
+    public int getSize() {
+        return data == null ? 0 : data.length;
+    }
+
     @SuppressWarnings("unchecked")
     public T unzip() {
         try {
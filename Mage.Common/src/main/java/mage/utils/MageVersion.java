@@ -18,7 +18,7 @@ public class MageVersion implements Serializable, Comparable<MageVersion> {
     public static final int MAGE_VERSION_MAJOR = 1;
     public static final int MAGE_VERSION_MINOR = 4;
     public static final int MAGE_VERSION_RELEASE = 50;
-    public static final String MAGE_VERSION_RELEASE_INFO = "V2"; // V1 for releases, V1-beta3 for betas
+    public static final String MAGE_VERSION_RELEASE_INFO = "V4"; // V1 for releases, V1-beta3 for betas
 
     // strict mode
     // Each update requires a strict version
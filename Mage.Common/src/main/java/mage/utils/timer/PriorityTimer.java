@@ -3,6 +3,9 @@ package mage.utils.timer;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import mage.MageException;
 import mage.interfaces.Action;
 import org.apache.log4j.Logger;
@@ -17,9 +20,10 @@ public class PriorityTimer extends TimerTask {
     private final long delay;
     private final Action taskOnTimeout;
 
-    private int count;
+    private volatile int count;
     private Action taskOnTick;
-    private States state = States.NONE;
+    private volatile States state = States.NONE;
+    private ScheduledFuture<?> future; // if started by shared scheduler
 
     enum States {
         NONE,
@@ -35,13 +39,29 @@ public class PriorityTimer extends TimerTask {
         this.taskOnTimeout = taskOnTimeout;
     }
 
+    /**
+     * Starts ticks in own thread (use it for a single timer only, e.g. on client side)
+     */
     public void init(UUID gameId) {
         state = States.INIT;
         Timer timer = new Timer("Priority Timer-" + gameId.toString(), false);
-        long delayMs = delay * (int) (1000L / delay);
+        long delayMs = getTickMs();
         timer.scheduleAtFixedRate(this, delayMs, delayMs);
     }
 
+    /**
+     * Starts ticks in the shared scheduler, so many timers can use same threads (e.g. all games on server side)
+     */
+    public synchronized void init(ScheduledExecutorService timerService) {
+        state = States.INIT;
+        long delayMs = getTickMs();
+        future = timerService.scheduleAtFixedRate(this, delayMs, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private long getTickMs() {
+        return delay * (int) (1000L / delay);
+    }
+
     public void start() {
         if (state == States.NONE) {
             throw new IllegalStateException("Timer should have been initialized first");
@@ -80,6 +100,14 @@ public class PriorityTimer extends TimerTask {
         this.taskOnTick = taskOnTick;
     }
 
+    @Override
+    public synchronized boolean cancel() {
+        if (future != null) {
+            future.cancel(false);
+        }
+        return super.cancel();
+    }
+
     @Override
     public void run() {
         if (state == States.RUNNING) {
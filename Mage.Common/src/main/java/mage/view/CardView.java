@@ -39,6 +39,8 @@ import mage.target.Targets;
 import mage.util.CardUtil;
 import mage.util.SubTypes;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -830,6 +832,39 @@ public class CardView extends SimpleCardView {
         this.type = token.getTokenType();
     }
 
+    /**
+     * Replace immutable texts by shared copies (see {@link CardViewTexts})
+     */
+    private void shareTexts() {
+        this.name = CardViewTexts.share(this.name);
+        this.displayName = CardViewTexts.share(this.displayName);
+        this.displayFullName = CardViewTexts.share(this.displayFullName);
+        this.rules = CardViewTexts.share(this.rules);
+        this.power = CardViewTexts.share(this.power);
+        this.toughness = CardViewTexts.share(this.toughness);
+        this.startingLoyalty = CardViewTexts.share(this.startingLoyalty);
+        this.startingDefense = CardViewTexts.share(this.startingDefense);
+        this.manaCostLeftStr = CardViewTexts.share(this.manaCostLeftStr);
+        this.manaCostRightStr = CardViewTexts.share(this.manaCostRightStr);
+        this.expansionSetCode = CardViewTexts.share(this.expansionSetCode);
+        this.cardNumber = CardViewTexts.share(this.cardNumber);
+        this.alternateName = CardViewTexts.share(this.alternateName);
+        this.leftSplitName = CardViewTexts.share(this.leftSplitName);
+        this.leftSplitCostsStr = CardViewTexts.share(this.leftSplitCostsStr);
+        this.leftSplitRules = CardViewTexts.share(this.leftSplitRules);
+        this.leftSplitTypeLine = CardViewTexts.share(this.leftSplitTypeLine);
+        this.rightSplitName = CardViewTexts.share(this.rightSplitName);
+        this.rightSplitCostsStr = CardViewTexts.share(this.rightSplitCostsStr);
+        this.rightSplitRules = CardViewTexts.share(this.rightSplitRules);
+        this.rightSplitTypeLine = CardViewTexts.share(this.rightSplitTypeLine);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // client side only: server views are short-lived, so interning costs more than it saves
+        shareTexts();
+    }
+
     protected final void addTargets(Targets targets, Effects effects, Ability source, Game game) {
         if (this.targets == null) {
             this.targets = new ArrayList<>();
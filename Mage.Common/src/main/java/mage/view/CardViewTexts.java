@@ -0,0 +1,45 @@
+package mage.view;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared immutable texts of the card views (names, rules, mana costs, set info).
+ * <p>
+ * Client keeps received views of all visible cards and each game update gives new copies of the same texts,
+ * so deserialized views keep the shared copies instead. Server views are not interned: they live
+ * until the update is sent only, so interning of each new view costs more than it saves.
+ * <p>
+ * Traffic doesn't depend on it much: views delta serializes each card view separately (see ViewsDeltaEncoder),
+ * so shared texts can be written by reference inside one card view only, and gzip removes most
+ * of the repeated texts in full messages anyway.
+ */
+final class CardViewTexts {
+
+    // weak, so unused texts of finished games can be collected
+    private static final Interner<String> texts = Interners.newWeakInterner();
+
+    private CardViewTexts() {
+    }
+
+    static String share(String text) {
+        return text == null ? null : texts.intern(text);
+    }
+
+    /**
+     * @return new mutable list with shared texts (view can add own rules later)
+     */
+    static List<String> share(List<String> rules) {
+        if (rules == null) {
+            return null;
+        }
+        List<String> res = new ArrayList<>(rules.size());
+        for (String rule : rules) {
+            res.add(share(rule));
+        }
+        return res;
+    }
+}
@@ -0,0 +1,150 @@
+package mage.remote.traffic;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.view.CardView;
+import mage.view.CardsView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewsDeltaTest {
+
+    private final UUID gameId = UUID.randomUUID();
+
+    private static class SharedCards implements Serializable {
+
+        private final CardsView cards;
+
+        SharedCards(CardsView cards) {
+            this.cards = cards;
+        }
+    }
+
+    private CardsView makeCards(String... setCodes) {
+        CardsView cards = new CardsView();
+        for (String setCode : setCodes) {
+            CardView card = new CardView(true);
+            card.setExpansionSetCode(setCode);
+            cards.put(UUID.randomUUID(), card);
+        }
+        return cards;
+    }
+
+    private List<String> getSetCodes(ClientCallback callback) {
+        List<String> res = new ArrayList<>();
+        ((CardsView) callback.getData()).values().forEach(card -> res.add(card.getExpansionSetCode()));
+        return res;
+    }
+
+    private ClientCallback send(ViewsDeltaEncoder encoder, ClientCallbackMethod method, Object data, boolean commit) {
+        ViewsDeltaEncoder.Prepared prepared = encoder.encode(new ClientCallback(method, gameId, data));
+        if (prepared == null) {
+            return new ClientCallback(method, gameId, data, false);
+        }
+        if (commit) {
+            encoder.commit(prepared);
+        }
+        return prepared.getCallback();
+    }
+
+    @Test
+    @DisplayName("unchanged card views must be sent as references")
+    void testUnchangedCards() {
+        ViewsDeltaEncoder encoder = new ViewsDeltaEncoder();
+        ViewsDeltaDecoder decoder = new ViewsDeltaDecoder();
+
+        ClientCallback first = send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA", "BBB", "CCC"), true);
+        assertThat(((ViewsDeltaObject) first.getData()).getCardsSent()).isEqualTo(3);
+        assertThat(decoder.decode(first)).isTrue();
+        assertThat(getSetCodes(first)).containsExactly("AAA", "BBB", "CCC");
+
+        ClientCallback second = send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA", "BBB", "DDD"), true);
+        ViewsDeltaObject delta = (ViewsDeltaObject) second.getData();
+        assertThat(delta.getCardsTotal()).isEqualTo(3);
+        assertThat(delta.getCardsSent()).isEqualTo(1);
+        assertThat(decoder.decode(second)).isTrue();
+        assertThat(getSetCodes(second)).containsExactly("AAA", "BBB", "DDD");
+    }
+
+    @Test
+    @DisplayName("not committed message must not be used for references")
+    void testNotCommitted() {
+        ViewsDeltaEncoder encoder = new ViewsDeltaEncoder();
+
+        send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA"), false);
+        ClientCallback second = send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA"), true);
+        assertThat(((ViewsDeltaObject) second.getData()).getCardsSent()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("game init must reset delta and unknown references must be ignored")
+    void testReset() {
+        ViewsDeltaEncoder encoder = new ViewsDeltaEncoder();
+        ViewsDeltaDecoder decoder = new ViewsDeltaDecoder();
+
+        send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA"), true);
+        ClientCallback lost = send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA"), true);
+        assertThat(decoder.decode(lost)).isFalse();
+
+        ClientCallback init = send(encoder, ClientCallbackMethod.GAME_INIT, makeCards("AAA"), true);
+        assertThat(init.getData()).isInstanceOf(CardsView.class);
+        assertThat(decoder.decode(init)).isTrue();
+
+        ClientCallback update = send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA"), true);
+        assertThat(decoder.decode(update)).isTrue();
+        assertThat(getSetCodes(update)).containsExactly("AAA");
+    }
+
+    @Test
+    @DisplayName("lost card views must be restored by the next keyframe")
+    void testKeyframe() {
+        ViewsDeltaEncoder encoder = new ViewsDeltaEncoder();
+        ViewsDeltaDecoder decoder = new ViewsDeltaDecoder();
+
+        // first message is a keyframe, but it's lost
+        send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA", "BBB"), true);
+        for (int i = 1; i < ViewsDeltaEncoder.KEYFRAME_MESSAGES; i++) {
+            ClientCallback update = send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA", "BBB"), true);
+            assertThat(((ViewsDeltaObject) update.getData()).getCardsSent()).isZero();
+            assertThat(decoder.decode(update)).isFalse();
+        }
+
+        ClientCallback keyframe = send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA", "BBB"), true);
+        assertThat(((ViewsDeltaObject) keyframe.getData()).getCardsSent()).isEqualTo(2);
+        assertThat(decoder.decode(keyframe)).isTrue();
+        assertThat(getSetCodes(keyframe)).containsExactly("AAA", "BBB");
+
+        ClientCallback update = send(encoder, ClientCallbackMethod.GAME_UPDATE, makeCards("AAA", "CCC"), true);
+        assertThat(((ViewsDeltaObject) update.getData()).getCardsSent()).isEqualTo(1);
+        assertThat(decoder.decode(update)).isTrue();
+        assertThat(getSetCodes(update)).containsExactly("AAA", "CCC");
+    }
+
+    @Test
+    @DisplayName("same data must be serialized once and sent to all sessions")
+    void testSharedData() {
+        ViewsDeltaEncoder encoder1 = new ViewsDeltaEncoder();
+        ViewsDeltaEncoder encoder2 = new ViewsDeltaEncoder();
+        ViewsDeltaDecoder decoder1 = new ViewsDeltaDecoder();
+        ViewsDeltaDecoder decoder2 = new ViewsDeltaDecoder();
+
+        SharedCards sharedCards = new SharedCards(makeCards("AAA", "BBB"));
+        ClientCallback call1 = send(encoder1, ClientCallbackMethod.GAME_UPDATE, sharedCards, true);
+        ClientCallback call2 = send(encoder2, ClientCallbackMethod.GAME_UPDATE, sharedCards, true);
+
+        assertThat(((ViewsDeltaObject) call2.getData()).getCardsSent()).isEqualTo(2);
+        assertThat(decoder1.decode(call1)).isTrue();
+        assertThat(decoder2.decode(call2)).isTrue();
+        call1.setData(((SharedCards) call1.getData()).cards, false);
+        call2.setData(((SharedCards) call2.getData()).cards, false);
+        assertThat(getSetCodes(call1)).containsExactly("AAA", "BBB");
+        assertThat(getSetCodes(call2)).containsExactly("AAA", "BBB");
+    }
+}
@@ -0,0 +1,53 @@
+package mage.utils.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriorityTimerTest {
+
+    private ScheduledThreadPoolExecutor timerService;
+
+    @BeforeEach
+    void setUp() {
+        timerService = new ScheduledThreadPoolExecutor(1);
+        timerService.setRemoveOnCancelPolicy(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("many timers share the same scheduler and leave it after timeout")
+    void testSharedScheduler() throws InterruptedException {
+        CountDownLatch timeouts = new CountDownLatch(2);
+        PriorityTimer timer1 = new PriorityTimer(1, 250, timeouts::countDown);
+        PriorityTimer timer2 = new PriorityTimer(2, 250, timeouts::countDown);
+        PriorityTimer paused = new PriorityTimer(1, 250, () -> {
+        });
+        timer1.init(timerService);
+        timer2.init(timerService);
+        paused.init(timerService);
+        timer1.start();
+        timer2.start();
+        assertThat(timerService.getQueue()).hasSize(3);
+
+        assertThat(timeouts.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(timer1.getCount()).isEqualTo(0);
+        assertThat(timer2.getCount()).isEqualTo(0);
+        assertThat(paused.getCount()).isEqualTo(1);
+        assertThat(timerService.getQueue()).hasSize(1);
+
+        paused.cancel();
+        assertThat(timerService.getQueue()).isEmpty();
+    }
+}
@@ -25,6 +25,7 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
 
     private static Session session;
     private ConnectDialog connectDialog;
+    private MetricsDialog metricsDialog;
     private static final Preferences prefs = Preferences.userNodeForPackage(ConsoleFrame.class);
     private static final MageVersion version = new MageVersion(ConsoleFrame.class);
 
@@ -86,12 +87,14 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
         btnConnect.setEnabled(true);
         btnConnect.setText("Disconnect & Close");
         btnSendMessage.setEnabled(true);
+        btnMetrics.setEnabled(true);
     }
 
     public void disableButtons() {
         btnConnect.setEnabled(true);
         btnConnect.setText("Connect");
         btnSendMessage.setEnabled(false);
+        btnMetrics.setEnabled(false);
     }
 
     /**
@@ -107,6 +110,7 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
         jToolBar1 = new javax.swing.JToolBar();
         btnConnect = new javax.swing.JButton();
         btnSendMessage = new javax.swing.JButton();
+        btnMetrics = new javax.swing.JButton();
         lblStatus = new javax.swing.JLabel();
         consolePanel1 = new mage.server.console.ConsolePanel();
 
@@ -131,6 +135,14 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
         btnSendMessage.addActionListener(evt -> btnSendMessageActionPerformed(evt));
         jToolBar1.add(btnSendMessage);
 
+        btnMetrics.setEnabled(false);
+        btnMetrics.setFocusable(false);
+        btnMetrics.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
+        btnMetrics.setText("Server Metrics");
+        btnMetrics.setVerticalTextPosition(javax.swing.SwingConstants.BOTTOM);
+        btnMetrics.addActionListener(evt -> btnMetricsActionPerformed(evt));
+        jToolBar1.add(btnMetrics);
+
         lblStatus.setText("Not Connected");
         jToolBar1.add(Box.createHorizontalGlue());
         jToolBar1.add(lblStatus);
@@ -171,6 +183,13 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
         }
     }//GEN-LAST:event_btnSendMessageActionPerformed
 
+    private void btnMetricsActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnMetricsActionPerformed
+        if (metricsDialog == null) {
+            metricsDialog = new MetricsDialog(this);
+        }
+        metricsDialog.showDialog();
+    }//GEN-LAST:event_btnMetricsActionPerformed
+
     /**
      * @param args the command line arguments
      */
@@ -190,6 +209,7 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
     private javax.swing.JButton btnConnect;
+    private javax.swing.JButton btnMetrics;
     private javax.swing.JButton btnSendMessage;
     private mage.server.console.ConsolePanel consolePanel1;
     private javax.swing.JToolBar jToolBar1;
@@ -213,17 +233,25 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
     public void disconnected(boolean askToReconnect) {
         if (SwingUtilities.isEventDispatchThread()) {
             consolePanel1.stop();
+            stopMetrics();
             setStatusText("Not connected");
             disableButtons();
         } else {
             SwingUtilities.invokeLater(() -> {
                 consolePanel1.stop();
+                stopMetrics();
                 setStatusText("Not connected");
                 disableButtons();
             });
         }
     }
 
+    private void stopMetrics() {
+        if (metricsDialog != null) {
+            metricsDialog.hideDialog();
+        }
+    }
+
     @Override
     public void showMessage(final String message) {
         if (SwingUtilities.isEventDispatchThread()) {
@@ -0,0 +1,98 @@
+package mage.server.console;
+
+import mage.remote.Session;
+import org.apache.log4j.Logger;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Server metrics in text format, updates while the dialog is visible
+ */
+public class MetricsDialog extends JDialog {
+
+    private final JTextArea txtMetrics;
+    private UpdateMetricsTask updateMetricsTask;
+
+    public MetricsDialog(Frame owner) {
+        super(owner, "Server Metrics", false);
+        txtMetrics = new JTextArea();
+        txtMetrics.setEditable(false);
+        txtMetrics.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        getContentPane().add(new JScrollPane(txtMetrics), BorderLayout.CENTER);
+        setDefaultCloseOperation(WindowConstants.DO_NOTHING_ON_CLOSE);
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                hideDialog();
+            }
+        });
+        setSize(700, 600);
+        setLocationRelativeTo(owner);
+    }
+
+    public void showDialog() {
+        if (updateMetricsTask == null || updateMetricsTask.isDone()) {
+            updateMetricsTask = new UpdateMetricsTask(ConsoleFrame.getSession(), this);
+            updateMetricsTask.execute();
+        }
+        setVisible(true);
+    }
+
+    public void hideDialog() {
+        if (updateMetricsTask != null && !updateMetricsTask.isDone()) {
+            updateMetricsTask.cancel(true);
+        }
+        setVisible(false);
+    }
+
+    public void update(String metrics) {
+        // keep scroll position
+        int caretPosition = Math.min(txtMetrics.getCaretPosition(), metrics.length());
+        txtMetrics.setText(metrics);
+        txtMetrics.setCaretPosition(caretPosition);
+    }
+}
+
+class UpdateMetricsTask extends SwingWorker<Void, String> {
+
+    private final Session session;
+    private final MetricsDialog dialog;
+
+    private static final Logger logger = Logger.getLogger(UpdateMetricsTask.class);
+
+    UpdateMetricsTask(Session session, MetricsDialog dialog) {
+        this.session = session;
+        this.dialog = dialog;
+    }
+
+    @Override
+    protected Void doInBackground() throws Exception {
+        while (!isCancelled()) {
+            String metrics = session.getServerMetrics();
+            this.publish(metrics == null ? "Server metrics are not available (admin rights required)" : metrics);
+            Thread.sleep(2000);
+        }
+        return null;
+    }
+
+    @Override
+    protected void process(List<String> view) {
+        dialog.update(view.get(view.size() - 1));
+    }
+
+    @Override
+    protected void done() {
+        try {
+            get();
+        } catch (InterruptedException ex) {
+            logger.fatal("Update Metrics Task error", ex);
+        } catch (ExecutionException ex) {
+            logger.fatal("Update Metrics Task error", ex);
+        } catch (CancellationException ex) {
+        }
+    }
+}
@@ -30,6 +30,7 @@ import mage.player.ai.ma.optimizers.impl.LevelUpOptimizer;
 import mage.player.ai.ma.optimizers.impl.OutcomeOptimizer;
 import mage.player.ai.util.CombatInfo;
 import mage.player.ai.util.CombatUtil;
+import mage.players.PlayableAbilitiesCache;
 import mage.players.Player;
 import mage.target.Target;
 import mage.target.TargetAmount;
@@ -41,6 +42,8 @@ import org.apache.log4j.Logger;
 import java.io.File;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -50,9 +53,11 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
 
     private static final Logger logger = Logger.getLogger(ComputerPlayer6.class);
     private static final ExecutorService pool = Executors.newFixedThreadPool(1);
+    private static final int SEARCH_STOP_TIMEOUT_SECONDS = 5; // interrupted search must stop fast, it's a protection only
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThink;
+    protected int searchThreads;
     protected LinkedList<Ability> actions = new LinkedList<>();
     protected List<UUID> targets = new ArrayList<>();
     protected List<String> choices = new ArrayList<>();
@@ -87,6 +92,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
         maxThink = skill * 3;
         maxNodes = Config2.maxNodes;
+        searchThreads = Config2.searchThreads;
         getSuggestedActions();
         this.actionCache = new HashSet<>();
     }
@@ -222,7 +228,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
         // Condition to stop deeper simulation
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getNodeCount() > maxNodes
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -333,7 +339,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getNodeCount() > maxNodes) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -405,7 +411,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + node.getNodeCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -426,10 +432,17 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
      * @return
      */
     protected Integer addActionsTimed() {
+        AtomicBoolean searchStarted = new AtomicBoolean();
+        CountDownLatch searchFinished = new CountDownLatch(1);
         FutureTask<Integer> task = new FutureTask<>(new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                searchStarted.set(true);
+                try {
+                    return addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                } finally {
+                    searchFinished.countDown();
+                }
             }
         });
         pool.execute(task);
@@ -445,6 +458,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         } catch (TimeoutException e) {
             logger.info("simulating - timed out");
             task.cancel(true);
+            waitSearchStop(searchStarted, searchFinished);
         } catch (ExecutionException e) {
             // exception error in simulated game
             e.printStackTrace();
@@ -465,6 +479,24 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         return 0;
     }
 
+    /**
+     * Interrupted search keeps the best root action found so far (root-parallel search collects finished tasks),
+     * so wait until it stops before reading the root
+     */
+    private void waitSearchStop(AtomicBoolean searchStarted, CountDownLatch searchFinished) {
+        // cancelled task can't start anymore, so not started search will never finish
+        if (!searchStarted.get()) {
+            return;
+        }
+        try {
+            if (!searchFinished.await(SEARCH_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("simulating - search doesn't stop after timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
         if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
                 && Thread.interrupted()) {
@@ -493,42 +525,32 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
         int actionNumber = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
+        // root-parallel search: root actions are simulated by the search pool, results are checked in the same order
+        List<SimulationResult> parallelResults = null;
+        if (depth == maxDepth
+                && searchThreads > 1
+                && allActions.size() > 1
+                && currentPlayer.getId().equals(playerId)) {
+            parallelResults = simulateActionsParallel(node, game, allActions, currentPlayer.getId(), depth, alpha, beta);
+        }
         for (Ability action : allActions) {
             actionNumber++;
-            if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
-                    && Thread.interrupted()) {
-                Thread.currentThread().interrupt();
-                logger.info("Sim Prio [" + depth + "] -- interrupted");
-                break;
-            }
-            Game sim = game.copy();
-            sim.setSimulation(true);
-            if (!(action instanceof StaticAbility) //for MorphAbility, etc
-                    && sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
-                    continue;
-                }
-                if (!sim.checkIfGameIsOver()
-                        && (action.isUsesStack() || action instanceof PassAbility)) {
-                    // skip priority for opponents before stack resolve
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (!Objects.equals(nextPlayerId, this.getId()));
-                }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
-                int actionScore;
-                if (action instanceof PassAbility && sim.getStack().isEmpty()) {
-                    // no more next actions, it's a final score
-                    actionScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
-                } else {
-                    // resolve current action and calc all next actions to find best score (return max possible score)
-                    actionScore = addActions(newNode, depth - 1, alpha, beta);
+            SimulationResult result;
+            if (parallelResults != null) {
+                // all tasks are finished (or stopped by timeout), so the nodes limit was already checked by the tasks
+                result = parallelResults.get(actionNumber - 1);
+            } else {
+                if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
+                        && Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    logger.info("Sim Prio [" + depth + "] -- interrupted");
+                    break;
                 }
+                result = simulateAction(node, game, action, currentPlayer.getId(), depth, alpha, beta);
+            }
+            if (result != null) {
+                SimulationNode2 newNode = result.node;
+                int actionScore = result.score;
                 logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + actionScore + "> - (" + action + ") ");
 
                 // Hints on data:
@@ -584,7 +606,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                     if (actionScore > alpha
                             || (depth == maxDepth
                             && actionScore == alpha
-                            && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
+                            && RandomUtil.nextBoolean(game))) { // Adding random for equal value to get change sometimes
                         alpha = actionScore;
                         bestNode = newNode;
                         bestNode.setScore(actionScore);
@@ -629,7 +651,8 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 if (alpha >= beta) {
                     break;
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (parallelResults == null
+                        && node.getNodeCount() > maxNodes) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
@@ -637,7 +660,8 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         } // end of for (allActions)
 
         if (depth == maxDepth) {
-            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + node.getNodeCount()
+                    + ", playable cache: " + PlayableAbilitiesCache.getHitRateInfo());
         }
         if (bestNode != null) {
             node.children.clear();
@@ -656,6 +680,164 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
     }
 
+    private SimulationResult simulateAction(SimulationNode2 node, Game game, Ability action,
+                                            UUID currentPlayerId, int depth, int alpha, int beta) {
+        Game sim = game.copy();
+        sim.setSimulation(true);
+        Ability activatedAction = action instanceof StaticAbility ? null : action.copy(); //for MorphAbility, etc
+        return simulateAction(node, sim, action, activatedAction, currentPlayerId, depth, alpha, beta);
+    }
+
+    /**
+     * Simulate one action and calc the best score of the next actions
+     *
+     * @param sim             copy of the node's game for that action (the node's game itself must not be used)
+     * @param activatedAction copy of the action to activate (null for static abilities)
+     * @return simulated node with score or null if action can't be used
+     */
+    private SimulationResult simulateAction(SimulationNode2 node, Game sim, Ability action, Ability activatedAction,
+                                            UUID currentPlayerId, int depth, int alpha, int beta) {
+        if (activatedAction == null
+                || !sim.getPlayer(currentPlayerId).activateAbility((ActivatedAbility) activatedAction, sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayerId)) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // skip priority for opponents before stack resolve
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(sim);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (!Objects.equals(nextPlayerId, this.getId()));
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayerId);
+        sim.checkStateAndTriggered();
+        int actionScore;
+        if (action instanceof PassAbility && sim.getStack().isEmpty()) {
+            // no more next actions, it's a final score
+            actionScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
+        } else {
+            // resolve current action and calc all next actions to find best score (return max possible score)
+            actionScore = addActions(newNode, depth - 1, alpha, beta);
+        }
+        return new SimulationResult(newNode, actionScore);
+    }
+
+    /**
+     * Root-parallel search: each root action is simulated as a separate task of the search pool
+     * (free threads take next tasks). Tasks don't share alpha of other tasks, so cut-offs don't
+     * depend on threads timing.
+     * <p>
+     * Nodes limit is shared by all tasks: nodes of all branches are counted by the search's root node,
+     * so tasks started after the limit are skipped and running tasks stop to go deeper.
+     *
+     * @return results in the same order as actions (null for not used, skipped or not finished tasks)
+     */
+    private List<SimulationResult> simulateActionsParallel(SimulationNode2 node, Game game, List<Ability> allActions,
+                                                           UUID currentPlayerId, int depth, int alpha, int beta) {
+        // a game copy changes its source, so all copies are made by the search thread and tasks never use the source game
+        List<Callable<SimulationResult>> tasks = new ArrayList<>();
+        for (Ability action : allActions) {
+            boolean firstAction = tasks.isEmpty();
+            Game sim = game.copy();
+            sim.setSimulation(true);
+            Ability activatedAction = action instanceof StaticAbility ? null : action.copy(); //for MorphAbility, etc
+            tasks.add(() -> {
+                if (!firstAction && node.getNodeCount() > maxNodes) {
+                    return null;
+                }
+                return simulateAction(node, sim, action, activatedAction, currentPlayerId, depth, alpha, beta);
+            });
+        }
+
+        List<Future<SimulationResult>> futures = new ArrayList<>(tasks.size());
+        for (Callable<SimulationResult> task : tasks) {
+            futures.add(SearchPoolHolder.POOL.submit(task));
+        }
+
+        List<SimulationResult> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<SimulationResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            cancelTasks(futures);
+            // same as sequential search: simulation errors must be visible
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            // timeout of the search: keep results of the finished tasks (same as sequential search keeps
+            // already checked actions) and stop others
+            Thread.currentThread().interrupt();
+            logger.info("Sim Prio [" + depth + "] -- interrupted");
+            results.clear();
+            for (Future<SimulationResult> future : futures) {
+                results.add(getFinishedResult(future));
+            }
+            cancelTasks(futures);
+        }
+        return results;
+    }
+
+    private static SimulationResult getFinishedResult(Future<SimulationResult> future) {
+        if (!future.isDone() || future.isCancelled()) {
+            return null;
+        }
+        try {
+            // finished task, so it doesn't wait
+            return future.get();
+        } catch (ExecutionException | InterruptedException e) {
+            return null;
+        }
+    }
+
+    private static void cancelTasks(List<Future<SimulationResult>> futures) {
+        for (Future<SimulationResult> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Search pool for root-parallel search, shared by all AI players of the server. Pool size is fixed
+     * (searchThreads from the config or processors count if the config doesn't use parallel search),
+     * so players with different settings don't change it for each other.
+     */
+    private static final class SearchPoolHolder {
+
+        private static final int POOL_SIZE = Config2.searchThreads > 1
+                ? Config2.searchThreads
+                : Runtime.getRuntime().availableProcessors();
+
+        private static final ExecutorService POOL = Executors.newFixedThreadPool(POOL_SIZE, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "AI-SEARCH-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private static class SimulationResult {
+
+        private final SimulationNode2 node;
+        private final int score;
+
+        SimulationResult(SimulationNode2 node, int score) {
+            this.node = node;
+            this.score = score;
+        }
+    }
+
     private String printDiffScore(int score) {
         if (score >= 0) {
             return "+" + score;
@@ -1027,6 +1209,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
     protected Game createSimulation(Game game) {
         Game sim = game.copy();
         sim.setSimulation(true);
+        sim.getState().setNewRandomSeed();
         for (Player oldPlayer : sim.getState().getPlayers().values()) {
             // replace original player by simulated player and find result (execute/resolve current action)
             Player origPlayer = game.getState().getPlayers().get(oldPlayer.getId()).copy();
@@ -24,6 +24,7 @@ public final class Config2 {
     public static final int evaluatorPermanentFactor;
     public static final int evaluatorCreatureFactor;
     public static final int evaluatorHandFactor;
+    public static final int searchThreads; // root-parallel search for AI turn (1 - disabled)
 //    public static final int maxThinkSeconds;
 
     static {
@@ -40,6 +41,7 @@ public final class Config2 {
                 p.setProperty("evaluatorPermanentFactor", "1");
                 p.setProperty("evaluatorCreatureFactor", "1");
                 p.setProperty("evaluatorHandFactor", "1");
+                p.setProperty("searchThreads", "1");
 //                p.setProperty("maxThinkSeconds", "30");
             }
         } catch (IOException ex) {
@@ -53,6 +55,7 @@ public final class Config2 {
         evaluatorPermanentFactor = Integer.parseInt(p.getProperty("evaluatorPermanentFactor"));
         evaluatorCreatureFactor = Integer.parseInt(p.getProperty("evaluatorCreatureFactor"));
         evaluatorHandFactor = Integer.parseInt(p.getProperty("evaluatorHandFactor"));
+        searchThreads = Math.max(1, Integer.parseInt(p.getProperty("searchThreads", "1")));
 //        maxThinkSeconds = Integer.parseInt(p.getProperty("maxThinkSeconds"));
     }
 
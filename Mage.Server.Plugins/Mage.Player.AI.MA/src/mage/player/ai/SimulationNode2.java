@@ -5,6 +5,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.combat.Combat;
@@ -15,7 +16,7 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
+    protected final AtomicInteger nodeCount; // nodes of the whole search tree (shared by all nodes of one search)
 
     protected Game game;
     protected int gameValue;
@@ -34,8 +35,9 @@ public class SimulationNode2 implements Serializable {
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
+        this.nodeCount = parent == null ? new AtomicInteger() : parent.nodeCount;
         game.setCustomData(this);
-        nodeCount++;
+        nodeCount.incrementAndGet();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -49,12 +51,11 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
-    }
-
-    public static int getCount() {
-        return nodeCount;
+    /**
+     * Nodes count of the search (each search starts from the root node without parent)
+     */
+    public int getNodeCount() {
+        return nodeCount.get();
     }
 
     public Game getGame() {
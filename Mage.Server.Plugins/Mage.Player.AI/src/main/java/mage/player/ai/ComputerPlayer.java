@@ -983,7 +983,7 @@ public class ComputerPlayer extends PlayerImpl implements Player {
         }
 
         if (target.getOriginalTarget() instanceof TargetDefender) {
-            UUID randomDefender = RandomUtil.randomFromCollection(possibleTargets);
+            UUID randomDefender = RandomUtil.randomFromCollection(possibleTargets, game);
             target.addTarget(randomDefender, source, game);
             return target.isChosen();
         }
@@ -1862,7 +1862,7 @@ public class ComputerPlayer extends PlayerImpl implements Player {
     @Override
     public int announceXCost(int min, int max, String message, Game game, Ability ability, VariableCost variablCost) {
         log.debug("announceXCost");
-        int value = RandomUtil.nextInt(CardUtil.overflowInc(max, 1));
+        int value = RandomUtil.nextInt(CardUtil.overflowInc(max, 1), game);
         if (value < min) {
             value = min;
         }
@@ -2164,7 +2164,7 @@ public class ComputerPlayer extends PlayerImpl implements Player {
             return min;
         }
         if (min < max && min == 0) {
-            return RandomUtil.nextInt(CardUtil.overflowInc(max, 1));
+            return RandomUtil.nextInt(CardUtil.overflowInc(max, 1), game);
         }
         return min;
     }
@@ -3004,7 +3004,7 @@ public class ComputerPlayer extends PlayerImpl implements Player {
      * @return
      */
     private UUID getRandomOpponent(UUID abilityControllerId, Game game) {
-        return RandomUtil.randomFromCollection(game.getOpponents(abilityControllerId));
+        return RandomUtil.randomFromCollection(game.getOpponents(abilityControllerId), game);
     }
 
     @Override
@@ -0,0 +1,112 @@
+package mage.player.ai;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache of AI calculations by game state hash (e.g. hash of {@link mage.game.GameState#getValue}).
+ * <p>
+ * Fixed size table with "always replace" strategy: each hash has one slot and new data overwrites
+ * old data, so the table never grows and doesn't need cleanup between turns. Thread safe (can be
+ * used by parallel searches).
+ * <p>
+ * Different states can have the same hash. Use the methods with check value (e.g. exact state
+ * string) if wrong data can't be accepted.
+ *
+ * @param <V> calculated data, must be immutable
+ */
+public class TranspositionTable<V> {
+
+    private final AtomicReferenceArray<Entry<V>> entries;
+    private final int mask;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private static final class Entry<V> {
+        private final long key;
+        private final Object check;
+        private final V value;
+
+        private Entry(long key, Object check, V value) {
+            this.key = key;
+            this.check = check;
+            this.value = value;
+        }
+    }
+
+    /**
+     * @param maxSize max amount of stored data, will be rounded up to power of two
+     */
+    public TranspositionTable(int maxSize) {
+        if (maxSize < 1 || maxSize > (1 << 30)) {
+            throw new IllegalArgumentException("Wrong transposition table size: " + maxSize);
+        }
+        int size = Integer.highestOneBit(maxSize);
+        if (size < maxSize) {
+            size <<= 1;
+        }
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return stored data or null
+     */
+    public V get(long key) {
+        return get(key, null);
+    }
+
+    /**
+     * @param check exact data of the key, must be equal to the stored one
+     * @return stored data or null
+     */
+    public V get(long key, Object check) {
+        Entry<V> entry = entries.get(index(key));
+        if (entry != null && entry.key == key && Objects.equals(entry.check, check)) {
+            hits.incrementAndGet();
+            return entry.value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(long key, V value) {
+        put(key, null, value);
+    }
+
+    public void put(long key, Object check, V value) {
+        entries.set(index(key), new Entry<>(key, check, value));
+    }
+
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    public int getMaxSize() {
+        return entries.length();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public String getHitMissInfo() {
+        long hitsCount = hits.get();
+        long total = hitsCount + misses.get();
+        return "Hits: " + hitsCount + " Misses: " + (total - hitsCount)
+                + (total == 0 ? "" : String.format(" (%.1f%%)", hitsCount * 100.0 / total));
+    }
+
+    private int index(long key) {
+        // hash is already random, so use low and high bits both
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
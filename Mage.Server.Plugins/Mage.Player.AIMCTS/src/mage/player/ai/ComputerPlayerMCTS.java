@@ -12,6 +12,7 @@ import mage.game.combat.Combat;
 import mage.game.combat.CombatGroup;
 import mage.player.ai.MCTSPlayer.NextAction;
 import mage.players.Player;
+import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
 import java.util.ArrayList;
@@ -20,7 +21,9 @@ import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -32,6 +35,25 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
 
+    // shared workers pool for all MCTS players of the server (max threads by system property)
+    private static final String POOL_SIZE_PROPERTY = "xmage.ai.mcts.threads";
+    private static final int POOL_SIZE = Math.max(1, Integer.getInteger(POOL_SIZE_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    private static final ExecutorService pool = Executors.newFixedThreadPool(POOL_SIZE, new ThreadFactory() {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "AI-MCTS-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    private static final int POOL_FINISH_WAIT_SECONDS = 1;
+
+    // tree-parallel search: all workers use one tree (with virtual loss) instead merge of own trees
+    private static final String TREE_PARALLEL_PROPERTY = "xmage.ai.mcts.treeParallel";
+    private static final boolean USE_TREE_PARALLEL = Boolean.getBoolean(TREE_PARALLEL_PROPERTY);
+
     protected transient MCTSNode root;
     protected int maxThinkTime;
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
@@ -41,7 +63,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
         super(name, range);
         human = false;
         maxThinkTime = (int) (skill * THINK_TIME_MULTIPLIER);
-        poolSize = Runtime.getRuntime().availableProcessors();
+        poolSize = POOL_SIZE;
     }
 
     protected ComputerPlayerMCTS(UUID id) {
@@ -65,11 +87,6 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
             if (!lastPhase.equals(game.getTurn().getValue(game.getTurnNum()))) {
                 logList(game.getTurn().getValue(game.getTurnNum()) + name + " hand: ", new ArrayList(hand.getCards(game)));
                 lastPhase = game.getTurn().getValue(game.getTurnNum());
-                if (MCTSNode.USE_ACTION_CACHE) {
-                    int count = MCTSNode.cleanupCache(game.getTurnNum());
-                    if (count > 0)
-                        logger.info("Removed " + count + " cache entries");
-                }
             }
         }
         game.getState().setPriorityPlayerId(playerId);
@@ -161,28 +178,37 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
 
         if (thinkTime > 0) {
             if (USE_MULTIPLE_THREADS) {
-                ExecutorService pool = Executors.newFixedThreadPool(poolSize);
+                // one deadline for all tasks: tasks can wait in the shared pool's queue before start
+                long endTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(thinkTime);
                 List<MCTSExecutor> tasks = new ArrayList<>();
                 for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
-                    tasks.add(exec);
+                    if (USE_TREE_PARALLEL) {
+                        tasks.add(new MCTSExecutor(root, playerId, endTime, true));
+                    } else {
+                        Game sim = createMCTSGame(game);
+                        MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
+                        player.setNextAction(action);
+                        MCTSExecutor exec = new MCTSExecutor(sim, playerId, endTime);
+                        tasks.add(exec);
+                    }
                 }
 
                 try {
-                    pool.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
-                    pool.awaitTermination(1, TimeUnit.SECONDS);
-                    pool.shutdownNow();
+                    pool.invokeAll(tasks, Math.max(0, endTime - System.nanoTime()), TimeUnit.NANOSECONDS);
                 } catch (InterruptedException | RejectedExecutionException ex) {
                     logger.warn("applyMCTS interrupted");
                 }
 
+                // timeout only interrupts the tasks, so all of them must be finished before the root is used
+                // (tree-parallel workers change the root itself)
+                joinTasks(tasks);
+
                 int simCount = 0;
                 for (MCTSExecutor task : tasks) {
                     simCount += task.getSimCount();
-                    root.merge(task.getRoot());
+                    if (!USE_TREE_PARALLEL) {
+                        root.merge(task.getRoot());
+                    }
                     task.clear();
                 }
                 tasks.clear();
@@ -229,6 +255,30 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
 
     }
 
+    private void joinTasks(List<MCTSExecutor> tasks) {
+        boolean interrupted = false;
+        for (MCTSExecutor task : tasks) {
+            boolean logged = false;
+            while (true) {
+                try {
+                    if (task.awaitFinish(POOL_FINISH_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                        break;
+                    }
+                    if (!logged) {
+                        logger.warn("MCTS task is still running after timeout, waiting for the end of its simulation");
+                        logged = true;
+                    }
+                } catch (InterruptedException e) {
+                    // must wait anyway, the tasks use the root
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     //try to ensure that there are at least THINK_MIN_RATIO simulations per node at all times
     private int calculateThinkTime(Game game, NextAction action) {
         int thinkTime;
@@ -275,6 +325,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
      */
     protected Game createMCTSGame(Game game) {
         Game mcts = game.copy();
+        mcts.getState().setNewRandomSeed();
 
         for (Player copyPlayer : mcts.getState().getPlayers().values()) {
             Player origPlayer = game.getState().getPlayers().get(copyPlayer.getId());
@@ -284,14 +335,14 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
                 int handSize = newPlayer.getHand().size();
                 newPlayer.getLibrary().addAll(newPlayer.getHand().getCards(mcts), mcts);
                 newPlayer.getHand().clear();
-                newPlayer.getLibrary().shuffle();
+                newPlayer.getLibrary().shuffle(RandomUtil.getRandom(mcts));
                 for (int i = 0; i < handSize; i++) {
                     Card card = newPlayer.getLibrary().removeFromTop(mcts);
                     card.setZone(Zone.HAND, mcts);
                     newPlayer.getHand().add(card);
                 }
             } else {
-                newPlayer.getLibrary().shuffle();
+                newPlayer.getLibrary().shuffle(RandomUtil.getRandom(mcts));
             }
             mcts.getState().getPlayers().put(copyPlayer.getId(), newPlayer);
         }
@@ -3,6 +3,9 @@ package mage.player.ai;
 
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.game.Game;
 import org.apache.log4j.Logger;
 
@@ -12,56 +15,131 @@ import org.apache.log4j.Logger;
  */
 public class MCTSExecutor implements Callable<Boolean> {
 
+    private static final int STATE_NEW = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_CLOSED = 2; // task was not started before timeout and must be ignored
+
     protected transient MCTSNode root;
-    protected int thinkTime;
+    protected final long endTime; // deadline of the decision (System.nanoTime), same for all tasks
     protected UUID playerId;
     protected int simCount;
+    protected final boolean sharedTree; // tree-parallel search: root is shared by all workers
+
+    private final AtomicInteger state = new AtomicInteger(STATE_NEW);
+    private final CountDownLatch finished = new CountDownLatch(1);
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
-    public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+    public MCTSExecutor(Game sim, UUID playerId, long endTime) {
+        this(new MCTSNode(playerId, sim), playerId, endTime, false);
+    }
+
+    /**
+     * @param endTime deadline of the decision by System.nanoTime (task can wait in the pool's queue, so it
+     *                must be calculated once on decision start)
+     */
+    public MCTSExecutor(MCTSNode root, UUID playerId, long endTime, boolean sharedTree) {
         this.playerId = playerId;
-        this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.endTime = endTime;
+        this.root = root;
+        this.sharedTree = sharedTree;
     }
 
     @Override
     public Boolean call() {
-        simCount = 0;
-        MCTSNode current;
+        if (!state.compareAndSet(STATE_NEW, STATE_RUNNING)) {
+            return false;
+        }
+        try {
+            simCount = 0;
+            // workers of the shared pool must stop by itself (timeout only interrupts it)
+            while (System.nanoTime() < endTime && !Thread.currentThread().isInterrupted()) {
+                if (sharedTree) {
+                    runSharedTreeIteration();
+                } else {
+                    runIteration();
+                }
+            }
+            return true;
+        } finally {
+            finished.countDown();
+        }
+    }
 
+    private void runIteration() {
+        MCTSNode current = root;
+
+        // Selection
+        while (!current.isLeaf()) {
+            current = current.select(this.playerId);
+        }
 
-        while (true) {
-            current = root;
+        int result;
+        if (!current.isTerminal()) {
+            // Expansion
+            current.expand();
 
-            // Selection
-            while (!current.isLeaf()) {
+            // only run simulations for nodes that have siblings
+            if (current.getNumChildren() > 1) {
+                // Simulation
+                current = current.select(this.playerId);
+                result = current.simulate(this.playerId);
+                simCount++;
+            }
+            else {
                 current = current.select(this.playerId);
+                result = 0;
             }
+        }
+        else {
+            result = current.isWinner(this.playerId)?1:-1;
+        }
+        // Backpropagation
+        current.backpropagate(result);
+    }
 
-            int result;
-            if (!current.isTerminal()) {
-                // Expansion
-                current.expand();
-
-                // only run simulations for nodes that have siblings
-                if (current.getNumChildren() > 1) {
-                    // Simulation
-                    current = current.select(this.playerId);
-                    result = current.simulate(this.playerId);
-                    simCount++;
-                }
-                else {
-                    current = current.select(this.playerId);
-                    result = 0;
+    private void runSharedTreeIteration() {
+        MCTSNode current = root;
+
+        // Selection (with virtual loss, so other workers go to other nodes)
+        while (!current.isLeaf()) {
+            current = current.selectWithVirtualLoss(this.playerId);
+        }
+
+        int result;
+        if (!current.isTerminal()) {
+            // Expansion (only one worker can expand the node)
+            current.expand();
+
+            if (current.getNumChildren() > 1) {
+                // Simulation
+                current = current.selectWithVirtualLoss(this.playerId);
+                result = current.simulate(this.playerId);
+                simCount++;
+            } else {
+                if (current.getNumChildren() == 1) {
+                    current = current.selectWithVirtualLoss(this.playerId);
                 }
+                result = 0;
             }
-            else {
-                result = current.isWinner(this.playerId)?1:-1;
-            }
-            // Backpropagation
-            current.backpropagate(result);
+        } else {
+            result = current.isWinner(this.playerId) ? 1 : -1;
+        }
+        // Backpropagation
+        current.backpropagateVirtualLoss(result);
+    }
+
+    /**
+     * Wait for the end of the task after timeout (not started task will be never started)
+     *
+     * @return true if the task is not running anymore
+     */
+    public boolean awaitFinish(long timeout, TimeUnit unit) throws InterruptedException {
+        if (state.compareAndSet(STATE_NEW, STATE_CLOSED)) {
+            // not started
+            return true;
         }
+        return finished.await(timeout, unit);
     }
 
     public MCTSNode getRoot() {
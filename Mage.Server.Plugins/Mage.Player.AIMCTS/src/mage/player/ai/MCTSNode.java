@@ -3,11 +3,8 @@ package mage.player.ai;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -20,6 +17,7 @@ import mage.game.combat.Combat;
 import mage.game.combat.CombatGroup;
 import mage.game.turn.Step.StepPart;
 import mage.players.Player;
+import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
 /**
@@ -33,15 +31,15 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
+    private volatile int visits = 0;
+    private volatile int wins = 0;
+    private volatile int virtualLoss = 0; // tree-parallel search: workers in that node now, counts as lost games for selection
     private MCTSNode parent;
     private final List<MCTSNode> children = new ArrayList<>();
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final String stateValue; // state from the target player's view (hidden hands of opponents)
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
@@ -52,7 +50,6 @@ public class MCTSNode {
         this.targetPlayer = targetPlayer;
         this.game = game;
         this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
         nodeCount = 1;
@@ -63,7 +60,6 @@ public class MCTSNode {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
         this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
@@ -77,7 +73,6 @@ public class MCTSNode {
         this.game = game;
         this.combat = combat;
         this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
@@ -104,13 +99,15 @@ public class MCTSNode {
         if (children.size() == 1) {
             return children.get(0);
         }
+        int parentVisits = visits + virtualLoss;
         for (MCTSNode node: children) {
             double uct;
-            if (node.visits > 0)
+            int nodeVisits = node.visits + node.virtualLoss;
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (node.wins / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((node.visits - node.wins) / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * Math.random();
@@ -122,8 +119,27 @@ public class MCTSNode {
         return bestChild;
     }
 
-    public void expand() {
+    /**
+     * Tree-parallel search: select and mark the child as visited by the worker (virtual loss),
+     * so other workers prefer other children until {@link #backpropagateVirtualLoss(int)}
+     */
+    public synchronized MCTSNode selectWithVirtualLoss(UUID targetPlayerId) {
+        MCTSNode bestChild = select(targetPlayerId);
+        if (bestChild != null) {
+            synchronized (bestChild) {
+                bestChild.virtualLoss++;
+            }
+        }
+        return bestChild;
+    }
+
+    public synchronized void expand() {
+        if (game == null || !children.isEmpty()) {
+            // already expanded by another worker
+            return;
+        }
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
+        String fullStateValue = USE_ACTION_CACHE ? game.getState().getValue(true, game) : null;
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
         }
@@ -190,7 +206,14 @@ public class MCTSNode {
 
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            // game copy changes its source, so workers of the tree-parallel search must copy it one by one
+            if (game == null) {
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
@@ -214,7 +237,26 @@ public class MCTSNode {
             parent.backpropagate(result);
     }
 
-    public boolean isLeaf() {
+    /**
+     * Tree-parallel search: backpropagate result and remove virtual loss of the worker
+     */
+    public void backpropagateVirtualLoss(int result) {
+        synchronized (this) {
+            if (parent != null) {
+                virtualLoss--;
+            }
+            if (result != 0) {
+                if (result == 1)
+                    wins++;
+                visits++;
+            }
+        }
+        if (parent != null)
+            parent.backpropagateVirtualLoss(result);
+    }
+
+    public synchronized boolean isLeaf() {
+        // children can be added by other workers of the tree-parallel search (see expand)
         return children.isEmpty();
     }
 
@@ -264,10 +306,14 @@ public class MCTSNode {
         return action;
     }
 
-    public int getNumChildren() {
+    public synchronized int getNumChildren() {
         return children.size();
     }
 
+    public synchronized List<MCTSNode> getChildren() {
+        return new ArrayList<>(children);
+    }
+
     public MCTSNode getParent() {
         return parent;
     }
@@ -294,6 +340,17 @@ public class MCTSNode {
         return visits;
     }
 
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * Tree-parallel search: workers in that node now
+     */
+    public int getVirtualLoss() {
+        return virtualLoss;
+    }
+
     /**
      * Copies game and replaces all players in copy with simulated players
      * Shuffles each players library so that there is no knowledge of its order
@@ -303,6 +360,7 @@ public class MCTSNode {
      */
     protected Game createSimulation(Game game, UUID playerId) {
         Game sim = game.copy();
+        sim.getState().setNewRandomSeed(); // each playout must get own random results
 
         for (Player oldPlayer: sim.getState().getPlayers().values()) {
             Player origPlayer = game.getState().getPlayers().get(oldPlayer.getId()).copy();
@@ -326,7 +384,7 @@ public class MCTSNode {
                 int handSize = player.getHand().size();
                 player.getLibrary().addAll(player.getHand().getCards(game), game);
                 player.getHand().clear();
-                player.getLibrary().shuffle();
+                player.getLibrary().shuffle(RandomUtil.getRandom(game));
                 for (int i = 0; i < handSize; i++) {
                     Card card = player.getLibrary().removeFromTop(game);
                     card.setZone(Zone.HAND, game);
@@ -334,7 +392,7 @@ public class MCTSNode {
                 }
             }
             else {
-                player.getLibrary().shuffle();                
+                player.getLibrary().shuffle(RandomUtil.getRandom(game));                
             }
         }
     }
@@ -452,99 +510,46 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
-
-    private static long playablesHit = 0;
-    private static long playablesMiss = 0;
-    private static long attacksHit = 0;
-    private static long attacksMiss = 0;
-    private static long blocksHit = 0;
-    private static long blocksMiss = 0;
-    
-    private static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
-        if (playablesCache.containsKey(state)) {
-            playablesHit++;
-            return playablesCache.get(state);
-        }
-        else {
-            playablesMiss++;
-            List<Ability> abilities = player.getPlayableOptions(game);
-            playablesCache.put(state, abilities);
-            return abilities;
+    // actions cache by full game state (bounded, so old states are replaced by new one without cleanup, checked by exact state)
+    private static final int ACTION_CACHE_SIZE = 1 << 14;
+    private static final TranspositionTable<List<Ability>> playablesCache = new TranspositionTable<>(ACTION_CACHE_SIZE);
+    private static final TranspositionTable<List<List<UUID>>> attacksCache = new TranspositionTable<>(ACTION_CACHE_SIZE);
+    private static final TranspositionTable<List<List<List<UUID>>>> blocksCache = new TranspositionTable<>(ACTION_CACHE_SIZE);
+
+    private static List<Ability> getPlayables(MCTSPlayer player, String stateValue, Game game) {
+        List<Ability> abilities = playablesCache.get(stateValue.hashCode(), stateValue);
+        if (abilities == null) {
+            abilities = player.getPlayableOptions(game);
+            playablesCache.put(stateValue.hashCode(), stateValue, abilities);
         }
+        return abilities;
     }
-    
-    private static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
-        if (attacksCache.containsKey(state)) {
-            attacksHit++;
-            return attacksCache.get(state);
-        }
-        else {
-            attacksMiss++;
-            List<List<UUID>> attacks = player.getAttacks(game);
-            attacksCache.put(state, attacks);
-            return attacks;
-        }
-    }
-    
-    private static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
-        if (blocksCache.containsKey(state)) {
-            blocksHit++;
-            return blocksCache.get(state);
-        }
-        else {
-            blocksMiss++;
-            List<List<List<UUID>>> blocks = player.getBlocks(game);
-            blocksCache.put(state, blocks);
-            return blocks;
+
+    private static List<List<UUID>> getAttacks(MCTSPlayer player, String stateValue, Game game) {
+        List<List<UUID>> attacks = attacksCache.get(stateValue.hashCode(), stateValue);
+        if (attacks == null) {
+            attacks = player.getAttacks(game);
+            attacksCache.put(stateValue.hashCode(), stateValue, attacks);
         }
+        return attacks;
     }
-    
-    public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
-        int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.parseInt(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
 
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(blocksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                blocksIterator.remove();
-                count++;
-            }
+    private static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String stateValue, Game game) {
+        List<List<List<UUID>>> blocks = blocksCache.get(stateValue.hashCode(), stateValue);
+        if (blocks == null) {
+            blocks = player.getBlocks(game);
+            blocksCache.put(stateValue.hashCode(), stateValue, blocks);
         }
-
-        return count;
+        return blocks;
     }
-    
+
     public static void logHitMiss() {
         if (USE_ACTION_CACHE) {
             StringBuilder sb = new StringBuilder();
-            sb.append("Playables Cache -- Hits: ").append(playablesHit).append(" Misses: ").append(playablesMiss).append('\n');
-            sb.append("Attacks Cache -- Hits: ").append(attacksHit).append(" Misses: ").append(attacksMiss).append('\n');
-            sb.append("Blocks Cache -- Hits: ").append(blocksHit).append(" Misses: ").append(blocksMiss).append('\n');
+            sb.append("Playables Cache -- ").append(playablesCache.getHitMissInfo()).append('\n');
+            sb.append("Attacks Cache -- ").append(attacksCache.getHitMissInfo()).append('\n');
+            sb.append("Blocks Cache -- ").append(blocksCache.getHitMissInfo()).append('\n');
             logger.info(sb.toString());
         }
-    }    
+    }
 }
@@ -37,7 +37,10 @@ public class SimulatedPlayerMCTS extends MCTSPlayer {
     public SimulatedPlayerMCTS(Player originalPlayer, boolean isSimulatedPlayer) {
         super(originalPlayer.getId());
         this.isSimulatedPlayer = isSimulatedPlayer;
-        this.matchPlayer = new MatchPlayer(originalPlayer.getMatchPlayer(), this);
+        if (originalPlayer.getMatchPlayer() != null) {
+            // games without match (e.g. unit tests) have no match players
+            this.matchPlayer = new MatchPlayer(originalPlayer.getMatchPlayer(), this);
+        }
     }
 
     public SimulatedPlayerMCTS(final SimulatedPlayerMCTS player) {
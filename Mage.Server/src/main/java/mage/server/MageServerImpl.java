@@ -31,6 +31,7 @@ import mage.server.services.impl.FeedbackServiceImpl;
 import mage.server.tournament.TournamentFactory;
 import mage.server.util.ServerMessagesUtil;
 import mage.server.util.SystemUtil;
+import mage.util.metrics.MetricsRegistry;
 import mage.utils.*;
 import mage.view.*;
 import mage.view.ChatMessage.MessageColor;
@@ -1143,6 +1144,16 @@ public class MageServerImpl implements MageServer {
         }
     }
 
+    @Override
+    public String getServerMetrics(final String sessionId) throws MageException {
+        return executeWithResult("getServerMetrics", sessionId, new ActionWithNullNegativeResult<String>() {
+            @Override
+            public String execute() {
+                return MetricsRegistry.instance.printText();
+            }
+        }, true);
+    }
+
     private void sendErrorMessageToClient(final String sessionId, final String message) throws MageException {
         execute("sendErrorMessageToClient", sessionId, () -> managerFactory.sessionManager().sendErrorMessageToClient(sessionId, message));
     }
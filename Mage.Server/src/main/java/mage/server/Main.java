@@ -159,7 +159,17 @@ public final class Main {
         }
         logger.info("Done.");
 
+        // cards creation warm-up for first decks and boosters (in background, server can work without it)
+        Thread cardsPreparingThread = new Thread(() -> {
+            long startTime = System.currentTimeMillis();
+            int preparedCount = CardScanner.prepareCardClasses();
+            logger.info("Prepared " + preparedCount + " card classes in " + (System.currentTimeMillis() - startTime) + " ms");
+        }, "CARDS-PREPARE");
+        cardsPreparingThread.setDaemon(true);
+        cardsPreparingThread.start();
+
         // cards preload with ratings
+        RateCard.enableDiskCache(new File("db", "card_ratings.cache"));
         if (RateCard.PRELOAD_CARD_RATINGS_ON_STARTUP) {
             RateCard.bootstrapCardsAndRatings();
             logger.info("Done.");
@@ -263,6 +273,7 @@ public final class Main {
                     logger.info("MAGE server running in test mode");
                 }
                 initStatistics();
+                ServerMetrics.init(managerFactory);
             } else {
                 logger.fatal("Unable to start MAGE server - another server is already started");
             }
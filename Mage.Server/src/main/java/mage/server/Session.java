@@ -6,6 +6,7 @@ import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.net.UserData;
 import mage.players.net.UserGroup;
+import mage.remote.traffic.ViewsDeltaEncoder;
 import mage.server.game.GamesRoom;
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ManagerFactory;
@@ -49,6 +50,8 @@ public class Session {
 
     private final ReentrantLock lock;
     private final ReentrantLock callBackLock;
+    private final ViewsDeltaEncoder viewsDeltaEncoder = new ViewsDeltaEncoder(); // guarded by callBackLock
+    private final SessionCallbackQueue callbackQueue;
 
     public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
         this.managerFactory = managerFactory;
@@ -58,6 +61,7 @@ public class Session {
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
         this.callBackLock = new ReentrantLock();
+        this.callbackQueue = new SessionCallbackQueue(managerFactory.threadExecutor().getCallbackExecutor(), this::sendCallback);
     }
 
     public String registerUser(String userName, String password, String email) throws MageException {
@@ -394,19 +398,40 @@ public class Session {
 
     }
 
+    /**
+     * Sends callback to the client in the background, so the caller (game or chat thread) never waits for the network
+     */
     public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false;
+        if (!valid) {
+            return;
+        }
+        if (!callbackQueue.offer(call)) {
+            // slow client: disconnect it instead random lost messages, client gets full data on reconnect
+            this.valid = false;
+            callbackQueue.clear();
+            logger.warn("SESSION CALLBACK QUEUE OVERFLOW - userId " + userId + " - client is too slow, disconnecting");
+            managerFactory.threadExecutor().getCallExecutor().execute(
+                    () -> managerFactory.sessionManager().disconnect(sessionId, LostConnection));
+        }
+    }
+
+    private void sendCallback(final ClientCallback sharedCall) {
+        if (!valid) {
+            return;
+        }
+        ClientCallback call = sharedCall.copy();
+        callBackLock.lock();
         try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
-                call.setMessageId(messageId.incrementAndGet());
-                lockSet = true;
-                Callback callback = new Callback(call);
-                callbackHandler.handleCallbackOneway(callback);
+            call.setMessageId(messageId.incrementAndGet());
+            ViewsDeltaEncoder.Prepared delta = viewsDeltaEncoder.encode(call);
+            Callback callback = new Callback(delta == null ? call : delta.getCallback());
+            callbackHandler.handleCallbackOneway(callback);
+            if (delta != null) {
+                viewsDeltaEncoder.commit(delta);
             }
-        } catch (InterruptedException ex) {
-            logger.warn("SESSION LOCK - fireCallback - userId: " + userId + " messageId: " + call.getMessageId(), ex);
         } catch (HandleCallbackException ex) {
             this.valid = false;
+            callbackQueue.clear();
             managerFactory.userManager().getUser(userId).ifPresent(user -> {
                 user.setUserState(User.UserState.Disconnected);
                 logger.warn("SESSION CALLBACK EXCEPTION - " + user.getName() + " userId " + userId + " messageId: " + call.getMessageId() + " - cause: " + getBasicCause(ex).toString());
@@ -416,12 +441,31 @@ public class Session {
         } catch (Exception ex) {
             logger.warn("Unspecific exception:", ex);
         } finally {
-            if (lockSet) {
-                callBackLock.unlock();
-            }
+            callBackLock.unlock();
+        }
+    }
+
+    /**
+     * User doesn't need game data anymore (e.g. watcher left the game): remove not sent callbacks of the game
+     * and views delta state of the game
+     */
+    public void closeGameCallbacks(UUID gameId) {
+        callbackQueue.clear(gameId);
+        callBackLock.lock();
+        try {
+            viewsDeltaEncoder.reset(gameId);
+        } finally {
+            callBackLock.unlock();
         }
     }
 
+    /**
+     * @return not sent callbacks
+     */
+    public int getCallbackQueueSize() {
+        return callbackQueue.getSize();
+    }
+
     public UUID getUserId() {
         return userId;
     }
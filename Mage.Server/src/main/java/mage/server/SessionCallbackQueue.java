@@ -0,0 +1,153 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Outbound callbacks of the session. Game and chat threads only put callbacks to the queue,
+ * network sending runs in a writer task (one writer per session at a time, so the order is kept).
+ * <p>
+ * Policies:
+ * - coalescing: new game update replaces not sent update of the same game if it's the last callback
+ * of that game (client needs the last state only, but other game callbacks must keep their order);
+ * - backpressure: queue is bounded, callers never wait for the slow client;
+ * - slow consumer: if the queue is full then offer fails and the session must be disconnected
+ * (client gets full game data on reconnect instead random lost messages).
+ */
+public class SessionCallbackQueue {
+
+    public static final int DEFAULT_MAX_SIZE = 500;
+
+    // server wide stats
+    private static final AtomicLong queuedTotal = new AtomicLong();
+    private static final AtomicLong coalescedTotal = new AtomicLong();
+    private static final AtomicLong overflowsTotal = new AtomicLong();
+
+    private final Executor writerExecutor;
+    private final Consumer<ClientCallback> sender;
+    private final int maxSize;
+
+    private final Deque<ClientCallback> queue = new ArrayDeque<>(); // guarded by this
+    private boolean writing = false; // guarded by this
+    private int maxQueuedSize = 0; // guarded by this
+
+    public SessionCallbackQueue(Executor writerExecutor, Consumer<ClientCallback> sender) {
+        this(writerExecutor, sender, DEFAULT_MAX_SIZE);
+    }
+
+    public SessionCallbackQueue(Executor writerExecutor, Consumer<ClientCallback> sender, int maxSize) {
+        this.writerExecutor = writerExecutor;
+        this.sender = sender;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return false on queue overflow (slow or dead client)
+     */
+    public synchronized boolean offer(ClientCallback call) {
+        if (call.getMethod() == ClientCallbackMethod.GAME_UPDATE) {
+            // only the last callback of the game can be replaced: other game callbacks after the update
+            // (e.g. inform or ask) must see that update on the client
+            Iterator<ClientCallback> it = queue.descendingIterator();
+            while (it.hasNext()) {
+                ClientCallback queued = it.next();
+                if (Objects.equals(queued.getObjectId(), call.getObjectId())) {
+                    if (queued.getMethod() == ClientCallbackMethod.GAME_UPDATE) {
+                        it.remove();
+                        queuedTotal.decrementAndGet();
+                        coalescedTotal.incrementAndGet();
+                    }
+                    break;
+                }
+            }
+        }
+
+        if (queue.size() >= maxSize) {
+            overflowsTotal.incrementAndGet();
+            return false;
+        }
+
+        queue.addLast(call);
+        queuedTotal.incrementAndGet();
+        maxQueuedSize = Math.max(maxQueuedSize, queue.size());
+        if (!writing) {
+            writing = true;
+            try {
+                writerExecutor.execute(this::write);
+            } catch (RejectedExecutionException e) {
+                // server shutdown
+                writing = false;
+            }
+        }
+        return true;
+    }
+
+    private void write() {
+        while (true) {
+            ClientCallback call;
+            synchronized (this) {
+                call = queue.pollFirst();
+                if (call == null) {
+                    writing = false;
+                    return;
+                }
+                queuedTotal.decrementAndGet();
+            }
+            sender.accept(call);
+        }
+    }
+
+    /**
+     * Remove not sent callbacks of the object (e.g. game after watcher left)
+     */
+    public synchronized void clear(UUID objectId) {
+        Iterator<ClientCallback> it = queue.iterator();
+        while (it.hasNext()) {
+            if (Objects.equals(it.next().getObjectId(), objectId)) {
+                it.remove();
+                queuedTotal.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Remove all not sent callbacks (e.g. on disconnect)
+     */
+    public synchronized void clear() {
+        queuedTotal.addAndGet(-queue.size());
+        queue.clear();
+    }
+
+    public synchronized int getSize() {
+        return queue.size();
+    }
+
+    public synchronized int getMaxQueuedSize() {
+        return maxQueuedSize;
+    }
+
+    /**
+     * @return not sent callbacks of all sessions
+     */
+    public static long getQueuedTotal() {
+        return queuedTotal.get();
+    }
+
+    public static long getCoalescedTotal() {
+        return coalescedTotal.get();
+    }
+
+    public static long getOverflowsTotal() {
+        return overflowsTotal.get();
+    }
+}
@@ -408,11 +408,13 @@ public class TableManagerImpl implements TableManager {
     public void debugServerState() {
         logger.debug("--- Server state ----------------------------------------------");
         Collection<User> users = managerFactory.userManager().getUsers();
-        logger.debug("--------User: " + users.size() + " [userId | since | lock | name -----------------------");
+        logger.debug("--------User: " + users.size() + " [userId | since | lock | queue | name -----------------------");
         for (User user : users) {
             Optional<Session> session = managerFactory.sessionManager().getSession(user.getSessionId());
             String sessionState = "N";
+            int queueSize = 0;
             if (session.isPresent()) {
+                queueSize = session.get().getCallbackQueueSize();
                 if (session.get().isLocked()) {
                     sessionState = "L";
                 } else {
@@ -422,6 +424,7 @@ public class TableManagerImpl implements TableManager {
             logger.debug(user.getId()
                     + " | " + formatter.format(user.getConnectionTime())
                     + " | " + sessionState
+                    + " | " + queueSize
                     + " | " + user.getName() + " (" + user.getUserState().toString() + " - " + user.getPingInfo() + ')');
         }
         List<ChatSession> chatSessions = managerFactory.chatManager().getChatSessions();
@@ -431,6 +434,10 @@ public class TableManagerImpl implements TableManager {
         }
         logger.debug("------- Games: " + managerFactory.gameManager().getNumberActiveGames() + " --------------------------------------------");
         logger.debug(" Active Game Worker: " + managerFactory.threadExecutor().getActiveThreads(managerFactory.threadExecutor().getGameExecutor()));
+        logger.debug(" Active timers: " + managerFactory.threadExecutor().getActiveTimers());
+        logger.debug(" Callbacks queue: " + SessionCallbackQueue.getQueuedTotal()
+                + " (coalesced: " + SessionCallbackQueue.getCoalescedTotal()
+                + ", overflows: " + SessionCallbackQueue.getOverflowsTotal() + ')');
         for (Entry<UUID, GameController> entry : managerFactory.gameManager().getGameController().entrySet()) {
             logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
         }
@@ -234,6 +234,12 @@ public class User {
         }
     }
 
+    public void closeGameCallbacks(final UUID gameId) {
+        managerFactory.sessionManager().getSession(sessionId).ifPresent(session
+                -> session.closeGameCallbacks(gameId)
+        );
+    }
+
     public void ccJoinedTable(final UUID roomId, final UUID tableId, boolean isTournament) {
         fireCallback(new ClientCallback(ClientCallbackMethod.JOINED_TABLE, tableId, new TableClientMessage(roomId, tableId, isTournament)));
     }
@@ -28,7 +28,6 @@ import mage.server.User;
 import mage.server.managers.ManagerFactory;
 import mage.server.util.Splitter;
 import mage.server.util.SystemUtil;
-import mage.utils.StreamUtils;
 import mage.utils.timer.PriorityTimer;
 import mage.view.*;
 import mage.view.ChatMessage.MessageColor;
@@ -43,7 +42,6 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -56,7 +54,7 @@ public class GameController implements GameCallback {
     private final ExecutorService gameExecutor;
     private static final Logger logger = Logger.getLogger(GameController.class);
 
-    protected final ScheduledExecutorService joinWaitingExecutor = Executors.newSingleThreadScheduledExecutor();
+    private ScheduledFuture<?> joinWaitingFuture;
 
     private ScheduledFuture<?> futureTimeout;
     private final ManagerFactory managerFactory;
@@ -111,6 +109,7 @@ public class GameController implements GameCallback {
         for (PriorityTimer priorityTimer : timers.values()) {
             priorityTimer.cancel();
         }
+        cancelJoinWaiting();
     }
 
     private void init() {
@@ -231,7 +230,7 @@ public class GameController implements GameCallback {
                     }
                 }
         );
-        joinWaitingExecutor.scheduleAtFixedRate(() -> {
+        joinWaitingFuture = managerFactory.threadExecutor().getTimerExecutor().scheduleAtFixedRate(() -> {
             try {
                 sendInfoAboutPlayersNotJoinedYetAndTryToFixIt();
             } catch (Exception ex) {
@@ -242,9 +241,10 @@ public class GameController implements GameCallback {
     }
 
     /**
-     * We create a timer that will run every 250 ms individually for a player
+     * We create a timer that will run every second individually for a player
      * decreasing their internal game counter. Later on this counter is used to
-     * get time left to play the whole match.
+     * get time left to play the whole match. All timers use the shared
+     * server scheduler, so games don't create own threads for it.
      * <p>
      * What we also do here is passing Action to PriorityTimer that is the
      * action that will be executed once game timer is over.
@@ -257,13 +257,14 @@ public class GameController implements GameCallback {
         final UUID initPlayerId = playerId;
         long delayMs = 250L; // run each 250 ms
 
-        Action executeOnNoTimeLeft = () -> {
+        // game can be locked by long processing, so don't hold the shared timer thread
+        Action executeOnNoTimeLeft = () -> managerFactory.threadExecutor().getCallExecutor().execute(() -> {
             game.timerTimeout(initPlayerId);
             logger.debug("Player has no time left to end the match: " + initPlayerId + ". Conceding.");
-        };
+        });
 
         PriorityTimer timer = new PriorityTimer(count, delayMs, executeOnNoTimeLeft);
-        timer.init(game.getId());
+        timer.init(managerFactory.threadExecutor().getTimerExecutor());
         timers.put(playerId, timer);
         return timer;
     }
@@ -402,11 +403,17 @@ public class GameController implements GameCallback {
 
     private void checkStart() {
         if (allJoined()) {
-            joinWaitingExecutor.shutdownNow();
+            cancelJoinWaiting();
             managerFactory.threadExecutor().getCallExecutor().execute(this::startGame);
         }
     }
 
+    private synchronized void cancelJoinWaiting() {
+        if (joinWaitingFuture != null) {
+            joinWaitingFuture.cancel(false);
+        }
+    }
+
     private boolean allJoined() {
         for (Player player : game.getPlayers().values()) {
             if (!player.hasLeft()) {
@@ -466,6 +473,7 @@ public class GameController implements GameCallback {
             w.unlock();
         }
         managerFactory.userManager().getUser(userId).ifPresent(user -> {
+            user.closeGameCallbacks(game.getId());
             managerFactory.chatManager().broadcast(chatId, user.getName(), " has stopped watching", MessageColor.BLUE, true, game, ChatMessage.MessageType.STATUS, null);
         });
     }
@@ -787,8 +795,12 @@ public class GameController implements GameCallback {
         for (final GameSessionPlayer gameSession : getGameSessions()) {
             gameSession.update();
         }
-        for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+        List<GameSessionWatcher> gameWatchers = getGameSessionWatchers();
+        if (!gameWatchers.isEmpty()) {
+            GameView publicGameView = GameSessionWatcher.preparePublicGameView(game);
+            for (final GameSessionWatcher gameWatcher : gameWatchers) {
+                gameWatcher.update(publicGameView);
+            }
         }
     }
 
@@ -885,9 +897,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message.toString());
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message.toString());
-        }
+        informWatchers(message.toString());
     }
 
     private void informOthers(List<UUID> players) throws MageException {
@@ -906,8 +916,16 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message);
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message);
+        informWatchers(message);
+    }
+
+    private void informWatchers(String message) {
+        List<GameSessionWatcher> gameWatchers = getGameSessionWatchers();
+        if (!gameWatchers.isEmpty()) {
+            GameClientMessage publicMessage = new GameClientMessage(GameSessionWatcher.preparePublicGameView(game), null, message);
+            for (final GameSessionWatcher watcher : gameWatchers) {
+                watcher.inform(message, publicMessage);
+            }
         }
     }
 
@@ -942,23 +960,13 @@ public class GameController implements GameCallback {
     }
 
     public boolean saveGame() {
-        OutputStream file = null;
-        ObjectOutput output = null;
-        OutputStream buffer = null;
         try {
-            file = new FileOutputStream("saved/" + game.getId().toString() + ".game");
-            buffer = new BufferedOutputStream(file);
-            output = new ObjectOutputStream(new GZIPOutputStream(buffer));
-            output.writeObject(game);
-            output.writeObject(game.getGameStates());
+            // states saves as separated records, so replay can load it by demand
+            GameReplayFile.save(game, new File("saved/" + game.getId().toString() + ".game"));
             logger.debug("Saved game:" + game.getId());
             return true;
         } catch (IOException ex) {
             logger.fatal("Cannot save game.", ex);
-        } finally {
-            StreamUtils.closeQuietly(file);
-            StreamUtils.closeQuietly(output);
-            StreamUtils.closeQuietly(buffer);
         }
         return false;
     }
@@ -1,19 +1,11 @@
-
-
 package mage.server.game;
 
-import java.io.BufferedInputStream;
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInput;
 import java.util.UUID;
-import java.util.zip.GZIPInputStream;
 import mage.game.Game;
 import mage.game.GameState;
 import mage.game.GameStates;
-import mage.server.Main;
-import mage.util.CopierObjectInputStream;
 import mage.utils.StreamUtils;
 import org.apache.log4j.Logger;
 
@@ -27,13 +19,15 @@ public class GameReplay {
 
     private static final Logger logger = Logger.getLogger(GameReplay.class);
 
+    private final GameReplayFile replayFile;
     private final GameStates savedGame;
     private final Game game;
     private int stateIndex;
 
     public GameReplay(UUID gameId) {
-        this.game = loadGame(gameId);
-        this.savedGame = game.getGameStates();
+        this.replayFile = loadGame(gameId);
+        this.game = replayFile == null ? null : replayFile.getGame();
+        this.savedGame = game == null ? null : game.getGameStates();
     }
 
     public void start() {
@@ -54,36 +48,34 @@ public class GameReplay {
         return null;
     }
 
+    /**
+     * Move forward without states loading
+     */
+    public void skip(int moves) {
+        this.stateIndex = Math.min(this.stateIndex + Math.max(moves, 0), savedGame.getSize());
+    }
+
     public Game getGame() {
         return this.game;
     }
 
-    private Game loadGame(UUID gameId) {
-        InputStream file = null;
-        InputStream buffer = null;
-        InputStream gzip = null;
-        ObjectInput input = null;
-        try{
-            file = new FileInputStream("saved/" + gameId.toString() + ".game");
-            buffer = new BufferedInputStream(file);
-            gzip = new GZIPInputStream(buffer);
-            input = new CopierObjectInputStream(Main.classLoader, gzip);
-            Game loadGame = (Game) input.readObject();
-            GameStates states = (GameStates) input.readObject();
-            loadGame.loadGameStates(states);
-            return loadGame;
+    /**
+     * Release replay file
+     */
+    public void close() {
+        StreamUtils.closeQuietly(replayFile);
+    }
 
+    private GameReplayFile loadGame(UUID gameId) {
+        try {
+            // states will be loaded from the file by demand
+            return GameReplayFile.open(new File("saved/" + gameId.toString() + ".game"));
         }
         catch(ClassNotFoundException ex) {
             logger.fatal("Cannot load game. Class not found.", ex);
         }
         catch(IOException ex) {
             logger.fatal("Cannot load game:" + gameId, ex);
-        } finally {
-            StreamUtils.closeQuietly(file);
-            StreamUtils.closeQuietly(buffer);
-            StreamUtils.closeQuietly(input);
-            StreamUtils.closeQuietly(gzip);
         }
         return null;
     }
@@ -0,0 +1,181 @@
+package mage.server.game;
+
+import mage.game.DeltaGameStates;
+import mage.game.Game;
+import mage.game.GameStates;
+import mage.server.Main;
+import mage.util.CopierObjectInputStream;
+
+import java.io.*;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Saved game file for replays: game and each game state are separated records with offsets index,
+ * so replay can load only shown states instead full history.
+ * <p>
+ * File structure:
+ * <pre>
+ * header: magic, format version, key frame interval
+ * game record: length + gzipped game (without states history)
+ * state records: length + compressed key frame or delta (see {@link DeltaGameStates})
+ * index: states count + state records offsets
+ * trailer: index offset
+ * </pre>
+ */
+public class GameReplayFile implements Closeable {
+
+    private static final int MAGIC = 0x584D5250; // XMRP
+    private static final int FORMAT_VERSION = 1;
+
+    private final RandomAccessFile file;
+    private final Game game;
+    private final DeltaGameStates gameStates;
+
+    private GameReplayFile(File file) throws IOException, ClassNotFoundException {
+        this.file = new RandomAccessFile(file, "r");
+        try {
+            if (this.file.readInt() != MAGIC || this.file.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported replay file format: " + file);
+            }
+            int keyFrameInterval = this.file.readInt();
+            byte[] gameData = readRecord(this.file.getFilePointer());
+
+            this.file.seek(this.file.length() - Long.BYTES);
+            this.file.seek(this.file.readLong());
+            long[] offsets = new long[this.file.readInt()];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = this.file.readLong();
+            }
+
+            try (ObjectInputStream input = new CopierObjectInputStream(Main.classLoader,
+                    new GZIPInputStream(new ByteArrayInputStream(gameData)))) {
+                this.game = (Game) input.readObject();
+            }
+            this.gameStates = new DeltaGameStates(keyFrameInterval, new FramesList(offsets));
+            this.game.loadGameStates(gameStates);
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            this.file.close();
+            throw e;
+        }
+    }
+
+    public static GameReplayFile open(File file) throws IOException, ClassNotFoundException {
+        return new GameReplayFile(file);
+    }
+
+    public static void save(Game game, File file) throws IOException {
+        GameStates states = game.getGameStates();
+        DeltaGameStates deltaStates;
+        if (states instanceof DeltaGameStates) {
+            deltaStates = (DeltaGameStates) states;
+        } else {
+            deltaStates = new DeltaGameStates();
+            for (int i = 0; i < states.getSize(); i++) {
+                deltaStates.save(states.get(i));
+            }
+        }
+
+        ByteArrayOutputStream gameData = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(new GZIPOutputStream(gameData))) {
+            output.writeObject(game);
+        }
+
+        try (CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+             DataOutputStream output = new DataOutputStream(counter)) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(deltaStates.getKeyFrameInterval());
+            output.writeInt(gameData.size());
+            gameData.writeTo(output);
+
+            long[] offsets = new long[deltaStates.getSize()];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = counter.count;
+                byte[] frame = deltaStates.getFrame(i);
+                output.writeInt(frame.length);
+                output.write(frame);
+            }
+
+            long indexOffset = counter.count;
+            output.writeInt(offsets.length);
+            for (long offset : offsets) {
+                output.writeLong(offset);
+            }
+            output.writeLong(indexOffset);
+        }
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * States history, each state loads from the file by demand
+     */
+    public GameStates getGameStates() {
+        return gameStates;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (file) {
+            file.close();
+        }
+    }
+
+    private byte[] readRecord(long offset) throws IOException {
+        synchronized (file) {
+            file.seek(offset);
+            byte[] data = new byte[file.readInt()];
+            file.readFully(data);
+            return data;
+        }
+    }
+
+    private final class FramesList extends AbstractList<byte[]> implements RandomAccess {
+
+        private final long[] offsets;
+
+        private FramesList(long[] offsets) {
+            this.offsets = offsets;
+        }
+
+        @Override
+        public byte[] get(int index) {
+            try {
+                return readRecord(offsets[index]);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't read game state " + index + " from replay file", e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return offsets.length;
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count = 0;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -56,6 +56,18 @@ public class GameSessionWatcher {
 
     }
 
+    /**
+     * Update by shared data for all watchers
+     *
+     * @param publicGameView see {@link #preparePublicGameView(Game)}
+     */
+    public void update(final GameView publicGameView) {
+        if (!killed) {
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(),
+                    canUsePublicGameView() ? publicGameView : getGameView())));
+        }
+    }
+
     public void inform(final String message) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
@@ -63,6 +75,18 @@ public class GameSessionWatcher {
 
     }
 
+    /**
+     * Inform by shared data for all watchers
+     *
+     * @param publicMessage message with {@link #preparePublicGameView(Game)}
+     */
+    public void inform(final String message, final GameClientMessage publicMessage) {
+        if (!killed) {
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(),
+                    canUsePublicGameView() ? publicMessage : new GameClientMessage(getGameView(), null, message))));
+        }
+    }
+
     public void informPersonal(final String message) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameView(), null, message))));
@@ -102,6 +126,21 @@ public class GameSessionWatcher {
         return gameView;
     }
 
+    /**
+     * Prepare game view without user specific data, so it can be shared between watchers
+     * (build it once per update instead once per watcher)
+     */
+    public static GameView preparePublicGameView(Game game) {
+        return new GameView(game.getState(), game, null, null);
+    }
+
+    /**
+     * Watcher with permission to see hands must get own game view
+     */
+    private boolean canUsePublicGameView() {
+        return game.getPlayers().values().stream().noneMatch(player -> player.hasUserPermissionToSeeHand(userId));
+    }
+
     protected static void processWatchedHands(Game game, UUID userId, GameView gameView) {
         Map<String, SimpleCardsView> handCards = new HashMap<>();
         for (Player player : game.getPlayers().values()) {
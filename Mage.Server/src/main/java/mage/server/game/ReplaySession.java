@@ -40,9 +40,8 @@ public class ReplaySession implements GameCallback {
     }
 
     public synchronized void next(int moves) {
-        for (int i = 0; i < moves; i++) {
-            replay.next();
-        }
+        // skipped states are not loaded
+        replay.skip(moves);
         updateGame(replay.next(), replay.getGame());
     }
 
@@ -56,6 +55,7 @@ public class ReplaySession implements GameCallback {
                 user.fireCallback(new ClientCallback(ClientCallbackMethod.REPLAY_DONE, replay.getGame().getId(), result)));
 
         managerFactory.replayManager().endReplay(replay.getGame().getId(), userId);
+        replay.close();
     }
 
     private void updateGame(final GameState state, Game game) {
@@ -10,7 +10,22 @@ public interface ThreadExecutor {
 
     ExecutorService getGameExecutor();
 
+    /**
+     * Writers of the sessions callbacks (network sending to the clients)
+     */
+    ExecutorService getCallbackExecutor();
+
     ScheduledExecutorService getTimeoutExecutor();
 
     ScheduledExecutorService getTimeoutIdleExecutor();
+
+    /**
+     * Shared scheduler for periodic game timers (priority timers, join checks), so games don't need own threads for it
+     */
+    ScheduledExecutorService getTimerExecutor();
+
+    /**
+     * @return scheduled and not finished timers and timeouts of all games and tables
+     */
+    int getActiveTimers();
 }
@@ -0,0 +1,273 @@
+package mage.server.record;
+
+import mage.game.result.ResultProtos;
+import mage.server.rating.GlickoRating;
+import mage.server.rating.GlickoRatingSystem;
+
+import java.util.*;
+
+/**
+ * Aggregates finished tables to the user stats in memory (counters and ratings in one pass),
+ * so repository can load and save all affected users by batches instead query per player
+ */
+class UserStatsAggregator {
+
+    private final Map<String, PendingStats> users = new LinkedHashMap<>();
+    private final Set<String> updatedUsers = new LinkedHashSet<>();
+
+    /**
+     * @param existingUsers stats from DB for all users of the aggregating tables (see {@link #collectUserNames(List)})
+     */
+    UserStatsAggregator(Collection<UserStats> existingUsers) {
+        for (UserStats userStats : existingUsers) {
+            ResultProtos.UserStatsProto proto = userStats.getProto();
+            if (proto != null) {
+                users.put(proto.getName(), new PendingStats(ResultProtos.UserStatsProto.newBuilder(proto), userStats.getEndTimeMs(), false));
+            }
+        }
+    }
+
+    static Set<String> collectUserNames(List<ResultProtos.TableProto> tables) {
+        Set<String> res = new HashSet<>();
+        for (ResultProtos.TableProto table : tables) {
+            if (isSubTable(table)) {
+                continue;
+            }
+            if (table.hasMatch()) {
+                table.getMatch().getPlayersList().forEach(player -> res.add(player.getName()));
+            } else if (table.hasTourney()) {
+                table.getTourney().getPlayersList().forEach(player -> res.add(player.getName()));
+                for (ResultProtos.TourneyRoundProto round : table.getTourney().getRoundsList()) {
+                    for (ResultProtos.MatchProto match : round.getMatchesList()) {
+                        match.getPlayersList().forEach(player -> res.add(player.getName()));
+                    }
+                }
+            }
+        }
+        return res;
+    }
+
+    private static boolean isSubTable(ResultProtos.TableProto table) {
+        // This is a sub table within a tournament, so it's already handled by the main
+        // tournament table.
+        return table.getControllerName().equals("System");
+    }
+
+    void add(ResultProtos.TableProto table) {
+        if (isSubTable(table)) {
+            return;
+        }
+        if (table.hasMatch()) {
+            ResultProtos.MatchProto match = table.getMatch();
+            for (ResultProtos.MatchPlayerProto player : match.getPlayersList()) {
+                PendingStats stats = getOrCreateUserStats(player.getName(), table.getEndTimeMs());
+                ResultProtos.UserStatsProto.Builder builder = stats.builder;
+                builder.setMatches(builder.getMatches() + 1);
+                switch (player.getQuit()) {
+                    case IDLE_TIMEOUT:
+                        builder.setMatchesIdleTimeout(builder.getMatchesIdleTimeout() + 1);
+                        break;
+                    case TIMER_TIMEOUT:
+                        builder.setMatchesTimerTimeout(builder.getMatchesTimerTimeout() + 1);
+                        break;
+                    case QUIT:
+                        builder.setMatchesQuit(builder.getMatchesQuit() + 1);
+                        break;
+                }
+                stats.endTimeMs = table.getEndTimeMs();
+                updatedUsers.add(player.getName());
+            }
+            updateRating(match, table.getEndTimeMs());
+        } else if (table.hasTourney()) {
+            ResultProtos.TourneyProto tourney = table.getTourney();
+            for (ResultProtos.TourneyPlayerProto player : tourney.getPlayersList()) {
+                PendingStats stats = getOrCreateUserStats(player.getName(), table.getEndTimeMs());
+                ResultProtos.UserStatsProto.Builder builder = stats.builder;
+                builder.setTourneys(builder.getTourneys() + 1);
+                switch (player.getQuit()) {
+                    case DURING_ROUND:
+                        builder.setTourneysQuitDuringRound(builder.getTourneysQuitDuringRound() + 1);
+                        break;
+                    case DURING_DRAFTING:
+                        builder.setTourneysQuitDuringDrafting(builder.getTourneysQuitDuringDrafting() + 1);
+                        break;
+                    case DURING_CONSTRUCTION:
+                        builder.setTourneysQuitDuringConstruction(builder.getTourneysQuitDuringConstruction() + 1);
+                        break;
+                }
+                stats.endTimeMs = table.getEndTimeMs();
+                updatedUsers.add(player.getName());
+            }
+
+            for (ResultProtos.TourneyRoundProto round : tourney.getRoundsList()) {
+                for (ResultProtos.MatchProto match : round.getMatchesList()) {
+                    updateRating(match, table.getEndTimeMs());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return names of users with changed matches or tourneys stats
+     */
+    List<String> getUpdatedUserNames() {
+        return new ArrayList<>(updatedUsers);
+    }
+
+    List<UserStats> getNewUsers() {
+        return collectUsers(true);
+    }
+
+    List<UserStats> getChangedUsers() {
+        return collectUsers(false);
+    }
+
+    private List<UserStats> collectUsers(boolean isNew) {
+        List<UserStats> res = new ArrayList<>();
+        for (PendingStats stats : users.values()) {
+            if (stats.isNew == isNew && stats.changed) {
+                res.add(new UserStats(stats.builder.build(), stats.endTimeMs));
+            }
+        }
+        return res;
+    }
+
+    private void updateRating(ResultProtos.MatchProto match, long tableEndTimeMs) {
+        long matchEndTimeMs;
+        if (match.hasEndTimeMs()) {
+            matchEndTimeMs = match.getEndTimeMs();
+        } else {
+            matchEndTimeMs = tableEndTimeMs;
+        }
+
+        // process only match with options
+        if (!match.hasMatchOptions()) {
+            return;
+        }
+        ResultProtos.MatchOptionsProto matchOptions = match.getMatchOptions();
+
+        // process only rated matches
+        if (!matchOptions.getRated()) {
+            return;
+        }
+
+        // rating only for duels
+        if (match.getPlayersCount() != 2) {
+            return;
+        }
+
+        ResultProtos.MatchPlayerProto player1 = match.getPlayers(0);
+        ResultProtos.MatchPlayerProto player2 = match.getPlayers(1);
+
+        // rate only games between human players
+        if (!player1.getHuman() || !player2.getHuman()) {
+            return;
+        }
+
+        double outcome;
+        if ((player1.getQuit() == ResultProtos.MatchQuitStatus.NO_MATCH_QUIT && player1.getWins() > player2.getWins())
+                || player2.getQuit() != ResultProtos.MatchQuitStatus.NO_MATCH_QUIT) {
+            // player1 won
+            outcome = 1;
+        } else if ((player2.getQuit() == ResultProtos.MatchQuitStatus.NO_MATCH_QUIT && player1.getWins() < player2.getWins())
+                || player1.getQuit() != ResultProtos.MatchQuitStatus.NO_MATCH_QUIT) {
+            // player2 won
+            outcome = 0;
+        } else {
+            // draw
+            outcome = 0.5;
+        }
+
+        // get players stats
+        ResultProtos.UserStatsProto.Builder player1StatsBuilder = getOrCreateUserStats(player1.getName(), tableEndTimeMs).builder;
+        ResultProtos.UserStatsProto.Builder player2StatsBuilder = getOrCreateUserStats(player2.getName(), tableEndTimeMs).builder;
+
+        // update general rating
+        updateRating(
+                player1StatsBuilder.hasGeneralGlickoRating() ? player1StatsBuilder.getGeneralGlickoRating() : null,
+                player2StatsBuilder.hasGeneralGlickoRating() ? player2StatsBuilder.getGeneralGlickoRating() : null,
+                outcome, matchEndTimeMs,
+                player1StatsBuilder.getGeneralGlickoRatingBuilder(), player2StatsBuilder.getGeneralGlickoRatingBuilder());
+
+        if (matchOptions.hasLimited()) {
+            if (matchOptions.getLimited()) {
+                // update limited rating
+                updateRating(
+                        player1StatsBuilder.hasLimitedGlickoRating() ? player1StatsBuilder.getLimitedGlickoRating() : null,
+                        player2StatsBuilder.hasLimitedGlickoRating() ? player2StatsBuilder.getLimitedGlickoRating() : null,
+                        outcome, matchEndTimeMs,
+                        player1StatsBuilder.getLimitedGlickoRatingBuilder(), player2StatsBuilder.getLimitedGlickoRatingBuilder());
+            } else {
+                // update constructed rating
+                updateRating(
+                        player1StatsBuilder.hasConstructedGlickoRating() ? player1StatsBuilder.getConstructedGlickoRating() : null,
+                        player2StatsBuilder.hasConstructedGlickoRating() ? player2StatsBuilder.getConstructedGlickoRating() : null,
+                        outcome, matchEndTimeMs,
+                        player1StatsBuilder.getConstructedGlickoRatingBuilder(), player2StatsBuilder.getConstructedGlickoRatingBuilder());
+            }
+        }
+    }
+
+    private void updateRating(
+            ResultProtos.GlickoRatingProto player1RatingProto,
+            ResultProtos.GlickoRatingProto player2RatingProto,
+            double outcome,
+            long tableEndTimeMs,
+            ResultProtos.GlickoRatingProto.Builder player1GlickoRatingBuilder,
+            ResultProtos.GlickoRatingProto.Builder player2GlickoRatingBuilder) {
+
+        GlickoRating player1GlickoRating;
+        if (player1RatingProto != null) {
+            player1GlickoRating = new GlickoRating(
+                    player1RatingProto.getRating(),
+                    player1RatingProto.getRatingDeviation(),
+                    player1RatingProto.getLastGameTimeMs());
+        } else {
+            player1GlickoRating = GlickoRatingSystem.getInitialRating();
+        }
+
+        GlickoRating player2GlickoRating;
+        if (player2RatingProto != null) {
+            player2GlickoRating = new GlickoRating(
+                    player2RatingProto.getRating(),
+                    player2RatingProto.getRatingDeviation(),
+                    player2RatingProto.getLastGameTimeMs());
+        } else {
+            player2GlickoRating = GlickoRatingSystem.getInitialRating();
+        }
+
+        GlickoRatingSystem glickoRatingSystem = new GlickoRatingSystem();
+        glickoRatingSystem.updateRating(player1GlickoRating, player2GlickoRating, outcome, tableEndTimeMs);
+
+        player1GlickoRatingBuilder
+                .setRating(player1GlickoRating.getRating())
+                .setRatingDeviation(player1GlickoRating.getRatingDeviation())
+                .setLastGameTimeMs(tableEndTimeMs);
+
+        player2GlickoRatingBuilder
+                .setRating(player2GlickoRating.getRating())
+                .setRatingDeviation(player2GlickoRating.getRatingDeviation())
+                .setLastGameTimeMs(tableEndTimeMs);
+    }
+
+    private PendingStats getOrCreateUserStats(String playerName, long endTimeMs) {
+        PendingStats stats = users.computeIfAbsent(playerName,
+                k -> new PendingStats(ResultProtos.UserStatsProto.newBuilder().setName(playerName), endTimeMs, true));
+        stats.changed = true;
+        return stats;
+    }
+
+    private static final class PendingStats {
+
+        private final ResultProtos.UserStatsProto.Builder builder;
+        private long endTimeMs;
+        private final boolean isNew;
+        private boolean changed = false;
+
+        private PendingStats(ResultProtos.UserStatsProto.Builder builder, long endTimeMs, boolean isNew) {
+            this.builder = builder;
+            this.endTimeMs = endTimeMs;
+            this.isNew = isNew;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package mage.server.util;
+
+import mage.players.PlayableAbilitiesCache;
+import mage.server.SessionCallbackQueue;
+import mage.server.managers.ManagerFactory;
+import mage.util.metrics.MetricsRegistry;
+import org.apache.log4j.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Server wide metrics: registers server's gauges in {@link MetricsRegistry} and exposes all metrics by JMX.
+ * Engine, database and network metrics are recorded by the measured code itself.
+ * <p>
+ * Admin console polls same data in text format (see MageServer.getServerMetrics).
+ */
+public class ServerMetrics implements ServerMetricsMXBean {
+
+    private static final Logger logger = Logger.getLogger(ServerMetrics.class);
+
+    public static final String JMX_NAME = "org.mage:type=ServerMetrics";
+
+    public static void init(ManagerFactory managerFactory) {
+        MetricsRegistry metrics = MetricsRegistry.instance;
+        ExecutorService gameExecutor = managerFactory.threadExecutor().getGameExecutor();
+        metrics.gauge("xmage_game_threads_active", "Game threads with running games",
+                () -> managerFactory.threadExecutor().getActiveThreads(gameExecutor));
+        metrics.gauge("xmage_game_threads_max", "Max game threads (config)",
+                () -> getMaxThreads(gameExecutor));
+        metrics.gauge("xmage_game_threads_queued", "Started games waiting for a free game thread",
+                () -> getQueuedTasks(gameExecutor));
+        metrics.gauge("xmage_game_threads_utilization", "Part of busy game threads (from 0 to 1)",
+                () -> {
+                    int max = getMaxThreads(gameExecutor);
+                    return max <= 0 ? 0 : (double) managerFactory.threadExecutor().getActiveThreads(gameExecutor) / max;
+                });
+        metrics.gauge("xmage_games_active", "Active games",
+                () -> managerFactory.gameManager().getNumberActiveGames());
+        metrics.gauge("xmage_users", "Connected users",
+                () -> managerFactory.userManager().getUsers().size());
+        metrics.gauge("xmage_timers_active", "Scheduled game timers and timeouts",
+                () -> managerFactory.threadExecutor().getActiveTimers());
+
+        metrics.gauge("xmage_callback_queued", "Not sent callbacks of all sessions",
+                SessionCallbackQueue::getQueuedTotal);
+        metrics.externalCounter("xmage_callback_coalesced_total", "Game updates replaced by newer updates before sending",
+                SessionCallbackQueue::getCoalescedTotal);
+        metrics.externalCounter("xmage_callback_overflows_total", "Sessions disconnected by full callback queue",
+                SessionCallbackQueue::getOverflowsTotal);
+
+        metrics.externalCounter("xmage_playable_cache_hits_total", "Playable abilities found in cache",
+                PlayableAbilitiesCache::getHits);
+        metrics.externalCounter("xmage_playable_cache_misses_total", "Playable abilities calculations",
+                PlayableAbilitiesCache::getMisses);
+
+        metrics.gauge("xmage_jvm_memory_used_bytes", "Used heap memory",
+                () -> Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+        metrics.gauge("xmage_jvm_memory_max_bytes", "Max heap memory",
+                () -> Runtime.getRuntime().maxMemory());
+
+        registerJmx();
+    }
+
+    private static void registerJmx() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JMX_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new ServerMetrics(), name);
+            logger.info("Server metrics available by JMX: " + JMX_NAME);
+        } catch (JMException e) {
+            logger.error("Can't register server metrics in JMX", e);
+        }
+    }
+
+    private static int getMaxThreads(ExecutorService executorService) {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getMaximumPoolSize();
+        }
+        return -1;
+    }
+
+    private static int getQueuedTasks(ExecutorService executorService) {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getQueue().size();
+        }
+        return -1;
+    }
+
+    @Override
+    public Map<String, Double> getSamples() {
+        return MetricsRegistry.instance.getSamples();
+    }
+
+    @Override
+    public String getText() {
+        return MetricsRegistry.instance.printText();
+    }
+}
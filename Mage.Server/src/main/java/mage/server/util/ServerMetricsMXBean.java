@@ -0,0 +1,19 @@
+package mage.server.util;
+
+import java.util.Map;
+
+/**
+ * JMX view of the server metrics (object name: org.mage:type=ServerMetrics)
+ */
+public interface ServerMetricsMXBean {
+
+    /**
+     * @return current values (sample name with labels -> value)
+     */
+    Map<String, Double> getSamples();
+
+    /**
+     * @return current values in the plain text exposition format
+     */
+    String getText();
+}
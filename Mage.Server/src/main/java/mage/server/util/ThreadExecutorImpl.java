@@ -11,8 +11,10 @@ import java.util.concurrent.*;
 public class ThreadExecutorImpl implements ThreadExecutor {
     private final ExecutorService callExecutor;
     private final ExecutorService gameExecutor;
+    private final ExecutorService callbackExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final ScheduledExecutorService timeoutIdleExecutor;
+    private final ScheduledExecutorService timerExecutor;
 
     /**
      * noxx: what the settings below do is setting the ability to keep OS
@@ -28,8 +30,10 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     public ThreadExecutorImpl(ConfigSettings config) {
         callExecutor = Executors.newCachedThreadPool();
         gameExecutor = Executors.newFixedThreadPool(config.getMaxGameThreads());
+        callbackExecutor = Executors.newCachedThreadPool();
         timeoutExecutor = Executors.newScheduledThreadPool(4);
         timeoutIdleExecutor = Executors.newScheduledThreadPool(4);
+        timerExecutor = Executors.newScheduledThreadPool(2);
 
         ((ThreadPoolExecutor) callExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
@@ -37,12 +41,22 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XMageThreadFactory("GAME"));
+        ((ThreadPoolExecutor) callbackExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) callbackExecutor).setThreadFactory(new XMageThreadFactory("CALLBACK"));
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) timeoutExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) timeoutExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT"));
         ((ThreadPoolExecutor) timeoutIdleExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) timeoutIdleExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) timeoutIdleExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT_IDLE"));
+        ((ThreadPoolExecutor) timerExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) timerExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) timerExecutor).setThreadFactory(new XMageThreadFactory("TIMER"));
+
+        // cancelled timers must be removed from the queue, so queue size is the number of active timers
+        ((ScheduledThreadPoolExecutor) timeoutExecutor).setRemoveOnCancelPolicy(true);
+        ((ScheduledThreadPoolExecutor) timeoutIdleExecutor).setRemoveOnCancelPolicy(true);
+        ((ScheduledThreadPoolExecutor) timerExecutor).setRemoveOnCancelPolicy(true);
     }
 
 
@@ -64,6 +78,11 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         return gameExecutor;
     }
 
+    @Override
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     @Override
     public ScheduledExecutorService getTimeoutExecutor() {
         return timeoutExecutor;
@@ -74,6 +93,20 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         return timeoutIdleExecutor;
     }
 
+    @Override
+    public ScheduledExecutorService getTimerExecutor() {
+        return timerExecutor;
+    }
+
+    @Override
+    public int getActiveTimers() {
+        return getScheduledTasks(timeoutExecutor) + getScheduledTasks(timeoutIdleExecutor) + getScheduledTasks(timerExecutor);
+    }
+
+    private static int getScheduledTasks(ScheduledExecutorService executorService) {
+        return ((ScheduledThreadPoolExecutor) executorService).getQueue().size();
+    }
+
 }
 
 class XMageThreadFactory implements ThreadFactory {
@@ -0,0 +1,99 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionCallbackQueueTest {
+
+    private final List<Runnable> writers = new ArrayList<>();
+    private final List<ClientCallback> sent = new ArrayList<>();
+
+    private void runWriters() {
+        List<Runnable> current = new ArrayList<>(writers);
+        writers.clear();
+        current.forEach(Runnable::run);
+    }
+
+    private List<Object> sentData() {
+        return sent.stream().map(ClientCallback::getData).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("keep order and use one writer at a time")
+    void testOrder() {
+        SessionCallbackQueue queue = new SessionCallbackQueue(writers::add, sent::add);
+        UUID chatId = UUID.randomUUID();
+        for (int i = 1; i <= 3; i++) {
+            assertThat(queue.offer(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId, "message " + i))).isTrue();
+        }
+        assertThat(writers).hasSize(1);
+        assertThat(sent).isEmpty();
+        assertThat(queue.getSize()).isEqualTo(3);
+
+        runWriters();
+        assertThat(sentData()).containsExactly("message 1", "message 2", "message 3");
+        assertThat(queue.getSize()).isEqualTo(0);
+        assertThat(queue.getMaxQueuedSize()).isEqualTo(3);
+
+        // new writer after finish
+        queue.offer(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId, "message 4"));
+        assertThat(writers).hasSize(1);
+        runWriters();
+        assertThat(sentData()).containsExactly("message 1", "message 2", "message 3", "message 4");
+    }
+
+    @Test
+    @DisplayName("replace not sent update of the game only if it's the last callback of the game")
+    void testCoalesceGameUpdates() {
+        SessionCallbackQueue queue = new SessionCallbackQueue(writers::add, sent::add);
+        UUID gameId = UUID.randomUUID();
+        UUID otherGameId = UUID.randomUUID();
+        queue.offer(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, gameId, "update 1"));
+        queue.offer(new ClientCallback(ClientCallbackMethod.GAME_INFORM, gameId, "inform"));
+        queue.offer(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, otherGameId, "other update"));
+        queue.offer(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, gameId, "update 2"));
+        queue.offer(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, gameId, "update 3"));
+
+        runWriters();
+        assertThat(sentData()).containsExactly("update 1", "inform", "other update", "update 3");
+    }
+
+    @Test
+    @DisplayName("fail on overflow instead waiting for the client")
+    void testOverflow() {
+        SessionCallbackQueue queue = new SessionCallbackQueue(writers::add, sent::add, 2);
+        UUID chatId = UUID.randomUUID();
+        assertThat(queue.offer(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId, "message 1"))).isTrue();
+        assertThat(queue.offer(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId, "message 2"))).isTrue();
+        assertThat(queue.offer(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId, "message 3"))).isFalse();
+
+        queue.clear();
+        runWriters();
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("remove not sent callbacks of the left game only")
+    void testClearGame() {
+        SessionCallbackQueue queue = new SessionCallbackQueue(writers::add, sent::add);
+        UUID gameId = UUID.randomUUID();
+        UUID chatId = UUID.randomUUID();
+        queue.offer(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, gameId, "update"));
+        queue.offer(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, chatId, "message"));
+        queue.offer(new ClientCallback(ClientCallbackMethod.GAME_INFORM, gameId, "inform"));
+
+        queue.clear(gameId);
+        assertThat(queue.getSize()).isEqualTo(1);
+        runWriters();
+        assertThat(sentData()).containsExactly("message");
+    }
+}
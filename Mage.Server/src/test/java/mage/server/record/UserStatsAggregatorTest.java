@@ -0,0 +1,91 @@
+package mage.server.record;
+
+import mage.game.result.ResultProtos;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserStatsAggregatorTest {
+
+    private ResultProtos.MatchPlayerProto player(String name, int wins, ResultProtos.MatchQuitStatus quit) {
+        return ResultProtos.MatchPlayerProto.newBuilder()
+                .setName(name)
+                .setWins(wins)
+                .setQuit(quit)
+                .setHuman(true)
+                .build();
+    }
+
+    private ResultProtos.TableProto ratedDuel(long endTimeMs, ResultProtos.MatchPlayerProto player1, ResultProtos.MatchPlayerProto player2) {
+        return ResultProtos.TableProto.newBuilder()
+                .setControllerName(player1.getName())
+                .setEndTimeMs(endTimeMs)
+                .setMatch(ResultProtos.MatchProto.newBuilder()
+                        .addPlayers(player1)
+                        .addPlayers(player2)
+                        .setMatchOptions(ResultProtos.MatchOptionsProto.newBuilder().setRated(true).setLimited(false)))
+                .build();
+    }
+
+    private ResultProtos.UserStatsProto findUser(List<UserStats> users, String name) {
+        return users.stream()
+                .map(UserStats::getProto)
+                .filter(proto -> proto.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Test
+    @DisplayName("aggregate counters and ratings of all tables in one pass")
+    void testAggregate() {
+        List<ResultProtos.TableProto> tables = Arrays.asList(
+                ratedDuel(100, player("A", 2, ResultProtos.MatchQuitStatus.NO_MATCH_QUIT), player("B", 0, ResultProtos.MatchQuitStatus.NO_MATCH_QUIT)),
+                ratedDuel(200, player("A", 0, ResultProtos.MatchQuitStatus.QUIT), player("C", 0, ResultProtos.MatchQuitStatus.NO_MATCH_QUIT))
+        );
+        assertThat(UserStatsAggregator.collectUserNames(tables)).containsExactlyInAnyOrder("A", "B", "C");
+
+        UserStats existingB = new UserStats(ResultProtos.UserStatsProto.newBuilder().setName("B").setMatches(10).build(), 50);
+        UserStatsAggregator aggregator = new UserStatsAggregator(Collections.singletonList(existingB));
+        tables.forEach(aggregator::add);
+
+        assertThat(aggregator.getUpdatedUserNames()).containsExactly("A", "B", "C");
+        List<UserStats> newUsers = aggregator.getNewUsers();
+        List<UserStats> changedUsers = aggregator.getChangedUsers();
+        assertThat(newUsers).hasSize(2);
+        assertThat(changedUsers).hasSize(1);
+
+        ResultProtos.UserStatsProto a = findUser(newUsers, "A");
+        ResultProtos.UserStatsProto b = findUser(changedUsers, "B");
+        ResultProtos.UserStatsProto c = findUser(newUsers, "C");
+        assertThat(a.getMatches()).isEqualTo(2);
+        assertThat(a.getMatchesQuit()).isEqualTo(1);
+        assertThat(b.getMatches()).isEqualTo(11);
+
+        // A won against B and lost against C
+        assertThat(b.getGeneralGlickoRating().getRating()).isLessThan(1500);
+        assertThat(c.getGeneralGlickoRating().getRating()).isGreaterThan(1500);
+        assertThat(a.getConstructedGlickoRating().getLastGameTimeMs()).isEqualTo(200);
+        assertThat(newUsers.stream().filter(user -> user.getProto().getName().equals("A")).findFirst().get().getEndTimeMs()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("ignore tournament's sub tables")
+    void testSubTables() {
+        ResultProtos.TableProto subTable = ratedDuel(100, player("A", 2, ResultProtos.MatchQuitStatus.NO_MATCH_QUIT), player("B", 0, ResultProtos.MatchQuitStatus.NO_MATCH_QUIT))
+                .toBuilder()
+                .setControllerName("System")
+                .build();
+
+        UserStatsAggregator aggregator = new UserStatsAggregator(Collections.emptyList());
+        aggregator.add(subTable);
+
+        assertThat(UserStatsAggregator.collectUserNames(Collections.singletonList(subTable))).isEmpty();
+        assertThat(aggregator.getUpdatedUserNames()).isEmpty();
+        assertThat(aggregator.getNewUsers()).isEmpty();
+    }
+}
@@ -83,7 +83,7 @@ class ArcaneBombardmentEffect extends OneShotEffect {
         }
         UUID exileId = CardUtil.getExileZoneId(game, source);
         Card toExile = RandomUtil.randomFromCollection(
-                player.getGraveyard().getCards(StaticFilters.FILTER_CARD_INSTANT_OR_SORCERY, game)
+                player.getGraveyard().getCards(StaticFilters.FILTER_CARD_INSTANT_OR_SORCERY, game), game
         );
         if (toExile != null) {
             player.moveCardsToExile(
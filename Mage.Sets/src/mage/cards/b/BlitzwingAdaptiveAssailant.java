@@ -75,7 +75,7 @@ class BlitzwingAdaptiveAssailantEffect extends OneShotEffect {
 
     @Override
     public boolean apply(Game game, Ability source) {
-        Ability ability = RandomUtil.nextBoolean() ? FlyingAbility.getInstance() : IndestructibleAbility.getInstance();
+        Ability ability = RandomUtil.nextBoolean(game) ? FlyingAbility.getInstance() : IndestructibleAbility.getInstance();
         game.informPlayers(ability.getRule() + " has been chosen");
         game.addEffect(new GainAbilitySourceEffect(ability, Duration.EndOfTurn), source);
         return true;
@@ -175,7 +175,7 @@ class CamouflageEffect extends ContinuousRuleModifyingEffectImpl {
                         if (available.isEmpty()) {
                             break;
                         }
-                        int randomAttacker = RandomUtil.nextInt(available.size());
+                        int randomAttacker = RandomUtil.nextInt(available.size(), game);
                         Permanent attacker = available.get(randomAttacker);
                         if (attacker != null) {
                             available.remove(randomAttacker);
@@ -90,7 +90,7 @@ class CapriciousEfreetEffect extends OneShotEffect {
         }
 
         if (!targetPermanents.isEmpty()) {
-            permanent = targetPermanents.get(RandomUtil.nextInt(targetPermanents.size()));
+            permanent = targetPermanents.get(RandomUtil.nextInt(targetPermanents.size(), game));
             permanent.destroy(source, game, false);
             return true;
         }
@@ -101,7 +101,7 @@ class ChaosDefilerEffect extends OneShotEffect {
             permanents.add(game.getPermanent(target.getFirstTarget()));
         }
         permanents.removeIf(Objects::isNull);
-        Permanent permanent = RandomUtil.randomFromCollection(permanents);
+        Permanent permanent = RandomUtil.randomFromCollection(permanents, game);
         return permanent != null && permanent.destroy(source, game);
     }
 }
@@ -114,9 +114,9 @@ class ChefsKissEffect extends OneShotEffect {
             applier = null;
             predicate = null;
         } else {
-            applier = new ChefsKissApplier(possibleTargets.get(RandomUtil.nextInt(possibleTargets.size())), game);
+            applier = new ChefsKissApplier(possibleTargets.get(RandomUtil.nextInt(possibleTargets.size(), game)), game);
             predicate = new MageObjectReferencePredicate(new MageObjectReference(
-                    possibleTargets.get(RandomUtil.nextInt(possibleTargets.size())), game
+                    possibleTargets.get(RandomUtil.nextInt(possibleTargets.size(), game)), game
             ));
         }
         spell.createCopyOnStack(game, source, source.getControllerId(), false, 1, applier);
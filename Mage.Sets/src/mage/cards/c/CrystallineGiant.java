@@ -96,7 +96,7 @@ class CrystallineGiantEffect extends OneShotEffect {
             return true;
         }
         return permanent.addCounters(counterTypes.get(
-                RandomUtil.nextInt(counterTypes.size())
+                RandomUtil.nextInt(counterTypes.size(), game)
         ).createInstance(), source.getControllerId(), source, game);
     }
 }
\ No newline at end of file
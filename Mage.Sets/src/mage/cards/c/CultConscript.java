@@ -1,6 +1,7 @@
 package mage.cards.c;
 
 import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageInt;
 import mage.abilities.Ability;
@@ -74,7 +75,7 @@ enum CultConscriptCondition implements Condition {
 
 class CultConscriptWatcher extends Watcher {
 
-    private final HashSet<UUID> playerSet = new HashSet<>();
+    private final Set<UUID> playerSet = new HashSet<>();
 
     public CultConscriptWatcher() {
         super(WatcherScope.GAME);
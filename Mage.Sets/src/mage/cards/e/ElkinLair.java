@@ -85,7 +85,7 @@ class ElkinLairUpkeepEffect extends OneShotEffect {
             return false;
         }
 
-        Card card = cards[RandomUtil.nextInt(cards.length)];
+        Card card = cards[RandomUtil.nextInt(cards.length, game)];
         if (card == null) {
             return false;
         }
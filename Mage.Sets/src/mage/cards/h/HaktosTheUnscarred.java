@@ -93,7 +93,7 @@ class HaktosTheUnscarredChooseEffect extends OneShotEffect {
         if (controller == null || permanent == null) {
             return false;
         }
-        int number = 2 + RandomUtil.nextInt(3);
+        int number = 2 + RandomUtil.nextInt(3, game);
         game.informPlayers(permanent.getLogName() + ": " + controller.getLogName() + " has chosen " + number + " at random");
         game.getState().setValue(permanent.getId() + "" + (permanent.getZoneChangeCounter(game) + 1) + "_haktos_number", number);
         permanent.addInfo("chosen number", CardUtil.addToolTipMarkTags("Chosen number: " + number), game);
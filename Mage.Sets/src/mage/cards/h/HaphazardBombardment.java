@@ -129,7 +129,7 @@ class HaphazardBombardmentEndOfTurnEffect extends OneShotEffect {
         filter.add(Predicates.not(new AbilityPredicate(IndestructibleAbility.class)));
         List<Permanent> permanents = game.getBattlefield().getActivePermanents(filter, source.getControllerId(), source, game);
         if (!permanents.isEmpty()) {
-            Permanent permanent = permanents.get(RandomUtil.nextInt(permanents.size()));
+            Permanent permanent = permanents.get(RandomUtil.nextInt(permanents.size(), game));
             if (permanent != null) {
                 permanent.destroy(source, game, false);
             }
@@ -94,7 +94,7 @@ class InfectiousRageReattachEffect extends OneShotEffect {
         List<Permanent> permanents = game.getBattlefield().getActivePermanents(filter, source.getControllerId(), source, game);
 
         if (!permanents.isEmpty()) {
-            Permanent creature = RandomUtil.randomFromCollection(permanents);
+            Permanent creature = RandomUtil.randomFromCollection(permanents, game);
             if (creature != null) {
                 game.getState().setValue("attachTo:" + auraCard.getId(), creature);
                 controller.moveCards(auraCard, Zone.BATTLEFIELD, source, game);
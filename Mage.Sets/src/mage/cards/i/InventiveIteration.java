@@ -89,7 +89,7 @@ class InventiveIterationEffect extends OneShotEffect {
                 return true;
             case 1:
                 card = RandomUtil.randomFromCollection(
-                        player.getGraveyard().getCards(StaticFilters.FILTER_CARD_ARTIFACT, game)
+                        player.getGraveyard().getCards(StaticFilters.FILTER_CARD_ARTIFACT, game), game
                 );
                 break;
             default:
@@ -63,7 +63,7 @@ class LastOneStandingEffect extends OneShotEffect {
         if (creatureList.size() < 2) {
             return true;
         }
-        int toSave = RandomUtil.nextInt(creatureList.size());
+        int toSave = RandomUtil.nextInt(creatureList.size(), game);
         FilterCreaturePermanent filter = new FilterCreaturePermanent();
         filter.add(Predicates.not(new PermanentIdPredicate(creatureList.get(toSave).getId())));
         return new DestroyAllEffect(filter).apply(game, source);
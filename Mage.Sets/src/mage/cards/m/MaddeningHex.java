@@ -132,7 +132,7 @@ class MaddeningHexEffect extends OneShotEffect {
             opponents.remove(player.getId());
             player.removeAttachment(permanent, source, game);
         }
-        Player opponent = game.getPlayer(RandomUtil.randomFromCollection(opponents));
+        Player opponent = game.getPlayer(RandomUtil.randomFromCollection(opponents, game));
         if (opponent == null) {
             return true;
         }
@@ -101,7 +101,7 @@ class MetzaliTowerOfTriumphEffect extends OneShotEffect {
                 }
             }
             if (!available.isEmpty()) {
-                Permanent permanent = available.get(RandomUtil.nextInt(available.size()));
+                Permanent permanent = available.get(RandomUtil.nextInt(available.size(), game));
                 if (permanent != null) {
                     permanent.destroy(source, game, false);
                 }
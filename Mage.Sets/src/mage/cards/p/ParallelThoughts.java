@@ -86,7 +86,7 @@ class ParallelThoughtsSearchEffect extends OneShotEffect {
 
                 UUID[] shuffled = cardsInExilePile.toArray(new UUID[0]);
                 for (int n = shuffled.length - 1; n > 0; n--) {
-                    int r = RandomUtil.nextInt(n + 1);
+                    int r = RandomUtil.nextInt(n + 1, game);
                     UUID temp = shuffled[n];
                     shuffled[n] = shuffled[r];
                     shuffled[r] = temp;
@@ -57,7 +57,7 @@ class ScrambleverseEffect extends OneShotEffect {
         PlayerList players = game.getState().getPlayersInRange(source.getControllerId(), game);
         int count = players.size();
         for (Permanent permanent : game.getBattlefield().getActivePermanents(new FilterNonlandPermanent(), source.getControllerId(), source, game)) {
-            ContinuousEffect effect = new GainControlTargetEffect(Duration.Custom, true, players.get(RandomUtil.nextInt(count)));
+            ContinuousEffect effect = new GainControlTargetEffect(Duration.Custom, true, players.get(RandomUtil.nextInt(count, game)));
             effect.setTargetPointer(new FixedTarget(permanent, game));
             game.addEffect(effect, source);
             permanent.untap(game);
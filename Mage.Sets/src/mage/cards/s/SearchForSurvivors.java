@@ -74,7 +74,7 @@ class SearchForSurvivorsEffect extends OneShotEffect {
             // randomly arrange the graveyard
             UUID[] shuffled = controller.getGraveyard().toArray(new UUID[0]);
             for (int n = shuffled.length - 1; n > 0; n--) {
-                int r = RandomUtil.nextInt(n + 1);
+                int r = RandomUtil.nextInt(n + 1, game);
                 UUID temp = shuffled[r];
                 shuffled[r] = shuffled[n];
                 shuffled[n] = temp;
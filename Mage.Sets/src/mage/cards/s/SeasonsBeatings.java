@@ -72,9 +72,9 @@ class SeasonsBeatingsEffect extends OneShotEffect {
             for (Integer i : creatures.keySet()) {
                 Permanent creature = game.getPermanent(creatures.get(i));
 
-                int other = RandomUtil.nextInt(numCreature);
+                int other = RandomUtil.nextInt(numCreature, game);
                 while (other == i) {
-                    other = RandomUtil.nextInt(numCreature);
+                    other = RandomUtil.nextInt(numCreature, game);
                 }
                 Permanent creature2 = game.getPermanent(creatures.get(other));
                 if (creature != null && creature2 != null) {
@@ -63,7 +63,7 @@ class SurrealMemoirEffect extends OneShotEffect {
             filter.add(CardType.INSTANT.getPredicate());
             Card[] cards = controller.getGraveyard().getCards(filter, game).toArray(new Card[0]);
             if (cards.length > 0) {
-                Card card = cards[RandomUtil.nextInt(cards.length)];
+                Card card = cards[RandomUtil.nextInt(cards.length, game)];
                 if (card != null
                         && controller.moveCards(card, Zone.HAND, source, game)) {
                     game.informPlayers(card.getName() + "returned to the hand of" + controller.getLogName());
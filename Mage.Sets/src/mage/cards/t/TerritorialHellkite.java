@@ -131,7 +131,7 @@ class AttackIfAbleTargetRandoOpponentSourceEffect extends OneShotEffect {
                 }
             }
             if (!opponents.isEmpty()) {
-                Player opponent = game.getPlayer(opponents.get(RandomUtil.nextInt(opponents.size())));
+                Player opponent = game.getPlayer(opponents.get(RandomUtil.nextInt(opponents.size(), game)));
                 if (opponent != null) {
                     ContinuousEffect effect = new AttacksIfAbleTargetPlayerSourceEffect();
                     effect.setTargetPointer(new FixedTarget(opponent.getId()));
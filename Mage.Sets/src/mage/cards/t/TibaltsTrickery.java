@@ -77,7 +77,7 @@ class TibaltsTrickeryEffect extends OneShotEffect {
             Player controller = game.getPlayer(spell.getControllerId());
             game.getStack().counter(spell.getId(), source, game);
             if (controller != null) {
-                int random = RandomUtil.nextInt(3) + 1;
+                int random = RandomUtil.nextInt(3, game) + 1;
                 game.informPlayers(random + " was chosen at random");
                 controller.millCards(random, source, game);
                 Card cardToCast = null;
@@ -112,7 +112,7 @@ class TombTyrantEffect extends OneShotEffect {
         if (player == null) {
             return false;
         }
-        Card card = RandomUtil.randomFromCollection(player.getGraveyard().getCards(filter, game));
+        Card card = RandomUtil.randomFromCollection(player.getGraveyard().getCards(filter, game), game);
         return card != null && player.moveCards(card, Zone.BATTLEFIELD, source, game);
     }
 }
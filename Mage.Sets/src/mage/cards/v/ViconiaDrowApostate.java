@@ -87,7 +87,7 @@ class ViconiaDrowApostateEffect extends OneShotEffect {
             return false;
         }
         Card card = RandomUtil.randomFromCollection(
-                player.getGraveyard().getCards(StaticFilters.FILTER_CARD_CREATURE, game)
+                player.getGraveyard().getCards(StaticFilters.FILTER_CARD_CREATURE, game), game
         );
         return card != null && player.moveCards(card, Zone.HAND, source, game);
     }
@@ -140,7 +140,7 @@ class WhimsOfTheFateEffect extends OneShotEffect {
                 Player player = game.getPlayer(playerPiles.getKey());
                 if (player != null) {
                     // decide which pile to sacrifice
-                    int sacrificePile = RandomUtil.nextInt(3) + 1; // random number from 1 - 3
+                    int sacrificePile = RandomUtil.nextInt(3, game) + 1; // random number from 1 - 3
                     game.informPlayers(player.getLogName() + " sacrifices pile number " + sacrificePile);
                     for (UUID permanentId : playerPiles.getValue().get(sacrificePile)) {
                         Permanent permanent = game.getPermanent(permanentId);
@@ -71,7 +71,7 @@ class WildSwingEffect extends OneShotEffect {
             Target target = source.getTargets().get(0);
             if (target != null && !target.getTargets().isEmpty()) {
 
-                Permanent targetPermanent = game.getPermanent(target.getTargets().get(RandomUtil.nextInt(target.getTargets().size())));
+                Permanent targetPermanent = game.getPermanent(target.getTargets().get(RandomUtil.nextInt(target.getTargets().size(), game)));
                 if (targetPermanent != null) {
                     game.informPlayers(sourceObject.getLogName() + ": The randomly chosen target to destroy is " + targetPermanent.getLogName());
                     targetPermanent.destroy(source, game, false);
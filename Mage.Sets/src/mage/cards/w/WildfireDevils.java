@@ -77,7 +77,7 @@ class WildfireDevilsEffect extends OneShotEffect {
         if (players == null) {
             return false;
         }
-        Player randomPlayer = game.getPlayer(players.get(RandomUtil.nextInt(players.size())));
+        Player randomPlayer = game.getPlayer(players.get(RandomUtil.nextInt(players.size(), game)));
         if (randomPlayer == null) {
             return false;
         }
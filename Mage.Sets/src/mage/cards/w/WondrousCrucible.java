@@ -73,7 +73,7 @@ class WondrousCrucibleEffect extends OneShotEffect {
         }
         player.millCards(2, source, game);
         Card card = RandomUtil.randomFromCollection(
-                player.getGraveyard().getCards(StaticFilters.FILTER_CARD_NON_LAND, game)
+                player.getGraveyard().getCards(StaticFilters.FILTER_CARD_NON_LAND, game), game
         );
         if (card == null) {
             return true;
@@ -75,7 +75,7 @@ class WoodlandSleuthEffect extends OneShotEffect {
         if (player != null) {
             Card[] cards = player.getGraveyard().getCards(StaticFilters.FILTER_CARD_CREATURE, game).toArray(new Card[0]);
             if (cards.length > 0) {
-                Card card = cards[RandomUtil.nextInt(cards.length)];
+                Card card = cards[RandomUtil.nextInt(cards.length, game)];
                 if (player.moveCards(card, Zone.HAND, source, game)) {
                     game.informPlayers(card.getName() + " returned to the hand of " + player.getLogName());
                     return true;
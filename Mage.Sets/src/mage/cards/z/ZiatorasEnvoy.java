@@ -103,7 +103,7 @@ class ZiatorasEnvoyEffect extends OneShotEffect {
             )) {
                 switch (landSet.size()) {
                     case 1:
-                        land = RandomUtil.randomFromCollection(landSet);
+                        land = RandomUtil.randomFromCollection(landSet, game);
                         break;
                     case 2:
                         Iterator<Card> iterator = landSet.iterator();
@@ -0,0 +1,95 @@
+package org.mage.test.AI.basic;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Test;
+import org.mage.test.player.TestComputerPlayer7;
+import org.mage.test.serverside.base.CardTestPlayerBaseWithAIHelps;
+
+/**
+ * Root-parallel search must choose the same actions as sequential search (nodes limit must work in both modes)
+ * <p>
+ * Parallel tasks share the nodes limit, so with a small limit the simulated branches depend on threads timing
+ */
+public class ParallelSearchAITest extends CardTestPlayerBaseWithAIHelps {
+
+    private static final int SMALL_MAX_NODES = 3; // search stops before the branch with lethal damage
+    private static final int BIG_MAX_NODES = 1000;
+
+    private void runSearch(int maxNodes, int searchThreads, Boolean mustFindLethal) {
+        // only one spell can be cast and only bolt to the face wins the game
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1); // {1}{G}
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        setLife(playerB, 3);
+
+        ((TestComputerPlayer7) playerA.getComputerPlayer()).setSearchSettings(maxNodes, searchThreads);
+
+        aiPlayPriority(1, PhaseStep.PRECOMBAT_MAIN, playerA);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+
+        if (mustFindLethal == null) {
+            // search can stop before or after the lethal branch, but it must choose one of the spells
+            boolean castBolt = currentGame.getPlayer(playerA.getId()).getGraveyard().size() == 1;
+            assertHandCount(playerA, castBolt ? "Grizzly Bears" : "Lightning Bolt", 1);
+            assertPermanentCount(playerA, "Grizzly Bears", castBolt ? 0 : 1);
+            assertLife(playerB, castBolt ? 0 : 3);
+        } else if (mustFindLethal) {
+            assertGraveyardCount(playerA, "Lightning Bolt", 1);
+            assertPermanentCount(playerA, "Grizzly Bears", 0);
+            assertLife(playerB, 0);
+        } else {
+            assertHandCount(playerA, "Lightning Bolt", 1);
+            assertPermanentCount(playerA, "Grizzly Bears", 1);
+            assertLife(playerB, 3);
+        }
+    }
+
+    @Test
+    public void test_SmallNodesLimit_Sequential() {
+        runSearch(SMALL_MAX_NODES, 1, false);
+    }
+
+    @Test
+    public void test_SmallNodesLimit_Parallel() {
+        runSearch(SMALL_MAX_NODES, 4, null);
+    }
+
+    @Test
+    public void test_BigNodesLimit_Sequential() {
+        runSearch(BIG_MAX_NODES, 1, true);
+    }
+
+    @Test
+    public void test_BigNodesLimit_Parallel() {
+        runSearch(BIG_MAX_NODES, 4, true);
+    }
+
+    @Test
+    public void test_Timeout_Parallel() {
+        // first simulated spell's branch finishes, other branches wait for the search timeout,
+        // so the search must use results of already finished tasks instead skip
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}
+        addCard(Zone.HAND, playerA, "Shock", 1); // {R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        setLife(playerB, 3);
+
+        TestComputerPlayer7 ai = (TestComputerPlayer7) playerA.getComputerPlayer();
+        ai.setSearchSettings(BIG_MAX_NODES, 4);
+        ai.setSlowSearch(1);
+
+        aiPlayPriority(1, PhaseStep.PRECOMBAT_MAIN, playerA);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+
+        // actions order depends on cards, so any of the spells can be simulated first
+        assertHandCount(playerA, 1);
+        assertGraveyardCount(playerA, 1);
+    }
+}
@@ -0,0 +1,31 @@
+package org.mage.test.AI.basic;
+
+import mage.player.ai.TranspositionTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Bounded cache of AI calculations by game state
+ */
+public class TranspositionTableTest {
+
+    @Test
+    public void test_ChecksExactState() {
+        // different states can have the same hash, so data must be used for the same exact state only
+        TranspositionTable<String> table = new TranspositionTable<>(16);
+        table.put(1L, "state 1", "data 1");
+        Assert.assertEquals("data 1", table.get(1L, "state 1"));
+        Assert.assertNull("same hash with other state must be ignored", table.get(1L, "state 2"));
+        Assert.assertNull("same hash without state must be ignored", table.get(1L));
+    }
+
+    @Test
+    public void test_AlwaysReplace() {
+        TranspositionTable<String> table = new TranspositionTable<>(16);
+        Assert.assertEquals(16, table.getMaxSize());
+        table.put(1L, "state 1", "data 1");
+        table.put(1L + 16, "state 2", "data 2"); // same slot
+        Assert.assertNull("old data must be replaced", table.get(1L, "state 1"));
+        Assert.assertEquals("data 2", table.get(1L + 16, "state 2"));
+    }
+}
@@ -0,0 +1,128 @@
+package org.mage.test.AI.basic;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.player.ai.MCTSExecutor;
+import mage.player.ai.MCTSNode;
+import mage.player.ai.MCTSPlayer;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.player.TestComputerPlayerMonteCarlo;
+import org.mage.test.serverside.base.CardTestPlayerBaseWithMonteCarloAIHelps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tree-parallel search of Monte Carlo AI: all workers use one tree with virtual loss
+ */
+public class TreeParallelSearchMonteCarloAITest extends CardTestPlayerBaseWithMonteCarloAIHelps {
+
+    private static final int WORKERS = 4;
+    private static final int THINK_TIME_SECONDS = 1;
+
+    private void prepareCards() {
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1); // {1}{G}
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        setLife(playerB, 3);
+    }
+
+    private MCTSNode createRoot(Game game) {
+        return ((TestComputerPlayerMonteCarlo) playerA.getComputerPlayer()).createSearchRoot(game, MCTSPlayer.NextAction.PRIORITY);
+    }
+
+    @Test
+    public void test_VirtualLossMustBeRestored() {
+        prepareCards();
+
+        runCode("virtual loss", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            MCTSNode root = createRoot(game);
+            root.expand();
+            Assert.assertTrue("must have multiple actions", root.getNumChildren() > 1);
+
+            // workers must go to different children
+            MCTSNode first = root.selectWithVirtualLoss(playerA.getId());
+            MCTSNode second = root.selectWithVirtualLoss(playerA.getId());
+            Assert.assertNotSame(first, second);
+            Assert.assertEquals(1, first.getVirtualLoss());
+            Assert.assertEquals(1, second.getVirtualLoss());
+
+            // results without virtual loss
+            first.backpropagateVirtualLoss(1);
+            second.backpropagateVirtualLoss(-1);
+            Assert.assertEquals(0, first.getVirtualLoss());
+            Assert.assertEquals(0, second.getVirtualLoss());
+            Assert.assertEquals(1, first.getVisits());
+            Assert.assertEquals(1, first.getWins());
+            Assert.assertEquals(1, second.getVisits());
+            Assert.assertEquals(0, second.getWins());
+            Assert.assertEquals(2, root.getVisits());
+            Assert.assertEquals(1, root.getWins());
+        });
+
+        setStopAt(1, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+    }
+
+    @Test
+    public void test_SharedTreeMustBeConsistentAfterWorkers() {
+        prepareCards();
+
+        runCode("shared tree", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            MCTSNode expectedRoot = createRoot(game);
+            expectedRoot.expand();
+
+            MCTSNode root = createRoot(game);
+            List<MCTSExecutor> tasks = new ArrayList<>();
+            long endTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(THINK_TIME_SECONDS);
+            for (int i = 0; i < WORKERS; i++) {
+                tasks.add(new MCTSExecutor(root, playerA.getId(), endTime, true));
+            }
+            ExecutorService pool = Executors.newFixedThreadPool(WORKERS);
+            try {
+                for (Future<Boolean> future : pool.invokeAll(tasks)) {
+                    // workers must not fail
+                    Assert.assertTrue(future.get());
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException("search failed", e);
+            } finally {
+                pool.shutdownNow();
+            }
+
+            // no lost children on concurrent expand
+            Assert.assertEquals(expectedRoot.getNumChildren(), root.getNumChildren());
+            Assert.assertTrue("must simulate games", root.getVisits() > 0);
+            assertNode(root);
+        });
+
+        setStopAt(1, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+    }
+
+    private void assertNode(MCTSNode node) {
+        Assert.assertEquals("virtual loss must be removed", 0, node.getVirtualLoss());
+        Assert.assertTrue(node.getWins() <= node.getVisits());
+        int childrenVisits = 0;
+        int childrenWins = 0;
+        for (MCTSNode child : node.getChildren()) {
+            Assert.assertSame(node, child.getParent());
+            childrenVisits += child.getVisits();
+            childrenWins += child.getWins();
+            assertNode(child);
+        }
+        // each result goes to all nodes of the path (node can get own results before expand)
+        Assert.assertTrue(childrenVisits <= node.getVisits());
+        Assert.assertTrue(childrenWins <= node.getWins());
+    }
+}
@@ -0,0 +1,94 @@
+package org.mage.test.cards.continuous;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Active layered effects are re-evaluated inside apply only after changes,
+ * so results must be the same as with full re-evaluation after each layer
+ */
+public class LayeredEffectsReloadTest extends CardTestPlayerBase {
+
+    private void applyEffects(Game game) {
+        // additional apply without any game changes must keep the same result
+        game.getState().applyEffects(game);
+    }
+
+    @Test
+    public void test_ReuseWithoutChanges() {
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2); // 2/2
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        // layer 7 effects only: active effects of the first layer are used for all layers
+        applyEffects(currentGame);
+        assertPowerToughness(playerA, "Grizzly Bears", 3, 3);
+    }
+
+    @Test
+    public void test_ReloadAfterLosingAbilities() {
+        // Other Merfolk get +1/+1 and have islandwalk.
+        addCard(Zone.BATTLEFIELD, playerA, "Lord of Atlantis", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Merfolk of the Pearl Trident", 1); // 1/1
+        //
+        // Until end of turn, target creature loses all abilities and becomes a blue Frog with base power and toughness 1/1.
+        addCard(Zone.HAND, playerA, "Turn to Frog", 1); // {1}{U}
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Turn to Frog", "Lord of Atlantis");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        // lord's effect must be removed from the active list after layer 6 apply
+        applyEffects(currentGame);
+        assertPowerToughness(playerA, "Lord of Atlantis", 1, 1);
+        assertPowerToughness(playerA, "Merfolk of the Pearl Trident", 1, 1);
+    }
+
+    @Test
+    public void test_ReloadAfterCopyAndPermanentChanges() {
+        // Other Merfolk get +1/+1 and have islandwalk.
+        addCard(Zone.BATTLEFIELD, playerA, "Lord of Atlantis", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Merfolk of the Pearl Trident", 1); // 1/1
+        //
+        // You may have Clone enter the battlefield as a copy of any creature on the battlefield.
+        addCard(Zone.HAND, playerA, "Clone", 1); // {3}{U}
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 4);
+        //
+        addCard(Zone.HAND, playerB, "Lightning Bolt", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 1);
+
+        // copy lord: two lords on battlefield
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Clone");
+        setChoice(playerA, true);
+        setChoice(playerA, "Lord of Atlantis");
+
+        runCode("two lords", 1, PhaseStep.BEGIN_COMBAT, playerA, (info, player, game) -> {
+            // copy effects applied: active effects must be reloaded
+            applyEffects(game);
+            assertPermanentCount(playerA, "Lord of Atlantis", 2);
+            assertPowerToughness(playerA, "Merfolk of the Pearl Trident", 3, 3);
+        });
+
+        // kill original lord
+        castSpell(1, PhaseStep.POSTCOMBAT_MAIN, playerB, "Lightning Bolt", "Lord of Atlantis");
+        waitStackResolved(1, PhaseStep.POSTCOMBAT_MAIN);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertPermanentCount(playerA, "Lord of Atlantis", 1);
+        assertPowerToughness(playerA, "Merfolk of the Pearl Trident", 2, 2);
+        assertPowerToughness(playerA, "Lord of Atlantis", 2, 2);
+    }
+}
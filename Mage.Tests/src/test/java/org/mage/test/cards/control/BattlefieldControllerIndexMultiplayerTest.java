@@ -0,0 +1,76 @@
+package org.mage.test.cards.control;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestMultiPlayerBase;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Battlefield's search by range of influence uses controller index, so it must keep battlefield's order
+ * and follow control changes
+ */
+public class BattlefieldControllerIndexMultiplayerTest extends CardTestMultiPlayerBase {
+
+    private void assertSameAsFullSearch(Game game, UUID playerId) {
+        List<UUID> range = game.getState().getPlayersInRange(playerId, game);
+        List<Permanent> expected = game.getBattlefield().getAllPermanents()
+                .stream()
+                .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId()))
+                .collect(Collectors.toList());
+        List<Permanent> expectedCreatures = expected
+                .stream()
+                .filter(perm -> StaticFilters.FILTER_PERMANENT_CREATURE.match(perm, playerId, null, game))
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(expected, game.getBattlefield().getActivePermanents(playerId, game));
+        Assert.assertEquals(expectedCreatures, game.getBattlefield().getActivePermanents(StaticFilters.FILTER_PERMANENT_CREATURE, playerId, game));
+        Assert.assertEquals(expectedCreatures.size(), game.getBattlefield().count(StaticFilters.FILTER_PERMANENT_CREATURE, playerId, null, game));
+        Assert.assertTrue(game.getBattlefield().contains(StaticFilters.FILTER_PERMANENT_CREATURE, playerId, null, game, expectedCreatures.size()));
+        Assert.assertFalse(game.getBattlefield().contains(StaticFilters.FILTER_PERMANENT_CREATURE, playerId, null, game, expectedCreatures.size() + 1));
+    }
+
+    private void assertAllPlayers(Game game) {
+        for (UUID playerId : game.getState().getPlayersInRange(playerA.getId(), game)) {
+            assertSameAsFullSearch(game, playerId);
+        }
+        assertSameAsFullSearch(game, playerC.getId());
+    }
+
+    @Test
+    public void test_RangeOfInfluenceWithControlChanges() {
+        // Range of influence 1: player A sees B and D, but not C
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerC, "Silvercoat Lion", 1);
+        addCard(Zone.BATTLEFIELD, playerD, "Runeclaw Bear", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        //
+        // Gain control of target creature until end of turn. Untap that creature. It gains haste until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason", 1); // {2}{R}
+
+        runCode("before", 1, PhaseStep.UPKEEP, playerA, (info, player, game) -> assertAllPlayers(game));
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Balduvian Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("after gain", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertEquals(2, game.getBattlefield().getAllActivePermanents(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), game).size());
+            assertAllPlayers(game);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        // lose control on end of turn
+        assertAllPlayers(currentGame);
+        assertPermanentCount(playerB, "Balduvian Bears", 1);
+    }
+}
@@ -0,0 +1,89 @@
+package org.mage.test.cards.control;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.UUID;
+
+/**
+ * Battlefield's search by controller must follow control changes
+ */
+public class BattlefieldControllerIndexTest extends CardTestPlayerBase {
+
+    private boolean isControlled(Game game, String permanentName, UUID controllerId) {
+        return game.getBattlefield().getAllActivePermanents(controllerId)
+                .stream()
+                .map(Permanent::getName)
+                .anyMatch(permanentName::equals);
+    }
+
+    @Test
+    public void test_GainAndLoseControl() {
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1); // 2/2
+        //
+        // Gain control of target creature until end of turn. Untap that creature. It gains haste until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason", 1); // {2}{R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+
+        // before
+        checkPT("before", 1, PhaseStep.UPKEEP, playerB, "Grizzly Bears", 2, 2);
+
+        // gain control
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Grizzly Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        checkPT("after gain", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Grizzly Bears", 3, 3);
+        runCode("after gain", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertTrue(isControlled(game, "Grizzly Bears", playerA.getId()));
+            Assert.assertFalse(isControlled(game, "Grizzly Bears", playerB.getId()));
+            Assert.assertEquals(1, game.getBattlefield().countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), game));
+        });
+
+        // lose control on end of turn
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        assertPowerToughness(playerB, "Grizzly Bears", 2, 2);
+        Assert.assertFalse(isControlled(currentGame, "Grizzly Bears", playerA.getId()));
+        Assert.assertTrue(isControlled(currentGame, "Grizzly Bears", playerB.getId()));
+    }
+
+    @Test
+    public void test_GameCopiesUseOwnIndex() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears", 1);
+
+        runCode("copy", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            // index of the original game
+            Assert.assertTrue(isControlled(game, "Balduvian Bears", playerB.getId()));
+
+            // control change in copy
+            Game copy = game.copy();
+            Permanent copiedBears = copy.getBattlefield().getAllActivePermanents(playerB.getId()).get(0);
+            Assert.assertTrue(copiedBears.changeControllerId(playerA.getId(), copy, null));
+            Assert.assertTrue(isControlled(copy, "Balduvian Bears", playerA.getId()));
+            Assert.assertFalse(isControlled(copy, "Balduvian Bears", playerB.getId()));
+
+            // original game is not affected
+            Assert.assertTrue(isControlled(game, "Balduvian Bears", playerB.getId()));
+            Assert.assertFalse(isControlled(game, "Balduvian Bears", playerA.getId()));
+
+            // control changed back
+            Assert.assertTrue(copiedBears.changeControllerId(playerB.getId(), copy, null));
+            Assert.assertTrue(isControlled(copy, "Balduvian Bears", playerB.getId()));
+            Assert.assertFalse(isControlled(copy, "Balduvian Bears", playerA.getId()));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+}
@@ -6,8 +6,12 @@ import mage.constants.Outcome;
 import mage.constants.RangeOfInfluence;
 import mage.game.Game;
 import mage.player.ai.ComputerPlayer7;
+import mage.player.ai.SimulationNode2;
 import mage.target.Target;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Copied-pasted methods from TestComputerPlayer, see docs in there
  *
@@ -17,6 +21,8 @@ import mage.target.Target;
 public class TestComputerPlayer7 extends ComputerPlayer7 {
 
     private TestPlayer testPlayerLink;
+    private boolean slowSearch = false;
+    private final AtomicReference<String> fastRootAction = new AtomicReference<>();
 
     public TestComputerPlayer7(String name, RangeOfInfluence range, int skill) {
         super(name, range, skill);
@@ -26,6 +32,50 @@ public class TestComputerPlayer7 extends ComputerPlayer7 {
         this.testPlayerLink = testPlayerLink;
     }
 
+    public void setSearchSettings(int maxNodes, int searchThreads) {
+        this.maxNodes = maxNodes;
+        this.searchThreads = searchThreads;
+    }
+
+    /**
+     * Emulate slow search: branches of the first simulated root action are fast, branches of other
+     * root actions wait for the search timeout (works with any threads amount and actions order)
+     */
+    public void setSlowSearch(int maxThinkSeconds) {
+        this.maxThink = maxThinkSeconds;
+        this.slowSearch = true;
+    }
+
+    @Override
+    protected Integer addActionsTimed() {
+        fastRootAction.set(null);
+        return super.addActionsTimed();
+    }
+
+    @Override
+    protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
+        String rootAction = slowSearch ? findRootAction(node) : null;
+        if (rootAction != null
+                && !fastRootAction.compareAndSet(null, rootAction)
+                && !rootAction.equals(fastRootAction.get())) {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return super.simulatePriority(node, game, depth, alpha, beta);
+    }
+
+    private static String findRootAction(SimulationNode2 node) {
+        for (SimulationNode2 current = node; current != null && current.getParent() != null; current = current.getParent()) {
+            if (current.getParent().getParent() == null) {
+                return String.valueOf(current.getAbilities());
+            }
+        }
+        return null;
+    }
+
     @Override
     public boolean choose(Outcome outcome, Target target, Ability source, Game game) {
         if (testPlayerLink.canChooseByComputer()) {
@@ -6,6 +6,8 @@ import mage.constants.Outcome;
 import mage.constants.RangeOfInfluence;
 import mage.game.Game;
 import mage.player.ai.ComputerPlayerMCTS;
+import mage.player.ai.MCTSNode;
+import mage.player.ai.MCTSPlayer;
 import mage.target.Target;
 
 /**
@@ -26,6 +28,15 @@ public class TestComputerPlayerMonteCarlo extends ComputerPlayerMCTS {
         this.testPlayerLink = testPlayerLink;
     }
 
+    /**
+     * New search tree for the current game state (tests only)
+     */
+    public MCTSNode createSearchRoot(Game game, MCTSPlayer.NextAction action) {
+        Game sim = createMCTSGame(game);
+        ((MCTSPlayer) sim.getPlayer(playerId)).setNextAction(action);
+        return new MCTSNode(playerId, sim);
+    }
+
     @Override
     public boolean choose(Outcome outcome, Target target, Ability source, Game game) {
         if (testPlayerLink.canChooseByComputer()) {
@@ -3552,7 +3552,7 @@ public class TestPlayer implements Player {
         this.chooseStrictModeFailed("flip coin result", game, "Use setFlipCoinResult to set it up in unit tests");
 
         // implementation from PlayerImpl:
-        return RandomUtil.nextBoolean();
+        return RandomUtil.nextBoolean(game);
     }
 
     @Override
@@ -3573,7 +3573,7 @@ public class TestPlayer implements Player {
         this.chooseStrictModeFailed("die roll result", game, "Use setDieRollResult to set it up in unit tests");
 
         // implementation from PlayerImpl:
-        return RandomUtil.nextInt(sides) + 1;
+        return RandomUtil.nextInt(sides, game) + 1;
     }
 
     @Override
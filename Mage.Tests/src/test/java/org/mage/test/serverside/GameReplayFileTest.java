@@ -0,0 +1,60 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
+import mage.server.game.GameReplayFile;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.io.File;
+
+/**
+ * Saved game for replays must give same states as in the original game
+ */
+public class GameReplayFileTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SaveAndLoad() throws Exception {
+        // test players can't be serialized with actions, so use game without it
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        // history of the finished game is cleared by bookmarks, so prepare it here
+        GameStates originalStates = new GameStates();
+        for (int i = 1; i <= 60; i++) {
+            GameState state = currentGame.getState().copy();
+            state.setTurnNum(i);
+            state.setValue("replayTestValue", "value " + i);
+            originalStates.save(state);
+        }
+        currentGame.loadGameStates(originalStates);
+
+        File file = File.createTempFile("replay", ".game");
+        file.deleteOnExit();
+        try {
+            GameReplayFile.save(currentGame, file);
+            try (GameReplayFile replayFile = GameReplayFile.open(file)) {
+                Assert.assertEquals(currentGame.getId(), replayFile.getGame().getId());
+                GameStates states = replayFile.getGameStates();
+                Assert.assertEquals(originalStates.getSize(), states.getSize());
+
+                // random access
+                for (int i = states.getSize() - 1; i >= 0; i -= 3) {
+                    GameState original = originalStates.get(i);
+                    GameState loaded = states.get(i);
+                    Assert.assertEquals("state " + i, original.getTurnNum(), loaded.getTurnNum());
+                    Assert.assertEquals("state " + i, original.getValue("replayTestValue"), loaded.getValue("replayTestValue"));
+                    Assert.assertEquals("state " + i, original.getPlayer(playerA.getId()).getHand().size(), loaded.getPlayer(playerA.getId()).getHand().size());
+                }
+            }
+        } finally {
+            file.delete();
+        }
+    }
+}
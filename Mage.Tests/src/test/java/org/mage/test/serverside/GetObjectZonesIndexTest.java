@@ -0,0 +1,139 @@
+package org.mage.test.serverside;
+
+import mage.MageObject;
+import mage.abilities.Ability;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.command.CommandObject;
+import mage.game.command.Commander;
+import mage.game.permanent.Permanent;
+import mage.game.stack.Spell;
+import mage.game.stack.StackAbility;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestCommanderDuelBase;
+
+import java.io.FileNotFoundException;
+import java.util.UUID;
+
+/**
+ * Stack and command zone keep own indexes for game.getObject, so indexes must be updated on each zone change
+ */
+public class GetObjectZonesIndexTest extends CardTestCommanderDuelBase {
+
+    private static final String COMMANDER_NAME = "Daxos of Meletis"; // {1}{W}{U}
+
+    private UUID commanderId;
+
+    @Override
+    protected Game createNewGameAndPlayers() throws GameException, FileNotFoundException {
+        setDecknamePlayerA("CommanderDuel_UW.dck"); // Commander = Daxos of Meletis
+        setDecknamePlayerB("CommanderDuel_UW.dck"); // Commander = Daxos of Meletis
+        return super.createNewGameAndPlayers();
+    }
+
+    private void findCommander(Game game) {
+        for (CommandObject commandObject : game.getState().getCommand()) {
+            if (commandObject instanceof Commander
+                    && commandObject.getName().equals(COMMANDER_NAME)
+                    && commandObject.getControllerId().equals(playerA.getId())) {
+                commanderId = commandObject.getId();
+            }
+        }
+        Assert.assertNotNull("can't find commander", commanderId);
+    }
+
+    private void assertObject(Game game, Class<? extends MageObject> needClass) {
+        MageObject object = game.getObject(commanderId);
+        Assert.assertNotNull("can't find commander", object);
+        Assert.assertTrue("wrong object: " + object.getClass().getSimpleName(), needClass.isInstance(object));
+    }
+
+    @Test
+    public void test_CommanderZoneChanges() {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+        //
+        // Destroy all creatures, then create an X/X colorless Phyrexian Horror artifact creature token, where X is the number of creatures destroyed this way.
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 6);
+        addCard(Zone.HAND, playerB, "Phyrexian Rebirth", 1);
+
+        // command zone
+        runCode("in command zone", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            findCommander(game);
+            assertObject(game, Commander.class);
+            Assert.assertNotNull(game.getState().getCommand().getCommandObject(commanderId));
+            Assert.assertNull(game.getStack().getSpell(commanderId));
+        });
+
+        // stack
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, COMMANDER_NAME);
+        runCode("on stack", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertObject(game, Spell.class);
+            Assert.assertNotNull(game.getStack().getSpell(commanderId));
+            Assert.assertNotNull(game.getState().getStack().getStackObject(game.getStack().getSpell(commanderId).getId()));
+        });
+
+        // battlefield
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("on battlefield", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertObject(game, Permanent.class);
+            Assert.assertNull(game.getStack().getSpell(commanderId));
+        });
+
+        // back to command zone
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Phyrexian Rebirth");
+        setChoice(playerA, true); // move commander to command zone
+        waitStackResolved(2, PhaseStep.PRECOMBAT_MAIN);
+        runCode("back in command zone", 2, PhaseStep.POSTCOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertObject(game, Commander.class);
+            Assert.assertNotNull(game.getState().getCommand().getCommandObject(commanderId));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertCommandZoneCount(playerA, COMMANDER_NAME, 1);
+        assertPermanentCount(playerA, COMMANDER_NAME, 0);
+    }
+
+    @Test
+    public void test_StackAndCommandChangesAndCopies() {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+
+        runCode("stack and command changes", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            findCommander(game);
+            Ability ability = game.getBattlefield().getAllActivePermanents(playerA.getId()).get(0).getAbilities().get(0);
+            StackAbility stackAbility = new StackAbility(ability.copy(), playerA.getId());
+
+            // stack: push and remove
+            Assert.assertNull(game.getObject(stackAbility.getId()));
+            game.getStack().push(stackAbility);
+            Assert.assertSame(stackAbility, game.getObject(stackAbility.getId()));
+
+            // copy must use own index
+            Game copy = game.copy();
+            copy.getStack().clear();
+            Assert.assertNull(copy.getObject(stackAbility.getId()));
+            Assert.assertSame(stackAbility, game.getObject(stackAbility.getId()));
+
+            game.getStack().remove(stackAbility, game);
+            Assert.assertNull(game.getObject(stackAbility.getId()));
+
+            // command zone: remove and add
+            CommandObject commander = game.getState().getCommand().getCommandObject(commanderId);
+            game.getState().getCommand().remove(commander);
+            Assert.assertNull(game.getState().getCommand().getCommandObject(commanderId));
+            Assert.assertFalse(game.getObject(commanderId) instanceof Commander);
+            game.getState().getCommand().add(commander);
+            Assert.assertSame(commander, game.getObject(commanderId));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+}
@@ -0,0 +1,141 @@
+package org.mage.test.serverside.performance;
+
+import mage.MageObject;
+import mage.abilities.mana.ActivatedManaAbilityImpl;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.designations.Designation;
+import mage.game.Game;
+import mage.game.command.CommandObject;
+import mage.game.permanent.Permanent;
+import mage.game.stack.Spell;
+import mage.game.stack.StackAbility;
+import mage.game.stack.StackObject;
+import org.apache.log4j.Logger;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Microbenchmark for game.getObject: indexed zones search vs old linear search
+ */
+@Ignore // performance test, enable it for manual runs only
+public class GetObjectPerformanceTest extends CardTestPlayerBase {
+
+    private static final int LOOKUPS_PER_ROUND = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    private static final Logger logger = Logger.getLogger(GetObjectPerformanceTest.class);
+
+    private long foundObjects = 0;
+
+    @Test
+    public void test_GetObjectSpeed() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 10);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 7);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // busy stack: mana abilities of all lands
+        List<UUID> permanentIds = new ArrayList<>();
+        List<UUID> stackIds = new ArrayList<>();
+        for (Permanent permanent : currentGame.getBattlefield().getAllPermanents()) {
+            permanentIds.add(permanent.getId());
+            for (ActivatedManaAbilityImpl ability : permanent.getAbilities().getActivatedManaAbilities(Zone.BATTLEFIELD)) {
+                StackAbility stackAbility = new StackAbility(ability.copy(), playerA.getId());
+                currentGame.getStack().push(stackAbility);
+                stackIds.add(stackAbility.getId());
+            }
+        }
+        List<UUID> cardIds = new ArrayList<>();
+        for (Card card : currentGame.getPlayer(playerA.getId()).getLibrary().getCards(currentGame)) {
+            cardIds.add(card.getId());
+        }
+        for (Card card : currentGame.getPlayer(playerA.getId()).getHand().getCards(currentGame)) {
+            cardIds.add(card.getId());
+        }
+        List<UUID> unknownIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            unknownIds.add(UUID.randomUUID());
+        }
+
+        // same results
+        for (List<UUID> ids : new List[]{permanentIds, stackIds, cardIds, unknownIds}) {
+            for (UUID id : ids) {
+                Assert.assertSame(getObjectByLinearSearch(currentGame, id), currentGame.getObject(id));
+            }
+        }
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            logger.info("Round " + round);
+            measure("permanents", permanentIds);
+            measure("stack", stackIds);
+            measure("cards", cardIds);
+            measure("unknown", unknownIds);
+        }
+    }
+
+    private void measure(String name, List<UUID> ids) {
+        long indexedTime = measureLookups(ids, currentGame::getObject);
+        long linearTime = measureLookups(ids, id -> getObjectByLinearSearch(currentGame, id));
+        logger.info(String.format("  %-10s: indexed %d ns/op, linear %d ns/op",
+                name, indexedTime / LOOKUPS_PER_ROUND, linearTime / LOOKUPS_PER_ROUND));
+    }
+
+    private long measureLookups(List<UUID> ids, Function<UUID, MageObject> lookup) {
+        int found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS_PER_ROUND; i++) {
+            if (lookup.apply(ids.get(i % ids.size())) != null) {
+                found++;
+            }
+        }
+        long time = System.nanoTime() - start;
+        foundObjects += found; // keep results alive
+        return time;
+    }
+
+    /**
+     * Old version of game.getObject (before zones index)
+     */
+    private static MageObject getObjectByLinearSearch(Game game, UUID objectId) {
+        if (game.getState().getBattlefield().containsPermanent(objectId)) {
+            return game.getState().getBattlefield().getPermanent(objectId);
+        }
+        if (game.getPermanentsEntering().containsKey(objectId)) {
+            return game.getPermanentEntering(objectId);
+        }
+        for (StackObject item : game.getState().getStack()) {
+            if (item.getId().equals(objectId)) {
+                return item;
+            }
+            if (item instanceof Spell && item.getSourceId().equals(objectId)) {
+                return item;
+            }
+        }
+        for (CommandObject commandObject : game.getState().getCommand()) {
+            if (commandObject.getId().equals(objectId)) {
+                return commandObject;
+            }
+        }
+        MageObject object = game.getCard(objectId);
+        if (object == null) {
+            for (Designation designation : game.getState().getDesignations()) {
+                if (designation.getId().equals(objectId)) {
+                    return designation;
+                }
+            }
+            object = game.getLastKnownInformation(objectId, Zone.BATTLEFIELD);
+        }
+        return object;
+    }
+}
@@ -0,0 +1,62 @@
+package org.mage.test.utils;
+
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardSetInfo;
+import mage.cards.repository.CardScanner;
+import mage.constants.Rarity;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Cards creation by class and class name (cached constructors)
+ */
+public class CardCreationTest {
+
+    private static final String LIGHTNING_BOLT_CLASS = "mage.cards.l.LightningBolt";
+
+    private static CardSetInfo createSetInfo() {
+        return new CardSetInfo("Lightning Bolt", "M10", "146", Rarity.COMMON);
+    }
+
+    @Test
+    public void test_CreateByClassName() {
+        Card card1 = CardImpl.createCard(LIGHTNING_BOLT_CLASS, createSetInfo());
+        Card card2 = CardImpl.createCard(LIGHTNING_BOLT_CLASS, createSetInfo());
+        Assert.assertNotNull(card1);
+        Assert.assertNotNull(card2);
+        Assert.assertEquals("Lightning Bolt", card1.getName());
+        Assert.assertEquals("M10", card1.getExpansionSetCode());
+        Assert.assertNotEquals("each card must be a new object", card1.getId(), card2.getId());
+    }
+
+    @Test
+    public void test_CreateByClass() {
+        Card card = CardImpl.createCard(getLightningBoltClass(), createSetInfo());
+        Assert.assertNotNull(card);
+        Assert.assertEquals("Lightning Bolt", card.getName());
+    }
+
+    @Test
+    public void test_WrongClasses() {
+        Assert.assertNull("unknown class", CardImpl.createCard("mage.cards.l.UnknownLightningBolt", createSetInfo()));
+        Assert.assertNull("not a card class", CardImpl.createCard(String.class, createSetInfo()));
+        Assert.assertNull("card class without simple constructor", CardImpl.createCard(getLightningBoltClass(), null));
+    }
+
+    @Test
+    public void test_PrepareCardClasses() {
+        CardScanner.scan();
+        int preparedCount = CardScanner.prepareCardClasses();
+        Assert.assertTrue("can't prepare card classes: " + preparedCount, preparedCount > 20000);
+        Assert.assertNotNull(CardImpl.createCard(LIGHTNING_BOLT_CLASS, createSetInfo()));
+    }
+
+    private static Class<?> getLightningBoltClass() {
+        try {
+            return Class.forName(LIGHTNING_BOLT_CLASS);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
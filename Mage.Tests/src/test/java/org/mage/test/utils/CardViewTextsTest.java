@@ -0,0 +1,57 @@
+package org.mage.test.utils;
+
+import mage.cards.Card;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.view.CardView;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.*;
+
+/**
+ * Deserialized card views of the same card must share immutable texts in memory (client side)
+ */
+public class CardViewTextsTest {
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+    }
+
+    private CardView createView(String name) {
+        Card card = CardRepository.instance.findCards(name).get(0).getCard();
+        return new CardView(card);
+    }
+
+    private byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(data)) {
+            output.writeObject(object);
+        }
+        return data.toByteArray();
+    }
+
+    private Object deserialize(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return input.readObject();
+        }
+    }
+
+    @Test
+    public void test_DeserializedViewsShareTexts() throws Exception {
+        CardView view1 = createView("Lightning Bolt");
+        CardView view2 = createView("Lightning Bolt");
+
+        // client side: each view comes in own message
+        CardView loaded1 = (CardView) deserialize(serialize(view1));
+        CardView loaded2 = (CardView) deserialize(serialize(view2));
+        Assert.assertEquals(view1.getRules(), loaded1.getRules());
+        Assert.assertEquals(view1.getName(), loaded1.getName());
+        Assert.assertNotSame(loaded1.getRules(), loaded2.getRules());
+        Assert.assertSame(loaded1.getRules().get(0), loaded2.getRules().get(0));
+        Assert.assertSame(loaded1.getName(), loaded2.getName());
+        Assert.assertSame(loaded1.getExpansionSetCode(), loaded2.getExpansionSetCode());
+    }
+}
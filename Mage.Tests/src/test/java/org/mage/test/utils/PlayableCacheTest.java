@@ -0,0 +1,109 @@
+package org.mage.test.utils;
+
+import mage.Mana;
+import mage.abilities.Ability;
+import mage.abilities.ActivatedAbility;
+import mage.constants.ManaType;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.players.PlayableAbilitiesCache;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Playable abilities cache between game state changes
+ */
+public class PlayableCacheTest extends CardTestPlayerBase {
+
+    private void prepareGame() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1); // {1}{G}
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    private boolean hasPlayable(List<ActivatedAbility> playable, String abilityStartText) {
+        return playable.stream().anyMatch(ability -> ability.toString().startsWith(abilityStartText));
+    }
+
+    @Test
+    public void test_SameStateUsesCache() {
+        prepareGame();
+
+        Player player = currentGame.getPlayer(playerA.getId());
+        List<ActivatedAbility> playable1 = player.getPlayable(currentGame, true);
+        long hits = PlayableAbilitiesCache.getHits();
+        List<ActivatedAbility> playable2 = player.getPlayable(currentGame, true);
+
+        Assert.assertEquals("same state must use cached result", hits + 1, PlayableAbilitiesCache.getHits());
+        Assert.assertEquals(playable1, playable2);
+        Assert.assertNotSame("cached result must be a copy", playable1, playable2);
+        Assert.assertTrue(hasPlayable(playable2, "Cast Lightning Bolt"));
+        Assert.assertFalse(hasPlayable(playable2, "Cast Grizzly Bears"));
+    }
+
+    @Test
+    public void test_StateChangesResetCache() {
+        prepareGame();
+
+        Player player = currentGame.getPlayer(playerA.getId());
+        Assert.assertTrue(hasPlayable(player.getPlayable(currentGame, true), "Cast Lightning Bolt"));
+
+        // tapped land fires an event
+        getPermanent("Mountain", playerA).tap(null, currentGame);
+        Assert.assertFalse("tapped land must reset cache", hasPlayable(player.getPlayable(currentGame, true), "Cast Lightning Bolt"));
+
+        getPermanent("Mountain", playerA).untap(currentGame);
+        Assert.assertTrue("untapped land must reset cache", hasPlayable(player.getPlayable(currentGame, true), "Cast Lightning Bolt"));
+    }
+
+    @Test
+    public void test_ManaPaymentResetsCache() {
+        prepareGame();
+
+        Player player = currentGame.getPlayer(playerA.getId());
+        Ability manaSource = getPermanent("Mountain", playerA).getAbilities().getActivatedManaAbilities(Zone.BATTLEFIELD).get(0);
+        Assert.assertFalse(hasPlayable(player.getPlayable(currentGame, true), "Cast Grizzly Bears"));
+
+        // add mana during payment
+        player.getManaPool().storeMana();
+        player.getManaPool().addMana(Mana.GreenMana(2), currentGame, manaSource);
+        Assert.assertTrue("added mana must reset cache", hasPlayable(player.getPlayable(currentGame, true), "Cast Grizzly Bears"));
+
+        // pay from pool
+        for (int i = 0; i < 2; i++) {
+            player.getManaPool().unlockManaType(ManaType.GREEN);
+            Assert.assertTrue(player.getManaPool().pay(ManaType.GREEN, manaSource, null, currentGame, null, new Mana()));
+        }
+        Assert.assertFalse("paid mana must reset cache", hasPlayable(player.getPlayable(currentGame, true), "Cast Grizzly Bears"));
+
+        // cancelled payment restores the pool
+        player.getManaPool().restoreMana(Collections.emptyList(), currentGame);
+        player.getManaPool().addMana(Mana.GreenMana(2), currentGame, manaSource);
+        Assert.assertTrue(hasPlayable(player.getPlayable(currentGame, true), "Cast Grizzly Bears"));
+        player.getManaPool().restoreMana(player.getManaPool().getPoolBookmark(), currentGame);
+        Assert.assertFalse("restored pool must reset cache", hasPlayable(player.getPlayable(currentGame, true), "Cast Grizzly Bears"));
+    }
+
+    @Test
+    public void test_GameCopyDoNotUseCache() {
+        prepareGame();
+
+        Player player = currentGame.getPlayer(playerA.getId());
+        player.getPlayable(currentGame, true);
+
+        Game copy = currentGame.copy();
+        long hits = PlayableAbilitiesCache.getHits();
+        List<ActivatedAbility> playable = copy.getPlayer(playerA.getId()).getPlayable(copy, true);
+        Assert.assertEquals("game copy must calculate own playable", hits, PlayableAbilitiesCache.getHits());
+        Assert.assertTrue(hasPlayable(playable, "Cast Lightning Bolt"));
+    }
+}
@@ -7,6 +7,7 @@ import mage.constants.Outcome;
 import mage.constants.PlanarDieRollResult;
 import mage.constants.RangeOfInfluence;
 import mage.game.Game;
+import mage.game.GameState;
 import mage.game.TwoPlayerDuel;
 import mage.game.mulligan.MulliganType;
 import mage.player.human.HumanPlayer;
@@ -73,6 +74,42 @@ public class RandomTest {
         Assert.assertNotEquals("different seed must have different deck", infoSameA, infoDifferent);
     }
 
+    private String rollGameRandoms(Game game, Player player) {
+        StringBuilder res = new StringBuilder();
+        for (int i = 1; i <= 20; i++) {
+            res.append(player.rollDieResult(20, game)).append(player.flipCoinResult(game) ? "H" : "T").append(",");
+        }
+        return res.toString();
+    }
+
+    @Test
+    public void test_GameSeedAndSameResults() {
+        Player player = new HumanPlayer("random", RangeOfInfluence.ALL, 1);
+        Game gameA = new TwoPlayerDuel(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 50);
+        Game gameB = new TwoPlayerDuel(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 50);
+        Assert.assertNotEquals("new games must have different seeds", gameA.getState().getRandomSeed(), gameB.getState().getRandomSeed());
+
+        gameA.getState().setRandomSeed(123);
+        gameB.getState().setRandomSeed(123);
+        String infoSameA = rollGameRandoms(gameA, player);
+        String infoSameB = rollGameRandoms(gameB, player);
+        Assert.assertEquals("same seed must have same game randoms", infoSameA, infoSameB);
+        Assert.assertEquals(123, gameA.getState().getRandomSeed());
+
+        // state copy continues the same random sequence (simulations, saved states)
+        GameState copiedState = gameA.getState().copy();
+        Assert.assertEquals("copied state must have same random", copiedState.getRandom().nextLong(), gameA.getState().getRandom().nextLong());
+
+        // AI simulations must not foresee the game randoms
+        GameState simulatedState = gameA.getState().copy();
+        simulatedState.setNewRandomSeed();
+        Assert.assertNotEquals("simulation must have new random", simulatedState.getRandomSeed(), gameA.getState().getRandomSeed());
+        Assert.assertNotEquals("simulation must have new random", simulatedState.getRandom().nextLong(), gameA.getState().getRandom().nextLong());
+
+        gameB.getState().setRandomSeed(321);
+        Assert.assertNotEquals("different seed must have different game randoms", infoSameA, rollGameRandoms(gameB, player));
+    }
+
     @Test
     @Ignore
     public void test_GenerateRandomPng() throws IOException {
@@ -158,7 +195,7 @@ public class RandomTest {
             for (int x = 0; x < weight; x++) {
                 for (int y = 0; y < height; y++) {
                     // shuffle, search card position and draw
-                    player.getLibrary().shuffle();
+                    player.getLibrary().shuffle(RandomUtil.getRandom(game));
                     int cardPos = player.getLibrary().getCardPosition(cardId);
                     //image.setRGB(x, y, cardPos < halfIndex ? Color.white.getRGB() : Color.black.getRGB());
                     image.setRGB(x, y, new Color(colorMult * cardPos, colorMult * cardPos, colorMult * cardPos).getRGB());
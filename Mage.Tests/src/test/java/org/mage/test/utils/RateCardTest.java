@@ -0,0 +1,78 @@
+package org.mage.test.utils;
+
+import mage.cards.Card;
+import mage.cards.Sets;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.ColoredManaSymbol;
+import mage.game.draft.RateCard;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Draft ratings index must give same scores as full calculation
+ */
+public class RateCardTest {
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+    }
+
+    private Card createCard(String name) {
+        return CardRepository.instance.findCards(name).get(0).getCard();
+    }
+
+    @Test
+    public void test_CachedRatingsSameAsCalculated() {
+        List<ColoredManaSymbol> red = Collections.singletonList(ColoredManaSymbol.R);
+        List<ColoredManaSymbol> redGreen = Arrays.asList(ColoredManaSymbol.R, ColoredManaSymbol.G);
+        for (String name : Arrays.asList("Lightning Bolt", "Grizzly Bears", "Forest", "Kird Ape")) {
+            Card card = createCard(name);
+            for (List<ColoredManaSymbol> colors : Arrays.asList(null, red, redGreen)) {
+                int calculated = RateCard.rateCard(card, colors, false);
+                Assert.assertEquals(name + " with " + colors, calculated, RateCard.rateCard(card, colors));
+                Assert.assertEquals(name + " with " + colors + " (from cache)", calculated, RateCard.rateCard(card, colors));
+            }
+        }
+
+        // removal and off color
+        Assert.assertTrue(RateCard.rateCard(createCard("Lightning Bolt"), red) > RateCard.rateCard(createCard("Lightning Bolt"), null) - 100);
+        Assert.assertTrue(RateCard.rateCard(createCard("Grizzly Bears"), red) < 0);
+    }
+
+    @Test
+    public void test_DiskCache() throws IOException {
+        File cacheFile = File.createTempFile("card_ratings", ".cache");
+        cacheFile.deleteOnExit();
+        Assert.assertTrue(cacheFile.delete());
+        try {
+            RateCard.enableDiskCache(cacheFile);
+            RateCard.prepareSetsRatings(Collections.singletonList(Sets.findSet("LEA")));
+            Assert.assertTrue("ratings must be saved", cacheFile.exists());
+
+            List<String> lines = Files.readAllLines(cacheFile.toPath(), StandardCharsets.UTF_8);
+            // ratings files must be a part of the cache version
+            Assert.assertTrue(lines.get(0), lines.get(0).matches("#version:\\d+:\\d+:[0-9a-f]+"));
+            String boltLine = lines.stream().filter(line -> line.startsWith("Lightning Bolt\t")).findFirst().orElse(null);
+            Assert.assertNotNull("set's cards must be rated", boltLine);
+            int boltScore = RateCard.rateCard(createCard("Lightning Bolt"), null, false);
+            Assert.assertTrue(boltLine, boltLine.startsWith("Lightning Bolt\t" + boltScore + "\t"));
+
+            // must load without errors
+            RateCard.enableDiskCache(cacheFile);
+        } finally {
+            RateCard.enableDiskCache(null);
+            cacheFile.delete();
+        }
+    }
+}
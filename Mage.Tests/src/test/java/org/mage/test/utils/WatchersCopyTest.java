@@ -0,0 +1,315 @@
+package org.mage.test.utils;
+
+import mage.MageObjectReference;
+import mage.cards.Cards;
+import mage.cards.CardsImpl;
+import mage.players.PlayerList;
+import mage.util.ClassScanner;
+import mage.watchers.Watcher;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Checks copy of all watchers from framework and sets (each game state copy uses it)
+ * <p>
+ * Watchers are filled by test data before copy, so collections must be copied with data
+ * and must not share data with the source watcher (changes of the source after copy
+ * must not change the copy).
+ */
+public class WatchersCopyTest {
+
+    @Test
+    public void test_CopyAllWatchers() throws Exception {
+        List<String> packages = new ArrayList<>();
+        packages.add("mage.watchers.common");
+        for (char c = 'a'; c <= 'z'; c++) {
+            packages.add("mage.cards." + c);
+        }
+
+        Set<Class<?>> watcherClasses = new LinkedHashSet<>();
+        for (Class<?> clazz : ClassScanner.findClasses(null, packages, Object.class)) {
+            collectWatchers(clazz, watcherClasses);
+        }
+        Assert.assertTrue("can't find watchers", watcherClasses.size() > 300);
+
+        List<String> errors = new ArrayList<>();
+        int filledWatchers = 0;
+        for (Class<?> watcherClass : watcherClasses) {
+            Watcher watcher = createWatcher(watcherClass);
+            if (watcher == null) {
+                errors.add(watcherClass.getName() + ": can't create watcher");
+                continue;
+            }
+            if (fillWatcher(watcher)) {
+                filledWatchers++;
+            }
+            String error = checkCopy(watcher);
+            if (error != null) {
+                errors.add(watcherClass.getName() + ": " + error);
+            }
+        }
+        Assert.assertTrue("can't fill watchers by test data: " + filledWatchers + " of " + watcherClasses.size(), filledWatchers > 250);
+        Assert.assertTrue("found watchers with wrong copy:\n" + String.join("\n", errors), errors.isEmpty());
+    }
+
+    private static void collectWatchers(Class<?> clazz, Set<Class<?>> watcherClasses) {
+        if (Watcher.class.isAssignableFrom(clazz) && !Modifier.isAbstract(clazz.getModifiers())) {
+            watcherClasses.add(clazz);
+        }
+        for (Class<?> innerClass : clazz.getDeclaredClasses()) {
+            collectWatchers(innerClass, watcherClasses);
+        }
+    }
+
+    /**
+     * Copied fields: watcher class and its parent class (same as watcher's copy)
+     */
+    private static List<Field> getCopiedFields(Class<?> watcherClass) {
+        List<Field> fields = new ArrayList<>();
+        fields.addAll(Arrays.asList(watcherClass.getDeclaredFields()));
+        fields.addAll(Arrays.asList(watcherClass.getSuperclass().getDeclaredFields()));
+        return fields.stream()
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .peek(field -> field.setAccessible(true))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return true if any collection of the watcher was filled
+     */
+    private static boolean fillWatcher(Watcher watcher) throws Exception {
+        boolean filled = false;
+        for (Field field : getCopiedFields(watcher.getClass())) {
+            Object value = field.get(watcher);
+            if (value == null) {
+                continue;
+            }
+            // two elements, so ordered collections check the order too
+            filled |= addTestData(value, field.getGenericType());
+            filled |= addTestData(value, field.getGenericType());
+            if (!Modifier.isFinal(field.getModifiers())) {
+                if (field.getType() == int.class) {
+                    field.setInt(watcher, 7);
+                } else if (field.getType() == boolean.class) {
+                    field.setBoolean(watcher, !field.getBoolean(watcher));
+                }
+            }
+        }
+        return filled;
+    }
+
+    private static String checkCopy(Watcher watcher) throws Exception {
+        Watcher copy = watcher.copy();
+        if (copy == null) {
+            return "can't copy watcher";
+        }
+        if (copy == watcher || copy.getClass() != watcher.getClass()) {
+            return "copy must be a new object of the same class";
+        }
+
+        List<Field> fields = getCopiedFields(watcher.getClass());
+        for (Field field : fields) {
+            Object value = field.get(watcher);
+            Object copiedValue = field.get(copy);
+            if (!Objects.equals(toComparableData(value), toComparableData(copiedValue))) {
+                return "field " + field.getName() + " has different value after copy";
+            }
+            if (copiedValue != null && copiedValue == value && isMutableData(value)) {
+                return "field " + field.getName() + " must be copied instead of shared";
+            }
+        }
+
+        // changes of the source must not change the copy (nested data too)
+        for (Field field : fields) {
+            Object value = field.get(watcher);
+            Object copiedValue = field.get(copy);
+            if (value == null) {
+                continue;
+            }
+            String error = checkIndependentData(field.getName(), value, copiedValue, field.getGenericType());
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Player lists are compared by objects, so compare its data instead
+     */
+    @SuppressWarnings("unchecked")
+    private static Object toComparableData(Object value) {
+        if (value instanceof PlayerList) {
+            return new ArrayList<>((PlayerList) value);
+        } else if (value instanceof Map) {
+            Map<Object, Object> res = new HashMap<>();
+            ((Map<Object, Object>) value).forEach((k, v) -> res.put(k, toComparableData(v)));
+            return res;
+        }
+        return value;
+    }
+
+    private static boolean isMutableData(Object value) {
+        return value instanceof Collection || value instanceof Map;
+    }
+
+    /**
+     * Add new data to the source and check that the copy doesn't get it
+     */
+    @SuppressWarnings("unchecked")
+    private static String checkIndependentData(String name, Object value, Object copiedValue, Type type) {
+        if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            Map<Object, Object> copiedMap = (Map<Object, Object>) copiedValue;
+            Type valueType = getTypeArgument(type, 1);
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                Object nestedValue = entry.getValue();
+                if (nestedValue != null && isMutableData(nestedValue)) {
+                    if (nestedValue == copiedMap.get(entry.getKey())) {
+                        return "field " + name + " must copy map values instead of sharing";
+                    }
+                    String error = checkIndependentData(name, nestedValue, copiedMap.get(entry.getKey()), valueType);
+                    if (error != null) {
+                        return error;
+                    }
+                }
+            }
+            Object newKey = createTestValue(getTypeArgument(type, 0));
+            Object newValue = createTestValue(valueType);
+            if (newKey != null && newValue != null) {
+                map.put(newKey, newValue);
+                if (copiedMap.containsKey(newKey)) {
+                    return "field " + name + " shares map data with the source";
+                }
+            }
+        } else if (value instanceof Collection) {
+            Object element = createCollectionTestValue(value, type);
+            if (element != null && addElement(value, element)
+                    && ((Collection<Object>) copiedValue).contains(element)) {
+                return "field " + name + " shares collection data with the source";
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean addTestData(Object value, Type type) {
+        if (value instanceof Map) {
+            Object key = createTestValue(getTypeArgument(type, 0));
+            Object mapValue = createTestValue(getTypeArgument(type, 1));
+            if (key == null || mapValue == null) {
+                return false;
+            }
+            ((Map<Object, Object>) value).put(key, mapValue);
+            return true;
+        } else if (value instanceof Collection) {
+            Object element = createCollectionTestValue(value, type);
+            return element != null && addElement(value, element);
+        }
+        return false;
+    }
+
+    private static Object createCollectionTestValue(Object collection, Type type) {
+        if (collection instanceof Cards || collection instanceof PlayerList) {
+            // no type arguments in field's type
+            return UUID.randomUUID();
+        }
+        return createTestValue(getTypeArgument(type, 0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean addElement(Object collection, Object element) {
+        try {
+            return ((Collection<Object>) collection).add(element);
+        } catch (UnsupportedOperationException | ClassCastException e) {
+            // immutable or sorted collection with not comparable data
+            return false;
+        }
+    }
+
+    private static Type getTypeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return new unique test value of the type or null for unsupported types
+     */
+    private static Object createTestValue(Type type) {
+        Class<?> rawType;
+        if (type instanceof Class) {
+            rawType = (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+        } else {
+            return null;
+        }
+
+        if (rawType == UUID.class) {
+            return UUID.randomUUID();
+        } else if (rawType == MageObjectReference.class) {
+            return new MageObjectReference(UUID.randomUUID());
+        } else if (rawType == String.class) {
+            return UUID.randomUUID().toString();
+        } else if (rawType == Integer.class) {
+            return new Random().nextInt();
+        } else if (rawType == Long.class) {
+            return new Random().nextLong();
+        } else if (rawType == Boolean.class) {
+            return Boolean.TRUE;
+        } else if (rawType == Cards.class) {
+            return new CardsImpl(Collections.singleton(UUID.randomUUID()));
+        } else if (rawType == PlayerList.class) {
+            PlayerList playerList = new PlayerList();
+            playerList.add(UUID.randomUUID());
+            return playerList;
+        } else if (rawType == SortedSet.class) {
+            Object element = createTestValue(getTypeArgument(type, 0));
+            return element == null ? null : new TreeSet<>(Collections.singleton(element));
+        } else if (rawType == Set.class) {
+            Object element = createTestValue(getTypeArgument(type, 0));
+            return element == null ? null : new HashSet<>(Collections.singleton(element));
+        } else if (rawType == List.class) {
+            Object element = createTestValue(getTypeArgument(type, 0));
+            return element == null ? null : new ArrayList<>(Collections.singleton(element));
+        } else if (rawType == Map.class) {
+            Object key = createTestValue(getTypeArgument(type, 0));
+            Object value = createTestValue(getTypeArgument(type, 1));
+            if (key == null || value == null) {
+                return null;
+            }
+            Map<Object, Object> map = new HashMap<>();
+            map.put(key, value);
+            return map;
+        }
+        return null;
+    }
+
+    private static Watcher createWatcher(Class<?> watcherClass) throws Exception {
+        Constructor<?>[] constructors = watcherClass.getDeclaredConstructors();
+        if (constructors.length != 1) {
+            return null;
+        }
+        Constructor<?> constructor = constructors[0];
+        constructor.setAccessible(true);
+        Object[] args = new Object[constructor.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            Class<?> type = constructor.getParameterTypes()[i];
+            if (type == boolean.class) {
+                args[i] = false;
+            } else if (type == int.class) {
+                args[i] = 0;
+            }
+        }
+        return (Watcher) constructor.newInstance(args);
+    }
+}
@@ -269,7 +269,7 @@ public class Modes extends LinkedHashMap<UUID, Mode> {
             this.clearSelectedModes();
             if (this.isRandom) {
                 List<Mode> modes = getAvailableModes(source, game);
-                this.addSelectedMode(modes.get(RandomUtil.nextInt(modes.size())).getId());
+                this.addSelectedMode(modes.get(RandomUtil.nextInt(modes.size(), game)).getId());
                 return true;
             }
 
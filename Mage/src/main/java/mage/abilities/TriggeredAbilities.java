@@ -27,16 +27,111 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
 
     private final Map<String, List<UUID>> sources = new HashMap<>();
 
+    // events dispatching index: abilities by supported event types and abilities without declared types (any event)
+    // (must be updated on each put/remove, so use only that methods for changes)
+    private final Map<GameEvent.EventType, Map<String, TriggeredAbility>> abilitiesByEventType = new EnumMap<>(GameEvent.EventType.class);
+    private final Map<String, TriggeredAbility> anyEventAbilities = new ConcurrentHashMap<>();
+
+    // abilities with overridden checkEventType can't use declared event types from parent class
+    private static final ClassValue<Boolean> eventTypesSupported = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> typesClass = type.getMethod("getTriggerEventTypes").getDeclaringClass();
+                Class<?> checkClass = type.getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass();
+                return checkClass.isAssignableFrom(typesClass);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     public TriggeredAbilities() {
     }
 
     public TriggeredAbilities(final TriggeredAbilities abilities) {
         for (Map.Entry<String, TriggeredAbility> entry : abilities.entrySet()) {
-            this.put(entry.getKey(), entry.getValue().copy());
+            super.put(entry.getKey(), entry.getValue().copy());
         }
         for (Map.Entry<String, List<UUID>> entry : abilities.sources.entrySet()) {
             sources.put(entry.getKey(), entry.getValue());
         }
+        // copy index as is, without event types search
+        for (Map.Entry<GameEvent.EventType, Map<String, TriggeredAbility>> entry : abilities.abilitiesByEventType.entrySet()) {
+            abilitiesByEventType.put(entry.getKey(), copyIndex(entry.getValue()));
+        }
+        anyEventAbilities.putAll(copyIndex(abilities.anyEventAbilities));
+    }
+
+    private Map<String, TriggeredAbility> copyIndex(Map<String, TriggeredAbility> sourceIndex) {
+        Map<String, TriggeredAbility> res = new ConcurrentHashMap<>();
+        for (String key : sourceIndex.keySet()) {
+            TriggeredAbility ability = this.get(key);
+            if (ability != null) {
+                res.put(key, ability);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Find supported event types of the triggered ability
+     *
+     * @param ability
+     * @return event types or null for any event
+     */
+    public static Set<GameEvent.EventType> getTriggerEventTypes(TriggeredAbility ability) {
+        if (!eventTypesSupported.get(ability.getClass())) {
+            return null;
+        }
+        return ability.getTriggerEventTypes();
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility ability) {
+        TriggeredAbility oldAbility = super.put(key, ability);
+        if (oldAbility != null) {
+            removeFromIndex(key, oldAbility);
+        }
+        Set<GameEvent.EventType> eventTypes = getTriggerEventTypes(ability);
+        if (eventTypes == null) {
+            anyEventAbilities.put(key, ability);
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                abilitiesByEventType.computeIfAbsent(eventType, k -> new ConcurrentHashMap<>()).put(key, ability);
+            }
+        }
+        return oldAbility;
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility oldAbility = super.remove(key);
+        if (oldAbility != null) {
+            removeFromIndex((String) key, oldAbility);
+        }
+        return oldAbility;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        abilitiesByEventType.clear();
+        anyEventAbilities.clear();
+    }
+
+    private void removeFromIndex(String key, TriggeredAbility ability) {
+        Set<GameEvent.EventType> eventTypes = getTriggerEventTypes(ability);
+        if (eventTypes == null) {
+            anyEventAbilities.remove(key);
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                Map<String, TriggeredAbility> abilities = abilitiesByEventType.get(eventType);
+                if (abilities != null) {
+                    abilities.remove(key);
+                }
+            }
+        }
     }
 
     public void checkStateTriggers(Game game) {
@@ -49,7 +144,16 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext(); ) {
+        // visit only abilities that can react to that event type
+        Map<String, TriggeredAbility> typedAbilities = abilitiesByEventType.get(event.getType());
+        if (typedAbilities != null) {
+            checkTriggers(typedAbilities.values(), event, game);
+        }
+        checkTriggers(anyEventAbilities.values(), event, game);
+    }
+
+    private void checkTriggers(Collection<TriggeredAbility> abilities, GameEvent event, Game game) {
+        for (Iterator<TriggeredAbility> it = abilities.iterator(); it.hasNext(); ) {
             TriggeredAbility ability = it.next();
             if (ability.checkEventType(event, game)) {
                 checkTrigger(ability, event, game);
@@ -138,11 +242,18 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        String sourceKey = sourceId.toString();
+        for (String key : keySet()) {
+            if (key.endsWith(sourceKey)) {
+                remove(key);
+            }
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        for (String key : sources.keySet()) {
+            remove(key);
+        }
         sources.clear();
     }
 
@@ -153,8 +264,12 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
 
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+        for (Map.Entry<String, TriggeredAbility> entry : entrySet()) {
+            if (game.getObject(entry.getValue().getSourceId()) == null
+                    && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId()))) {
+                remove(entry.getKey());
+            }
+        }
 
     }
 
@@ -4,6 +4,7 @@ package mage.abilities;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +25,20 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Event types that can be accepted by checkEventType. Used by
+     * TriggeredAbilities to skip the ability for any other events.
+     * <p>
+     * Return null for custom checkEventType logic (ability will be checked
+     * for any event). Warning, if you override checkEventType in a child class
+     * then override that method too, otherwise the declared types will be ignored.
+     *
+     * @return event types or null for any event
+     */
+    default Set<GameEvent.EventType> getTriggerEventTypes() {
+        return null;
+    }
+
     /**
      * This method checks if the event has to trigger the ability. It's
      * important to do nothing unique within this method, that can't be done
@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.DamagedPermanentBatchEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -39,6 +42,11 @@ public class DealtDamageToSourceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DAMAGED_PERMANENT_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PERMANENT_BATCH);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         DamagedPermanentBatchEvent dEvent = (DamagedPermanentBatchEvent) event;
@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -50,6 +53,11 @@ public class OnEventTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == eventType;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(eventType);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return allPlayers || event.getPlayerId().equals(this.controllerId);
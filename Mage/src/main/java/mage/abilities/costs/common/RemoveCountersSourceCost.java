@@ -72,7 +72,7 @@ public class RemoveCountersSourceCost extends CostImpl {
                 case 0:
                     return paid;
                 case 1:
-                    toRemove = RandomUtil.randomFromCollection(toChoose);
+                    toRemove = RandomUtil.randomFromCollection(toChoose, game);
                     break;
                 case 2:
                     Iterator<String> iterator = toChoose.iterator();
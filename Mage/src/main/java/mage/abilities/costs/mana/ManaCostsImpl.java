@@ -422,7 +422,7 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
                     int xValue = referenceCosts.getX();
                     this.setX(xValue, xValue);
 
-                    player.getManaPool().restoreMana(pool.getPoolBookmark());
+                    player.getManaPool().restoreMana(pool.getPoolBookmark(), game);
                     game.bookmarkState();
                 }
             }
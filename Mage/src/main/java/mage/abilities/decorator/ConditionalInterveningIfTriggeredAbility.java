@@ -1,6 +1,7 @@
 package mage.abilities.decorator;
 
 import mage.abilities.Modes;
+import mage.abilities.TriggeredAbilities;
 import mage.abilities.TriggeredAbility;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.condition.Condition;
@@ -13,6 +14,7 @@ import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Adds condition to {@link mage.abilities.effects.ContinuousEffect}. Acts as
@@ -67,6 +69,11 @@ public class ConditionalInterveningIfTriggeredAbility extends TriggeredAbilityIm
         return ability.checkEventType(event, game);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return TriggeredAbilities.getTriggerEventTypes(ability);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ability.setSourceId(this.getSourceId());
@@ -1,6 +1,7 @@
 package mage.abilities.decorator;
 
 import mage.abilities.Modes;
+import mage.abilities.TriggeredAbilities;
 import mage.abilities.TriggeredAbility;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.condition.Condition;
@@ -12,6 +13,7 @@ import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Adds condition to {@link mage.abilities.effects.ContinuousEffect}. Acts as
@@ -58,6 +60,11 @@ public class ConditionalTriggeredAbility extends TriggeredAbilityImpl {
         return ability.checkEventType(event, game);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return TriggeredAbilities.getTriggerEventTypes(ability);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ability.setSourceId(this.getSourceId());
@@ -28,11 +28,7 @@ public class ApplyCountersEffect extends ContinuousEffectImpl {
     @Override
     public boolean apply(Layer layer, SubLayer sublayer, Ability source, Game game) {
         if (layer == Layer.AbilityAddingRemovingEffects_6) {
-            for (Permanent permanent : game.getBattlefield().getAllActivePermanents()) {
-                for (AbilityCounter counter : permanent.getCounters(game).getAbilityCounters()) {
-                    permanent.addAbility(counter.getAbility(), source == null ? permanent.getId() : source.getSourceId(), game);
-                }
-            }
+            applyAbilityCounters(source, game);
         }
         if (layer == Layer.PTChangingEffects_7 && sublayer == SubLayer.Counters_7d) {
             for (Permanent permanent : game.getBattlefield().getAllActivePermanents(CardType.CREATURE, game)) {
@@ -45,6 +41,22 @@ public class ApplyCountersEffect extends ContinuousEffectImpl {
         return true;
     }
 
+    /**
+     * Layer 6 part of the effect
+     *
+     * @return true if any ability was added
+     */
+    boolean applyAbilityCounters(Ability source, Game game) {
+        boolean applied = false;
+        for (Permanent permanent : game.getBattlefield().getAllActivePermanents()) {
+            for (AbilityCounter counter : permanent.getCounters(game).getAbilityCounters()) {
+                permanent.addAbility(counter.getAbility(), source == null ? permanent.getId() : source.getSourceId(), game);
+                applied = true;
+            }
+        }
+        return applied;
+    }
+
     @Override
     public boolean hasLayer(Layer layer) {
         return layer == Layer.PTChangingEffects_7 || layer == Layer.AbilityAddingRemovingEffects_6;
@@ -60,6 +60,11 @@ public class ContinuousEffects implements Serializable {
 
     private final Map<String, ContinuousEffectsList<ContinuousEffect>> lastEffectsListOnLayer = new HashMap<>(); // helps to find out new effect timestamps on layers
 
+    // incremental apply: active layered effects can be changed by applied effects only, so apply method
+    // re-evaluates it after changes only (unsorted list of the last evaluation, used inside apply method only)
+    private transient List<ContinuousEffect> lastActiveLayeredEffects = null;
+    private transient boolean layeredEffectsChanged = false;
+
     public ContinuousEffects() {
         applyCounters = new ApplyCountersEffect();
         auraReplacementEffect = new AuraReplacementEffect();
@@ -173,6 +178,23 @@ public class ContinuousEffects implements Serializable {
      * @return effects list ordered by timestamp
      */
     public synchronized List<ContinuousEffect> getLayeredEffects(Game game, String timestampGroupName) {
+        return sortLayeredEffects(findActiveLayeredEffects(game), timestampGroupName);
+    }
+
+    /**
+     * Same as {@link #getLayeredEffects(Game, String)}, but for apply method only: the active effects list is
+     * re-evaluated only if any effect was applied after the last evaluation, otherwise the result is the same
+     * (timestamps are updated in both cases)
+     */
+    private List<ContinuousEffect> reloadLayeredEffects(Game game, String timestampGroupName) {
+        if (lastActiveLayeredEffects == null || layeredEffectsChanged) {
+            lastActiveLayeredEffects = findActiveLayeredEffects(game);
+            layeredEffectsChanged = false;
+        }
+        return sortLayeredEffects(new ArrayList<>(lastActiveLayeredEffects), timestampGroupName);
+    }
+
+    private List<ContinuousEffect> findActiveLayeredEffects(Game game) {
         List<ContinuousEffect> layerEffects = new ArrayList<>();
         for (ContinuousEffect effect : layeredEffects) {
             switch (effect.getDuration()) {
@@ -197,7 +219,10 @@ public class ContinuousEffects implements Serializable {
                     layerEffects.add(effect);
             }
         }
+        return layerEffects;
+    }
 
+    private List<ContinuousEffect> sortLayeredEffects(List<ContinuousEffect> layerEffects, String timestampGroupName) {
         updateTimestamps(timestampGroupName, layerEffects);
         layerEffects.sort(Comparator.comparingLong(ContinuousEffect::getOrder));
         /* debug effects apply order:
@@ -981,25 +1006,38 @@ public class ContinuousEffects implements Serializable {
 
     //20091005 - 613
     public synchronized void apply(Game game) {
+        try {
+            applyLayers(game);
+        } finally {
+            lastActiveLayeredEffects = null;
+        }
+    }
+
+    private void applyLayers(Game game) {
         removeInactiveEffects(game);
-        List<ContinuousEffect> activeLayerEffects = getLayeredEffects(game); // main call
+        layeredEffectsChanged = true;
+        List<ContinuousEffect> activeLayerEffects = reloadLayeredEffects(game, "main"); // main call
 
         List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, Layer.CopyEffects_1);
         for (ContinuousEffect effect : layer) {
             Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
                 effect.apply(Layer.CopyEffects_1, SubLayer.CopyEffects_1a, ability, game);
+                layeredEffectsChanged = true;
             }
         }
         for (ContinuousEffect effect : layer) {
             Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
                 effect.apply(Layer.CopyEffects_1, SubLayer.FaceDownEffects_1b, ability, game);
+                layeredEffectsChanged = true;
             }
         }
         //Reload layerEffect if copy effects were applied
-        if (!layer.isEmpty()) {
-            activeLayerEffects = getLayeredEffects(game, "layer_1");
+        // (permanents are reset before apply, so copies can be made by that layer only)
+        boolean copyEffectsApplied = !layer.isEmpty();
+        if (copyEffectsApplied) {
+            activeLayerEffects = reloadLayeredEffects(game, "layer_1");
         }
 
         layer = filterLayeredEffects(activeLayerEffects, Layer.ControlChangingEffects_2);
@@ -1019,21 +1057,28 @@ public class ContinuousEffects implements Serializable {
             }
             // reset control before reapplying control changing effects
             game.getBattlefield().resetPermanentsControl();
+            layeredEffectsChanged = true;
+        }
+        // control check can change controller of copied abilities
+        if (!layer.isEmpty() || copyEffectsApplied) {
+            layeredEffectsChanged = true;
         }
 
         applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3");
-        activeLayerEffects = getLayeredEffects(game, "layer_3");
+        activeLayerEffects = reloadLayeredEffects(game, "layer_3");
         applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4");
-        activeLayerEffects = getLayeredEffects(game, "layer_4");
+        activeLayerEffects = reloadLayeredEffects(game, "layer_4");
         applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5");
-        activeLayerEffects = getLayeredEffects(game, "layer_5");
+        activeLayerEffects = reloadLayeredEffects(game, "layer_5");
 
         Map<ContinuousEffect, List<Ability>> appliedEffectAbilities = new HashMap<>();
         boolean done = false;
         Map<ContinuousEffect, Set<UUID>> waitingEffects = new LinkedHashMap<>();
         Set<UUID> appliedEffects = new HashSet<>();
-        applyCounters.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, null, game);
-        activeLayerEffects = getLayeredEffects(game, "layer_6");
+        if (applyCounters.applyAbilityCounters(null, game)) {
+            layeredEffectsChanged = true;
+        }
+        activeLayerEffects = reloadLayeredEffects(game, "layer_6");
 
         while (!done) { // loop needed if a added effect adds again an effect (e.g. Level 5- of Joraga Treespeaker)
             done = true;
@@ -1088,7 +1133,8 @@ public class ContinuousEffects implements Serializable {
                     effect.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                     done = false;
                     // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                    activeLayerEffects = getLayeredEffects(game, "apply");
+                    layeredEffectsChanged = true;
+                    activeLayerEffects = reloadLayeredEffects(game, "apply");
                 }
                 appliedEffects.add(effect.getId());
 
@@ -1115,7 +1161,8 @@ public class ContinuousEffects implements Serializable {
                         entry.getKey().apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                         done = false;
                         // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                        activeLayerEffects = getLayeredEffects(game, "apply");
+                        layeredEffectsChanged = true;
+                        activeLayerEffects = reloadLayeredEffects(game, "apply");
                     }
                     appliedEffects.add(entry.getKey().getId());
                     iterator.remove();
@@ -1233,6 +1280,7 @@ public class ContinuousEffects implements Serializable {
             //effect.apply(currentLayer, SubLayer.NA, ability, game);
             if (isAbilityStillExists(game, ability, effect)) {
                 effect.apply(currentLayer, SubLayer.NA, ability, game);
+                layeredEffectsChanged = true;
             }
         }
     }
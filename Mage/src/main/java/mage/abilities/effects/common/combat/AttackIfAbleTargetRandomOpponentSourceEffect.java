@@ -37,7 +37,7 @@ public class AttackIfAbleTargetRandomOpponentSourceEffect extends OneShotEffect
             return false;
         }
         List<UUID> opponents = new ArrayList<>(game.getOpponents(controller.getId()));
-        Player opponent = game.getPlayer(opponents.get(RandomUtil.nextInt(opponents.size())));
+        Player opponent = game.getPlayer(opponents.get(RandomUtil.nextInt(opponents.size(), game)));
         if (opponent != null) {
             game.informPlayers(opponent.getLogName() + " was chosen at random.");
             ContinuousEffect effect = new AttacksIfAbleTargetPlayerSourceEffect();
@@ -13,6 +13,8 @@ import mage.util.TreeNode;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -32,6 +34,16 @@ public class ManaOptions extends LinkedHashSet<Mana> {
 
     private static final Logger logger = Logger.getLogger(ManaOptions.class);
 
+    // max amount of mana variations, protection from combinatorial explosion on boards with many multi-color sources
+    // (e.g. 5-color commander with ramp), can be changed by -Dxmage.manaOptions.maxSize=xxx
+    public static final int MAX_MANA_OPTIONS = Math.max(1, Integer.getInteger("xmage.manaOptions.maxSize", 2000));
+
+    // ignored variations can make some spells unplayable, so warn about it, but not more than once per minute
+    // (same board gives same warning on each playable calculation)
+    private static final long SKIPPED_WARNING_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final AtomicLong skippedSinceWarning = new AtomicLong();
+    private static final AtomicLong nextSkippedWarningTime = new AtomicLong();
+
     public ManaOptions() {
     }
 
@@ -97,16 +109,39 @@ public class ManaOptions extends LinkedHashSet<Mana> {
         Mana newMana;
 
         List<Mana> copy = new ArrayList<>(this);
-        this.clear();
+        ManaOptionsFrontier newOptions = new ManaOptionsFrontier(MAX_MANA_OPTIONS);
         for (Mana netMana : netManas) {
             for (Mana mana : copy) {
                 if (!ability.hasTapCost() || checkManaReplacementAndTriggeredMana(ability, game, netMana)) {
                     newMana = mana.copy();
                     newMana.add(netMana);
-                    this.add(newMana);
+                    newOptions.add(newMana);
                 }
             }
         }
+        setOptions(newOptions);
+    }
+
+    /**
+     * Replace all options by new variations (variations are already without fully included mana)
+     */
+    private void setOptions(ManaOptionsFrontier newOptions) {
+        this.clear();
+        this.addAll(newOptions);
+        if (newOptions.getSkippedByLimit() > 0) {
+            warnSkippedByLimit(newOptions.getSkippedByLimit());
+        }
+    }
+
+    private static void warnSkippedByLimit(long skipped) {
+        long skippedTotal = skippedSinceWarning.addAndGet(skipped);
+        long now = System.currentTimeMillis();
+        long nextTime = nextSkippedWarningTime.get();
+        if (now >= nextTime && nextSkippedWarningTime.compareAndSet(nextTime, now + SKIPPED_WARNING_INTERVAL_MS)) {
+            skippedSinceWarning.addAndGet(-skippedTotal);
+            logger.warn("Too many mana variations, ignored " + skippedTotal + " of them since last warning (limit "
+                    + MAX_MANA_OPTIONS + ", can be changed by -Dxmage.manaOptions.maxSize)");
+        }
     }
 
     private static List<List<Mana>> getSimulatedTriggeredManaFromPlayer(Game game, Ability ability) {
@@ -167,18 +202,19 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                             addTriggeredMana(game, ability);
                         } else {
                             List<Mana> copy = new ArrayList<>(this);
-                            this.clear();
+                            ManaOptionsFrontier newOptions = new ManaOptionsFrontier(MAX_MANA_OPTIONS);
                             for (Mana netMana : netManas) {
                                 checkManaReplacementAndTriggeredMana(ability, game, netMana);
                                 for (Mana triggeredManaVariation : getTriggeredManaVariations(game, ability, netMana)) {
                                     for (Mana mana : copy) {
                                         Mana newMana = new Mana(mana);
                                         newMana.add(triggeredManaVariation);
-                                        this.add(newMana);
+                                        newOptions.add(newMana);
                                         wasUsable = true;
                                     }
                                 }
                             }
+                            setOptions(newOptions);
                         }
                     } else {// The ability has mana costs
                         List<Mana> copy = new ArrayList<>(this);
@@ -312,14 +348,15 @@ public class ManaOptions extends LinkedHashSet<Mana> {
             } else if (triggeredNetMana.size() > 1) {
                 // Add variations
                 List<Mana> copy = new ArrayList<>(this);
-                this.clear();
+                ManaOptionsFrontier newOptions = new ManaOptionsFrontier(MAX_MANA_OPTIONS);
                 for (Mana triggeredMana : triggeredNetMana) {
                     for (Mana mana : copy) {
                         Mana newMana = new Mana(mana);
                         newMana.add(triggeredMana);
-                        this.add(newMana);
+                        newOptions.add(newMana);
                     }
                 }
+                setOptions(newOptions);
             }
         }
     }
@@ -520,28 +557,16 @@ public class ManaOptions extends LinkedHashSet<Mana> {
      * E.g. If both {R} and {R}{W} are in this, then {R} will be removed.
      */
     public void removeFullyIncludedVariations() {
-        List<Mana> that = new ArrayList<>(this);
-        Set<String> list = new HashSet<>();
-
-        for (int i = this.size() - 1; i >= 0; i--) {
-            String s;
-            if (that.get(i) instanceof ConditionalMana) {
-                s = that.get(i).toString() + ((ConditionalMana) that.get(i)).getConditionString();
-            } else {
-                s = that.get(i).toString();
-            }
-            if (s.isEmpty()) {
-                this.remove(i);
-            } else if (list.contains(s)) {
-                // remove duplicated
-                this.remove(i);
-            } else {
-                list.add(s);
-            }
+        // fast remove of empty, duplicated and fully included simple mana, duplicated conditional mana
+        // (fully included conditional mana will be checked below)
+        ManaOptionsFrontier frontier = new ManaOptionsFrontier(Integer.MAX_VALUE, true);
+        for (Mana mana : this) {
+            frontier.add(mana);
         }
+        List<Mana> that = new ArrayList<>(frontier);
 
         // Remove fully included variations
-        for (int i = this.size() - 1; i >= 0; i--) {
+        for (int i = that.size() - 1; i >= 0; i--) {
             for (int ii = 0; ii < i; ii++) {
                 Mana moreValuable = Mana.getMoreValuableMana(that.get(i), that.get(ii));
                 if (moreValuable != null) {
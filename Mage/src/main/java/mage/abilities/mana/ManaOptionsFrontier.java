@@ -0,0 +1,160 @@
+package mage.abilities.mana;
+
+import mage.ConditionalMana;
+import mage.Mana;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Pareto frontier of mana options: keeps only options that are not fully included in another option,
+ * e.g. {R} is useless with {R}{W}, so it will be removed.
+ * <p>
+ * Each mana is packed to primitive long (8 bits per mana type) and compared by one arithmetic operation
+ * instead Mana objects compare. Mana with special data (conditional mana, flags, big amounts) can't be
+ * packed, so it's kept as is (only duplicated conditional mana with same conditions will be removed).
+ * <p>
+ * Also limits max amount of options to prevent combinatorial explosion (many multi-color sources).
+ */
+final class ManaOptionsFrontier extends AbstractList<Mana> {
+
+    private static final long NOT_PACKED = -1L;
+    private static final long GUARD_BITS = 0x8080808080808080L;
+    private static final int MAX_PACKED_AMOUNT = 0x7F;
+
+    private final int maxSize;
+    private final boolean removeEmpty;
+    private final Set<String> conditionalOptions = new HashSet<>();
+    private Mana[] options = new Mana[16];
+    private long[] vectors = new long[16];
+    private int size = 0;
+    private int skippedByLimit = 0;
+
+    ManaOptionsFrontier(int maxSize) {
+        this(maxSize, false);
+    }
+
+    /**
+     * @param removeEmpty remove options without mana, e.g. final available mana list (while mana calculation
+     *                    an empty option is a start point for next mana sources)
+     */
+    ManaOptionsFrontier(int maxSize, boolean removeEmpty) {
+        this.maxSize = maxSize;
+        this.removeEmpty = removeEmpty;
+    }
+
+    /**
+     * @return true if mana was added as new option
+     */
+    @Override
+    public boolean add(Mana mana) {
+        long vector = pack(mana);
+        if (removeEmpty && vector == 0) {
+            return false;
+        }
+        if (mana instanceof ConditionalMana
+                && conditionalOptions.contains(getConditionalKey((ConditionalMana) mana))) {
+            // duplicated
+            return false;
+        }
+        if (vector != NOT_PACKED) {
+            // already included
+            for (int i = 0; i < size; i++) {
+                if (vectors[i] != NOT_PACKED && includes(vectors[i], vector)) {
+                    return false;
+                }
+            }
+
+            // remove all included options (keep order)
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (vectors[i] != NOT_PACKED && includes(vector, vectors[i])) {
+                    continue;
+                }
+                options[newSize] = options[i];
+                vectors[newSize] = vectors[i];
+                newSize++;
+            }
+            Arrays.fill(options, newSize, size, null);
+            size = newSize;
+        }
+
+        if (size >= maxSize) {
+            skippedByLimit++;
+            return false;
+        }
+        if (size == options.length) {
+            options = Arrays.copyOf(options, size * 2);
+            vectors = Arrays.copyOf(vectors, size * 2);
+        }
+        options[size] = mana;
+        vectors[size] = vector;
+        size++;
+        if (mana instanceof ConditionalMana) {
+            // not packed mana is never removed, so no need to remove keys
+            conditionalOptions.add(getConditionalKey((ConditionalMana) mana));
+        }
+        return true;
+    }
+
+    private static String getConditionalKey(ConditionalMana mana) {
+        return mana.toString() + mana.getConditionString();
+    }
+
+    @Override
+    public Mana get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return options[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Amount of options that was ignored due max size limit
+     */
+    int getSkippedByLimit() {
+        return skippedByLimit;
+    }
+
+    static long pack(Mana mana) {
+        if (mana.getClass() != Mana.class || mana.getFlag()) {
+            return NOT_PACKED;
+        }
+        int white = mana.getWhite();
+        int blue = mana.getBlue();
+        int black = mana.getBlack();
+        int red = mana.getRed();
+        int green = mana.getGreen();
+        int colorless = mana.getColorless();
+        int generic = mana.getGeneric();
+        int any = mana.getAny();
+        int allBits = white | blue | black | red | green | colorless | generic | any;
+        if (allBits < 0 || allBits > MAX_PACKED_AMOUNT) {
+            return NOT_PACKED;
+        }
+        long res = white;
+        res = (res << 8) | blue;
+        res = (res << 8) | black;
+        res = (res << 8) | red;
+        res = (res << 8) | green;
+        res = (res << 8) | colorless;
+        res = (res << 8) | generic;
+        res = (res << 8) | any;
+        return res;
+    }
+
+    /**
+     * @return true if each mana type amount of the first mana is greater or equal to the second
+     */
+    static boolean includes(long mana, long includedMana) {
+        // each byte stores 7 bits amount, so high bit stays after subtraction only for non negative result
+        return (((mana | GUARD_BITS) - includedMana) & GUARD_BITS) == GUARD_BITS;
+    }
+}
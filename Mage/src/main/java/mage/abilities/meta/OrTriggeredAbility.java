@@ -1,6 +1,7 @@
 package mage.abilities.meta;
 
 import mage.abilities.Ability;
+import mage.abilities.TriggeredAbilities;
 import mage.abilities.TriggeredAbility;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -12,7 +13,9 @@ import mage.watchers.Watcher;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -63,6 +66,19 @@ public class OrTriggeredAbility extends TriggeredAbilityImpl {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        Set<GameEvent.EventType> res = EnumSet.noneOf(GameEvent.EventType.class);
+        for (TriggeredAbility ability : triggeredAbilities) {
+            Set<GameEvent.EventType> eventTypes = TriggeredAbilities.getTriggerEventTypes(ability);
+            if (eventTypes == null) {
+                return null;
+            }
+            res.addAll(eventTypes);
+        }
+        return res;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         boolean toRet = false;
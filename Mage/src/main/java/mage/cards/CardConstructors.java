@@ -0,0 +1,113 @@
+package mage.cards;
+
+import mage.cards.repository.PluginClassloaderRegistery;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached card constructors for fast cards creation (decks loading, boosters, sets scan).
+ * <p>
+ * Card class is analysed only once: class search by name and constructors lookup are cached, so the
+ * card creation itself is a plain method handle call instead reflection.
+ */
+final class CardConstructors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private static final MethodType SET_INFO_CONSTRUCTOR_TYPE = MethodType.methodType(Card.class, UUID.class, CardSetInfo.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Card.class, UUID.class);
+
+    private static final ClassValue<CardConstructors> constructors = new ClassValue<CardConstructors>() {
+        @Override
+        protected CardConstructors computeValue(Class<?> type) {
+            return new CardConstructors(type);
+        }
+    };
+
+    // class name -> card class (class search by name is slow and synchronized by class loader)
+    private static final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+
+    private final MethodHandle setInfoConstructor; // (UUID, CardSetInfo)Card
+    private final MethodHandle constructor; // (UUID)Card
+    private final Exception setInfoConstructorError;
+    private final Exception constructorError;
+
+    private CardConstructors(Class<?> cardClass) {
+        MethodHandle newSetInfoConstructor = null;
+        Exception newSetInfoConstructorError = null;
+        try {
+            newSetInfoConstructor = LOOKUP.unreflectConstructor(cardClass.getConstructor(UUID.class, CardSetInfo.class))
+                    .asType(SET_INFO_CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            newSetInfoConstructorError = e;
+        }
+
+        MethodHandle newConstructor = null;
+        Exception newConstructorError = null;
+        try {
+            newConstructor = LOOKUP.unreflectConstructor(cardClass.getConstructor(UUID.class))
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            newConstructorError = e;
+        }
+
+        this.setInfoConstructor = newSetInfoConstructor;
+        this.setInfoConstructorError = newSetInfoConstructorError;
+        this.constructor = newConstructor;
+        this.constructorError = newConstructorError;
+    }
+
+    static Class<?> findClass(String className) throws ClassNotFoundException {
+        Class<?> clazz = classes.get(className);
+        if (clazz == null) {
+            try {
+                clazz = Class.forName(className);
+            } catch (ClassNotFoundException e) {
+                clazz = PluginClassloaderRegistery.forName(className);
+            }
+            classes.put(className, clazz);
+        }
+        return clazz;
+    }
+
+    /**
+     * Find and cache constructors of the card class before real usage
+     *
+     * @return true if card can be created
+     */
+    static boolean prepare(Class<?> cardClass) {
+        CardConstructors cardConstructors = constructors.get(cardClass);
+        return cardConstructors.setInfoConstructor != null || cardConstructors.constructor != null;
+    }
+
+    /**
+     * @param setInfo can be null (card without set info)
+     * @throws InvocationTargetException on errors inside card's constructor (same as reflection call)
+     */
+    static Card create(Class<?> cardClass, CardSetInfo setInfo) throws Exception {
+        CardConstructors cardConstructors = constructors.get(cardClass);
+        try {
+            if (setInfo == null) {
+                if (cardConstructors.constructor == null) {
+                    throw cardConstructors.constructorError;
+                }
+                return (Card) cardConstructors.constructor.invokeExact((UUID) null);
+            } else {
+                if (cardConstructors.setInfoConstructor == null) {
+                    throw cardConstructors.setInfoConstructorError;
+                }
+                return (Card) cardConstructors.setInfoConstructor.invokeExact((UUID) null, setInfo);
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
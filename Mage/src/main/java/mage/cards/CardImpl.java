@@ -11,7 +11,6 @@ import mage.abilities.keyword.FlashbackAbility;
 import mage.abilities.keyword.ReconfigureAbility;
 import mage.abilities.keyword.SunburstAbility;
 import mage.abilities.mana.ActivatedManaAbilityImpl;
-import mage.cards.repository.PluginClassloaderRegistery;
 import mage.constants.*;
 import mage.counters.Counter;
 import mage.counters.Counters;
@@ -29,7 +28,6 @@ import mage.util.ManaUtil;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
@@ -149,13 +147,8 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     public static Card createCard(String name, CardSetInfo setInfo) {
         try {
-            return createCard(Class.forName(name), setInfo);
+            return createCard(CardConstructors.findClass(name), setInfo);
         } catch (ClassNotFoundException ex) {
-            try {
-                return createCard(PluginClassloaderRegistery.forName(name), setInfo);
-            } catch (ClassNotFoundException ex2) {
-                // ignored
-            }
             logger.fatal("Error loading card: " + name, ex);
             return null;
         }
@@ -168,16 +161,10 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     public static Card createCard(Class<?> clazz, CardSetInfo setInfo, List<String> errorList) {
         String setCode = null;
         try {
-            Card card;
-            if (setInfo == null) {
-                Constructor<?> con = clazz.getConstructor(UUID.class);
-                card = (Card) con.newInstance(new Object[]{null});
-            } else {
+            if (setInfo != null) {
                 setCode = setInfo.getExpansionSetCode();
-                Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
-                card = (Card) con.newInstance(null, setInfo);
             }
-            return card;
+            return CardConstructors.create(clazz, setInfo);
         } catch (Exception e) {
             String err = "Error loading card: " + clazz.getCanonicalName() + " (" + setCode + ")";
             if (errorList != null) {
@@ -194,6 +181,22 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         }
     }
 
+    /**
+     * Prepare constructors of the card classes before mass cards creation (e.g. on server start),
+     * so first decks and boosters don't waste time on it
+     *
+     * @return amount of the card classes that can be created
+     */
+    public static int prepareCardClasses(Collection<Class<?>> cardClasses) {
+        int res = 0;
+        for (Class<?> cardClass : cardClasses) {
+            if (CardConstructors.prepare(cardClass)) {
+                res++;
+            }
+        }
+        return res;
+    }
+
     @Override
     public UUID getOwnerId() {
         return ownerId;
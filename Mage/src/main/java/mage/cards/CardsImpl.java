@@ -92,7 +92,7 @@ public class CardsImpl extends LinkedHashSet<UUID> implements Cards, Serializabl
         if (this.isEmpty()) {
             return null;
         }
-        MageObject object = game.getObject(RandomUtil.randomFromCollection(this)); // neccessary if permanent tokens are in the collection
+        MageObject object = game.getObject(RandomUtil.randomFromCollection(this, game)); // neccessary if permanent tokens are in the collection
         if (object instanceof Card) {
             return (Card) object;
         }
@@ -3,6 +3,7 @@ package mage.cards.repository;
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.stmt.PreparedQuery;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
 import com.j256.ormlite.stmt.Where;
@@ -13,6 +14,8 @@ import mage.constants.CardType;
 import mage.constants.SetType;
 import mage.constants.SuperType;
 import mage.util.RandomUtil;
+import mage.util.metrics.MetricTimer;
+import mage.util.metrics.MetricsRegistry;
 import org.apache.log4j.Logger;
 
 import java.io.File;
@@ -36,6 +39,8 @@ public enum CardRepository {
     private static final long CARD_CONTENT_VERSION = 241;
     private Dao<CardInfo, Object> cardDao;
     private Set<String> classNames;
+    private final MetricTimer queryTimer = MetricsRegistry.instance.timer(
+            "xmage_db_query_seconds", "Database query time", "repository", "cards");
 
     // sets with exclusively snow basics
     public static final Set<String> snowLandSetCodes = new HashSet<>(Arrays.asList(
@@ -122,6 +127,15 @@ public enum CardRepository {
         }
     }
 
+    private List<CardInfo> query(PreparedQuery<CardInfo> preparedQuery) throws SQLException {
+        long startTime = System.nanoTime();
+        try {
+            return cardDao.query(preparedQuery);
+        } finally {
+            queryTimer.recordSince(startTime);
+        }
+    }
+
     public static Boolean haveSnowLands(String setCode) {
         return snowLandSetCodes.contains(setCode);
     }
@@ -131,7 +145,7 @@ public enum CardRepository {
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
             qb.distinct().selectColumns("name", "modalDoubleFacesSecondSideName", "secondSideName", "flipCardName");
-            List<CardInfo> results = cardDao.query(qb.prepare());
+            List<CardInfo> results = query(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -147,7 +161,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
             qb.distinct().selectColumns("name", "modalDoubleFacesSecondSideName", "secondSideName", "flipCardName");
             qb.where().not().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
+            List<CardInfo> results = query(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -168,7 +182,7 @@ public enum CardRepository {
                     where.not().like("supertypes", '%' + SuperType.BASIC.name() + '%'),
                     where.like("types", '%' + CardType.LAND.name() + '%')
             );
-            List<CardInfo> results = cardDao.query(qb.prepare());
+            List<CardInfo> results = query(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -185,7 +199,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
             qb.distinct().selectColumns("name", "modalDoubleFacesSecondSideName", "secondSideName", "flipCardName");
             qb.where().not().like("supertypes", new SelectArg('%' + SuperType.BASIC.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
+            List<CardInfo> results = query(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -202,7 +216,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
             qb.distinct().selectColumns("name", "modalDoubleFacesSecondSideName", "secondSideName", "flipCardName");
             qb.where().like("types", new SelectArg('%' + CardType.CREATURE.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
+            List<CardInfo> results = query(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -219,7 +233,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
             qb.distinct().selectColumns("name", "modalDoubleFacesSecondSideName", "secondSideName", "flipCardName");
             qb.where().like("types", new SelectArg('%' + CardType.ARTIFACT.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
+            List<CardInfo> results = query(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -240,7 +254,7 @@ public enum CardRepository {
                     where.not().like("types", '%' + CardType.CREATURE.name() + '%'),
                     where.not().like("types", '%' + CardType.LAND.name() + '%')
             );
-            List<CardInfo> results = cardDao.query(qb.prepare());
+            List<CardInfo> results = query(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -260,7 +274,7 @@ public enum CardRepository {
                     where.not().like("types", '%' + CardType.ARTIFACT.name() + '%'),
                     where.not().like("types", '%' + CardType.LAND.name() + '%')
             );
-            List<CardInfo> results = cardDao.query(qb.prepare());
+            List<CardInfo> results = query(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -292,7 +306,7 @@ public enum CardRepository {
                 // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
                 queryBuilder.orderBy("nightCard", true);
             }
-            List<CardInfo> result = cardDao.query(queryBuilder.prepare());
+            List<CardInfo> result = query(queryBuilder.prepare());
             if (!result.isEmpty()) {
                 return result.get(0);
             }
@@ -321,7 +335,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             queryBuilder.where().not().in("className", classNames);
 
-            return cardDao.query(queryBuilder.prepare());
+            return query(queryBuilder.prepare());
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error getting missing cards from DB : " + ex);
 
@@ -464,18 +478,18 @@ public enum CardRepository {
                 // Could be made faster by searching assuming it's NOT a split card and first searching by the first
                 // half of the name, but this is easier to understand.
                 queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardDao.query(queryBuilder.prepare());
+                results = query(queryBuilder.prepare());
 
                 // Result comes back empty, try to search using the first half (could be Adventure, MDFC, etc.)
                 if (results.isEmpty()) {
                     String mainCardName = name.split(" // ", 2)[0];
                     queryBuilder.where().eq("name", new SelectArg(mainCardName));
-                    results = cardDao.query(queryBuilder.prepare());  // If still empty, then card can't be found
+                    results = query(queryBuilder.prepare());  // If still empty, then card can't be found
                 }
             } else { // Cannot tell if string represents the full name of a card or only part of it.
                 // Assume it is the full card name
                 queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardDao.query(queryBuilder.prepare());
+                results = query(queryBuilder.prepare());
 
                 if (results.isEmpty()) {
                     // Nothing found when looking for main name, try looking under the other names
@@ -484,7 +498,7 @@ public enum CardRepository {
                             .eq("secondSideName",                   new SelectArg(name)).or()
                             .eq("adventureSpellName",               new SelectArg(name)).or()
                             .eq("modalDoubleFacesSecondSideName",   new SelectArg(name));
-                    results = cardDao.query(queryBuilder.prepare());
+                    results = query(queryBuilder.prepare());
                 } else {
                     // Check that a full card was found and not a SplitCardHalf
                     // Can be caused by searching for "Fire" instead of "Fire // Ice"
@@ -494,7 +508,7 @@ public enum CardRepository {
                         queryBuilder.where()
                                 .eq("setCode", new SelectArg(firstCardInfo.setCode)).and()
                                 .eq("cardNumber", new SelectArg(firstCardInfo.cardNumber));
-                        List<CardInfo> tmpResults = cardDao.query(queryBuilder.prepare());
+                        List<CardInfo> tmpResults = query(queryBuilder.prepare());
 
                         String fullSplitCardName = null;
                         for (CardInfo cardInfo : tmpResults) {
@@ -508,7 +522,7 @@ public enum CardRepository {
                         }
 
                         queryBuilder.where().eq("name", new SelectArg(fullSplitCardName));
-                        results = cardDao.query(queryBuilder.prepare());
+                        results = query(queryBuilder.prepare());
                     }
                 }
             }
@@ -528,7 +542,7 @@ public enum CardRepository {
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
-            return cardDao.query(queryBuilder.prepare());
+            return query(queryBuilder.prepare());
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement", ex);
         }
@@ -549,7 +563,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
 
-            return cardDao.query(queryBuilder.prepare());
+            return query(queryBuilder.prepare());
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement", ex);
         }
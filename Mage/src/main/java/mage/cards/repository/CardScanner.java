@@ -5,8 +5,10 @@ import org.apache.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author North
@@ -82,6 +84,21 @@ public final class CardScanner {
         CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
     }
 
+    /**
+     * Prepare all card classes from sets for fast cards creation, see {@link CardImpl#prepareCardClasses}
+     *
+     * @return amount of prepared card classes
+     */
+    public static int prepareCardClasses() {
+        Set<Class<?>> cardClasses = new HashSet<>();
+        for (ExpansionSet set : Sets.getInstance().values()) {
+            for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
+                cardClasses.add(setInfo.getCardClass());
+            }
+        }
+        return CardImpl.prepareCardClasses(cardClasses);
+    }
+
     public static List<Card> getAllCards() {
         return getAllCards(true);
     }
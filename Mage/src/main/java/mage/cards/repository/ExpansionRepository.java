@@ -4,11 +4,14 @@ import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.dao.GenericRawResults;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.stmt.PreparedQuery;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
 import mage.game.events.Listener;
+import mage.util.metrics.MetricTimer;
+import mage.util.metrics.MetricsRegistry;
 import org.apache.log4j.Logger;
 
 import java.io.File;
@@ -35,6 +38,8 @@ public enum ExpansionRepository {
     private Dao<ExpansionInfo, Object> expansionDao;
     private RepositoryEventSource eventSource = new RepositoryEventSource();
     public boolean instanceInitialized = false;
+    private final MetricTimer queryTimer = MetricsRegistry.instance.timer(
+            "xmage_db_query_seconds", "Database query time", "repository", "expansions");
 
     ExpansionRepository() {
         File file = new File("db");
@@ -66,6 +71,15 @@ public enum ExpansionRepository {
         eventSource.addListener(listener);
     }
 
+    private List<ExpansionInfo> query(PreparedQuery<ExpansionInfo> preparedQuery) throws SQLException {
+        long startTime = System.nanoTime();
+        try {
+            return expansionDao.query(preparedQuery);
+        } finally {
+            queryTimer.recordSince(startTime);
+        }
+    }
+
     public void saveSets(final List<ExpansionInfo> newSets, final List<ExpansionInfo> updatedSets, long newContentVersion) {
         try {
             expansionDao.callBatchTasks(() -> {
@@ -146,7 +160,7 @@ public enum ExpansionRepository {
             QueryBuilder<ExpansionInfo, Object> qb = expansionDao.queryBuilder();
             qb.orderBy("releaseDate", false);
             qb.where().eq("basicLands", new SelectArg(true));
-            sets = expansionDao.query(qb.prepare());
+            sets = query(qb.prepare());
         } catch (SQLException ex) {
             logger.error(ex);
         }
@@ -158,7 +172,7 @@ public enum ExpansionRepository {
         try {
             QueryBuilder<ExpansionInfo, Object> qb = expansionDao.queryBuilder();
             qb.where().eq("blockName", new SelectArg(blockName));
-            return expansionDao.query(qb.prepare());
+            return query(qb.prepare());
         } catch (SQLException ex) {
             logger.error(ex);
         }
@@ -170,7 +184,7 @@ public enum ExpansionRepository {
         try {
             QueryBuilder<ExpansionInfo, Object> qb = expansionDao.queryBuilder();
             qb.limit(1L).where().eq("code", new SelectArg(setCode));
-            List<ExpansionInfo> expansions = expansionDao.query(qb.prepare());
+            List<ExpansionInfo> expansions = query(qb.prepare());
             if (!expansions.isEmpty()) {
                 set = expansions.get(0);
             }
@@ -185,7 +199,7 @@ public enum ExpansionRepository {
         try {
             QueryBuilder<ExpansionInfo, Object> qb = expansionDao.queryBuilder();
             qb.limit(1L).where().eq("name", new SelectArg(setName));
-            List<ExpansionInfo> expansions = expansionDao.query(qb.prepare());
+            List<ExpansionInfo> expansions = query(qb.prepare());
             if (!expansions.isEmpty()) {
                 set = expansions.get(0);
             }
@@ -199,7 +213,7 @@ public enum ExpansionRepository {
         try {
             QueryBuilder<ExpansionInfo, Object> qb = expansionDao.queryBuilder();
             qb.orderBy("releaseDate", true);
-            return expansionDao.query(qb.prepare());
+            return query(qb.prepare());
         } catch (SQLException ex) {
             logger.error(ex);
         }
@@ -0,0 +1,210 @@
+package mage.game;
+
+import mage.util.BinaryDelta;
+import mage.util.Copier;
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Memory-lean game states history for long games and replays.
+ * <p>
+ * Keeps serialized states instead of live copies: a full compressed key frame
+ * every keyFrameInterval states and compressed binary deltas to the previous
+ * state between them. Any state can be restored by key frame + deltas.
+ * <p>
+ * Each returned state is a new deserialized object, so it's safe to change it.
+ * <p>
+ * Each save serializes the full state (deltas are made from serialized data), so it's slower
+ * than a live copy: about 2x on the complex board of GameStatesSaveBenchmark. Use it for
+ * long histories only (save game mode), where memory matters more.
+ */
+public class DeltaGameStates extends GameStates {
+
+    private static final Logger logger = Logger.getLogger(DeltaGameStates.class);
+
+    public static final int DEFAULT_KEY_FRAME_INTERVAL = 25;
+
+    private final int keyFrameInterval;
+    private final List<byte[]> frames; // key frame or delta to previous state, compressed
+
+    // serialized data of the last used state (base for next delta and cache for sequential replay)
+    private transient int cachedIndex = -1;
+    private transient byte[] cachedData;
+
+    public DeltaGameStates() {
+        this(DEFAULT_KEY_FRAME_INTERVAL);
+    }
+
+    public DeltaGameStates(int keyFrameInterval) {
+        this(keyFrameInterval, new ArrayList<>());
+    }
+
+    /**
+     * Restore saved history (example: replay file can give frames by demand instead loading it all to memory)
+     *
+     * @param keyFrameInterval must be same as in the original history
+     * @param frames           frames from {@link #getFrame(int)}
+     */
+    public DeltaGameStates(int keyFrameInterval, List<byte[]> frames) {
+        if (keyFrameInterval < 1) {
+            throw new IllegalArgumentException("Wrong key frame interval: " + keyFrameInterval);
+        }
+        this.keyFrameInterval = keyFrameInterval;
+        this.frames = frames;
+    }
+
+    @Override
+    public void save(GameState gameState) {
+        byte[] data = new Copier<GameState>().toBytes(gameState);
+        int index = frames.size();
+        if (isKeyFrame(index)) {
+            frames.add(compress(data));
+        } else {
+            frames.add(compress(BinaryDelta.diff(getData(index - 1), data)));
+        }
+        cachedIndex = index;
+        cachedData = data;
+        logger.trace("Saved game state: " + frames.size());
+    }
+
+    @Override
+    public int getSize() {
+        return frames.size();
+    }
+
+    @Override
+    public GameState rollback(int index) {
+        if (!frames.isEmpty() && index < frames.size()) {
+            while (frames.size() > index + 1) {
+                frames.remove(frames.size() - 1);
+            }
+            logger.trace("Rolling back state: " + index);
+            return get(index);
+        }
+        return null;
+    }
+
+    @Override
+    public int remove(int index) {
+        if (!frames.isEmpty() && index < frames.size()) {
+            while (frames.size() > index && !frames.isEmpty()) {
+                frames.remove(frames.size() - 1);
+            }
+            if (cachedIndex >= frames.size()) {
+                cachedIndex = -1;
+                cachedData = null;
+            }
+        }
+        return frames.size();
+    }
+
+    @Override
+    public GameState get(int index) {
+        if (index >= 0 && index < frames.size()) {
+            return new Copier<GameState>().fromBytes(getData(index));
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        frames.clear();
+        cachedIndex = -1;
+        cachedData = null;
+    }
+
+    /**
+     * Memory usage of the stored history (compressed)
+     */
+    public long getStoredBytes() {
+        long res = 0;
+        for (byte[] frame : frames) {
+            res += frame.length;
+        }
+        return res;
+    }
+
+    public int getKeyFrameInterval() {
+        return keyFrameInterval;
+    }
+
+    /**
+     * Stored data of the state (compressed key frame or delta), can be used to save history
+     */
+    public byte[] getFrame(int index) {
+        return frames.get(index);
+    }
+
+    private boolean isKeyFrame(int index) {
+        return index % keyFrameInterval == 0;
+    }
+
+    private byte[] getData(int index) {
+        if (index == cachedIndex && cachedData != null) {
+            return cachedData;
+        }
+
+        // restore from cached state (sequential replay) or from nearest key frame
+        int keyFrameIndex = index - index % keyFrameInterval;
+        int startIndex;
+        byte[] data;
+        if (cachedData != null && cachedIndex >= keyFrameIndex && cachedIndex < index) {
+            startIndex = cachedIndex;
+            data = cachedData;
+        } else {
+            startIndex = keyFrameIndex;
+            data = decompress(frames.get(keyFrameIndex));
+        }
+        for (int i = startIndex + 1; i <= index; i++) {
+            data = BinaryDelta.patch(data, decompress(frames.get(i)));
+        }
+
+        cachedIndex = index;
+        cachedData = data;
+        return data;
+    }
+
+    private static byte[] compress(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int size = deflater.deflate(buffer);
+                out.write(buffer, 0, size);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int size = inflater.inflate(buffer);
+                if (size == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("Can't restore game state: unexpected end of data");
+                }
+                out.write(buffer, 0, size);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Can't restore game state: wrong data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
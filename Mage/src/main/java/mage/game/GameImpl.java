@@ -67,6 +67,8 @@ import mage.util.GameLog;
 import mage.util.MessageToClient;
 import mage.util.RandomUtil;
 import mage.util.functions.CopyApplier;
+import mage.util.metrics.MetricTimer;
+import mage.util.metrics.MetricsRegistry;
 import mage.watchers.Watcher;
 import mage.watchers.common.*;
 import org.apache.log4j.Logger;
@@ -92,8 +94,19 @@ public abstract class GameImpl implements Game {
     private static final String UNIT_TESTS_ERROR_TEXT = "Error in unit tests";
     private static final Logger logger = Logger.getLogger(GameImpl.class);
 
+    private static final MetricTimer APPLY_EFFECTS_TIMER = MetricsRegistry.instance.timer(
+            "xmage_game_apply_effects_seconds", "Continuous effects apply time", "simulation", "false");
+    private static final MetricTimer APPLY_EFFECTS_SIMULATION_TIMER = MetricsRegistry.instance.timer(
+            "xmage_game_apply_effects_seconds", "Continuous effects apply time", "simulation", "true");
+    private static final String PRIORITY_LATENCY_METRIC = "xmage_game_priority_latency_seconds";
+    private static final String PRIORITY_LATENCY_HELP = "Priority loop time before player gets priority (state checks, triggers, effects, state saving)";
+    private static final String AI_THINK_METRIC = "xmage_ai_think_seconds";
+    private static final String AI_THINK_HELP = "Priority decision time of computer players";
+
     private transient Object customData; // temporary data, used in AI simulations
     private transient Player losingPlayer; // temporary data, used in AI simulations
+    private transient MetricTimer priorityLatencyTimer; // per game metrics, real games only
+    private transient MetricTimer aiThinkTimer;
     protected boolean simulation = false;
     protected boolean checkPlayableState = false;
 
@@ -410,27 +423,22 @@ public abstract class GameImpl implements Game {
         if (objectId == null) {
             return null;
         }
-        MageObject object;
-        if (state.getBattlefield().containsPermanent(objectId)) {
-            object = state.getBattlefield().getPermanent(objectId);
+        // all zones use indexed search, so it's a few hash lookups only
+        MageObject object = state.getBattlefield().getPermanent(objectId);
+        if (object != null) {
             return object;
         }
-        if (getPermanentsEntering().containsKey(objectId)) {
-            return getPermanentEntering(objectId);
+        object = getPermanentEntering(objectId);
+        if (object != null) {
+            return object;
         }
-        for (StackObject item : state.getStack()) {
-            if (item.getId().equals(objectId)) {
-                return item;
-            }
-            if (item instanceof Spell && item.getSourceId().equals(objectId)) {
-                return item;
-            }
+        object = state.getStack().findObject(objectId);
+        if (object != null) {
+            return object;
         }
-
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        object = state.getCommand().getCommandObject(objectId);
+        if (object != null) {
+            return object;
         }
 
         object = getCard(objectId);
@@ -464,9 +472,8 @@ public abstract class GameImpl implements Game {
         if (objectId == null) {
             return null;
         }
-        MageObject object;
-        if (state.getBattlefield().containsPermanent(objectId)) {
-            object = state.getBattlefield().getPermanent(objectId);
+        MageObject object = state.getBattlefield().getPermanent(objectId);
+        if (object != null) {
             return object;
         }
         // can be an ability of a sacrificed Token trying to get it's source object
@@ -474,18 +481,13 @@ public abstract class GameImpl implements Game {
         if (object != null) {
             return object;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject instanceof Commander && commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        CommandObject commandObject = state.getCommand().getCommandObject(objectId);
+        if (commandObject instanceof Commander) {
+            return commandObject;
         }
         object = getCard(objectId);
         if (object == null) {
-            for (CommandObject commandObject : state.getCommand()) {
-                if (commandObject.getId().equals(objectId)) {
-                    return commandObject;
-                }
-            }
+            return commandObject;
         }
         return object;
     }
@@ -495,12 +497,7 @@ public abstract class GameImpl implements Game {
         if (objectId == null) {
             return null;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
-        }
-        return null;
+        return state.getCommand().getCommandObject(objectId);
     }
 
     @Override
@@ -934,12 +931,33 @@ public abstract class GameImpl implements Game {
     public void cleanUp() {
         gameCards.clear();
         meldCards.clear();
+        removeMetrics();
+    }
+
+    private void initMetrics() {
+        if (priorityLatencyTimer == null) {
+            String gameId = getId().toString();
+            priorityLatencyTimer = MetricsRegistry.instance.timer(PRIORITY_LATENCY_METRIC, PRIORITY_LATENCY_HELP, "game", gameId);
+            aiThinkTimer = MetricsRegistry.instance.timer(AI_THINK_METRIC, AI_THINK_HELP, "game", gameId);
+        }
+    }
+
+    private void removeMetrics() {
+        if (priorityLatencyTimer != null) {
+            String gameId = getId().toString();
+            MetricsRegistry.instance.remove(PRIORITY_LATENCY_METRIC, "game", gameId);
+            MetricsRegistry.instance.remove(AI_THINK_METRIC, "game", gameId);
+            priorityLatencyTimer = null;
+            aiThinkTimer = null;
+        }
     }
 
     @Override
     public void start(UUID choosingPlayerId) {
         startTime = new Date();
         if (state.getPlayers().values().iterator().hasNext()) {
+            // seed is stored in the game state too (saved games and replays)
+            logger.debug("Game " + getId() + " starts with random seed " + state.getRandomSeed());
             init(choosingPlayerId);
             play(startingPlayerId);
         }
@@ -1373,7 +1391,7 @@ public abstract class GameImpl implements Game {
         UUID[] players = getPlayers().keySet().toArray(new UUID[0]);
         UUID playerId;
         while (!hasEnded()) {
-            playerId = players[RandomUtil.nextInt(players.length)];
+            playerId = players[RandomUtil.nextInt(players.length, this)];
             Player player = getPlayer(playerId);
             if (player != null && player.canRespond()) {
                 fireInformEvent(state.getPlayer(playerId).getLogName() + " won the toss");
@@ -1424,6 +1442,8 @@ public abstract class GameImpl implements Game {
             for (Player player : state.getPlayers().values()) {
                 player.abort();
             }
+
+            removeMetrics();
         }
     }
 
@@ -1550,6 +1570,7 @@ public abstract class GameImpl implements Game {
                         state.setPriorityPlayerId(player.getId());
                         while (!player.isPassed() && player.canRespond() && !isPaused() && !checkIfGameIsOver()) {
                             if (!resuming) {
+                                long priorityStartTime = System.nanoTime();
                                 // 603.3. Once an ability has triggered, its controller puts it on the stack as an object that's not a card the next time a player would receive priority
                                 checkStateAndTriggered();
                                 applyEffects();
@@ -1560,8 +1581,18 @@ public abstract class GameImpl implements Game {
                                 if (isPaused() || checkIfGameIsOver()) {
                                     return;
                                 }
+                                boolean recordMetrics = !isSimulation();
+                                if (recordMetrics) {
+                                    initMetrics();
+                                    priorityLatencyTimer.recordSince(priorityStartTime);
+                                }
                                 // resetPassed should be called if player performs any action
-                                if (player.priority(this)) {
+                                long decisionStartTime = System.nanoTime();
+                                boolean playerActed = player.priority(this);
+                                if (recordMetrics && player.isComputer()) {
+                                    aiThinkTimer.recordSince(decisionStartTime);
+                                }
+                                if (playerActed) {
                                     if (executingRollback()) {
                                         return;
                                     }
@@ -1784,8 +1815,10 @@ public abstract class GameImpl implements Game {
 
     @Override
     public synchronized void applyEffects() {
+        long startTime = System.nanoTime();
         resetShortLivingLKI();
         state.applyEffects(this);
+        (isSimulation() ? APPLY_EFFECTS_SIMULATION_TIMER : APPLY_EFFECTS_TIMER).recordSince(startTime);
     }
 
     @Override
@@ -2279,7 +2312,7 @@ public abstract class GameImpl implements Game {
         // real remove
         copiedCardsToRemove.forEach(card -> {
             card.setZone(Zone.OUTSIDE, this);
-            this.getState().getCopiedCards().remove(card);
+            this.getState().removeCopiedCard(card);
             // must keep card in game state as LKI alternative until LKI rework, so don't remove from it
             // TODO: change after LKI rework
             //this.getState().removeValue(GameState.COPIED_CARD_KEY + copiedCard.getId().toString());
@@ -3567,6 +3600,10 @@ public abstract class GameImpl implements Game {
     @Override
     public void setSaveGame(boolean saveGame) {
         this.saveGame = saveGame;
+        // full history can be too big for live copies, so keep it as key frames + deltas
+        if (saveGame && gameStates != null && gameStates.getSize() == 0 && !(gameStates instanceof DeltaGameStates)) {
+            gameStates = new DeltaGameStates();
+        }
     }
 
     public void setStartMessage(String startMessage) {
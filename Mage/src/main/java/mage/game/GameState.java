@@ -33,7 +33,10 @@ import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
 import mage.util.CardUtil;
+import mage.util.CopyOnWriteMap;
 import mage.util.Copyable;
+import mage.util.GameRandom;
+import mage.util.RandomUtil;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -99,12 +102,13 @@ public class GameState implements Serializable, Copyable<GameState> {
     private List<TriggeredAbility> triggered = new ArrayList<>();
     private Combat combat;
     private Map<String, Object> values = new HashMap<>();
-    private Map<UUID, Zone> zones = new HashMap<>();
+    private CopyOnWriteMap<UUID, Zone> zones = new CopyOnWriteMap<>(false);
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
-    private Map<UUID, CardState> cardState = new HashMap<>();
-    private Map<UUID, MageObjectAttribute> mageObjectAttribute = new HashMap<>();
-    private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
-    private Map<UUID, Card> copiedCards = new HashMap<>();
+    // copy-on-write maps: snapshots share it until first change (bookmarks and AI simulations copy state very often)
+    private CopyOnWriteMap<UUID, CardState> cardState = new CopyOnWriteMap<>(true);
+    private CopyOnWriteMap<UUID, MageObjectAttribute> mageObjectAttribute = new CopyOnWriteMap<>(false); // attribute's copy is shallow, so share it as is
+    private CopyOnWriteMap<UUID, Integer> zoneChangeCounter = new CopyOnWriteMap<>(false);
+    private CopyOnWriteMap<UUID, Card> copiedCards = new CopyOnWriteMap<>(false);
     private int permanentOrderNumber;
     private final Map<UUID, FilterCreaturePermanent> usePowerInsteadOfToughnessForDamageLethalityFilters = new HashMap<>();
     private Set<MageObjectReference> commandersToStay = new HashSet<>(); // commanders that do not go back to command zone
@@ -114,6 +118,9 @@ public class GameState implements Serializable, Copyable<GameState> {
     private boolean reverseTurnOrder = false;
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
+    private long stateVersion; // Upcounting number of state changes (events, effects, values), see getStateVersion
+    private long randomSeed; // initial seed of the game's random, can be used to reproduce the game
+    private GameRandom random;
 
     public GameState() {
         players = new Players();
@@ -133,6 +140,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         turnMods = new TurnMods();
         watchers = new Watchers();
         applyEffectsCounter = 0;
+        setNewRandomSeed();
     }
 
     public GameState(final GameState state) {
@@ -185,18 +193,17 @@ public class GameState implements Serializable, Copyable<GameState> {
                 this.values.put(entry.getKey(), entry.getValue());
             }
         }
-        this.zones.putAll(state.zones);
+        this.zones = state.zones.copy();
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
-            cardState.put(entry.getKey(), entry.getValue().copy());
-        }
-        for (Map.Entry<UUID, MageObjectAttribute> entry : state.mageObjectAttribute.entrySet()) {
-            mageObjectAttribute.put(entry.getKey(), entry.getValue().copy());
-        }
-        this.zoneChangeCounter.putAll(state.zoneChangeCounter);
-        this.copiedCards.putAll(state.copiedCards);
+        this.cardState = state.cardState.copy();
+        this.mageObjectAttribute = state.mageObjectAttribute.copy();
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
+        this.copiedCards = state.copiedCards.copy();
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.stateVersion = state.stateVersion;
+        this.randomSeed = state.randomSeed;
+        this.random = state.random.copy();
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay.addAll(state.commandersToStay);
@@ -286,6 +293,10 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        // random goes back too, so undo can't be used to get another shuffle or dice result
+        this.random = state.random.copy();
+        // version must never go back, so restored state looks like a new one for the version's users
+        updateStateVersion();
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay = state.commandersToStay;
@@ -478,6 +489,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setPriorityPlayerId(UUID priorityPlayerId) {
         this.priorityPlayerId = priorityPlayerId;
+        updateStateVersion();
     }
 
     public UUID getMonarchId() {
@@ -667,6 +679,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void applyEffects(Game game) {
         applyEffectsCounter++;
+        updateStateVersion();
         for (Player player : players.values()) {
             player.reset();
         }
@@ -697,6 +710,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void addEffect(ContinuousEffect effect, UUID sourceId, Ability source) {
+        updateStateVersion();
         if (sourceId == null) {
             effects.addEffect(effect, source);
         } else {
@@ -790,6 +804,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void addSimultaneousEvent(GameEvent event, Game game) {
+        updateStateVersion();
         simultaneousEvents.add(event);
     }
 
@@ -830,6 +845,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        updateStateVersionByEvent(game);
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -840,6 +856,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        updateStateVersionByEvent(game);
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -1131,6 +1148,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param value
      */
     public void setValue(String valueId, Object value) {
+        updateStateVersion();
         values.put(valueId, value);
     }
 
@@ -1140,6 +1158,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param valueId
      */
     public void removeValue(String valueId) {
+        updateStateVersion();
         values.remove(valueId);
     }
 
@@ -1159,14 +1178,14 @@ public class GameState implements Serializable, Copyable<GameState> {
      */
     public Abilities<ActivatedAbility> getActivatedOtherAbilities(UUID objectId, Zone zone) {
         if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities().getActivatedAbilities(zone);
+            return cardState.getForUpdate(objectId).getAbilities().getActivatedAbilities(zone);
         }
         return null;
     }
 
     public Abilities<Ability> getAllOtherAbilities(UUID objectId) {
         if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities();
+            return cardState.getForUpdate(objectId).getAbilities();
         }
         return null;
     }
@@ -1209,7 +1228,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         if (!cardState.containsKey(attachedTo.getId())) {
             cardState.put(attachedTo.getId(), new CardState());
         }
-        cardState.get(attachedTo.getId()).addAbility(newAbility);
+        cardState.getForUpdate(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
     }
 
@@ -1240,7 +1259,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         // All gained abilities have to be removed to prevent adding it multiple times
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
-        for (CardState state : cardState.values()) {
+        for (CardState state : cardState.valuesForUpdate()) {
             state.clearAbilities();
         }
         mageObjectAttribute.clear();
@@ -1269,8 +1288,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
-        return cardState.get(cardId);
+        return cardState.computeIfAbsent(cardId, k -> new CardState());
     }
 
     public MageObjectAttribute getMageObjectAttribute(UUID cardId) {
@@ -1301,7 +1319,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
         // card is changing zone so clear state
         if (cardState.containsKey(objectId)) {
-            this.cardState.get(objectId).clear();
+            this.cardState.getForUpdate(objectId).clear();
         }
     }
 
@@ -1317,6 +1335,10 @@ public class GameState implements Serializable, Copyable<GameState> {
         return copiedCards.values();
     }
 
+    public void removeCopiedCard(Card card) {
+        copiedCards.remove(card.getId());
+    }
+
     /**
      * Make full copy of the card and all of the card's parts and put to the
      * game.
@@ -1412,6 +1434,56 @@ public class GameState implements Serializable, Copyable<GameState> {
         return applyEffectsCounter;
     }
 
+    /**
+     * Upcounting version of the state: it's changed on any fired or replaced event, effects apply,
+     * new effects, values and priority changes, so same version means same state (for the same state object).
+     * Use it to cache expensive calculations like playable abilities.
+     */
+    public long getStateVersion() {
+        return stateVersion;
+    }
+
+    /**
+     * Random of the game, see {@link RandomUtil#getRandom(Game)}
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Restart the game's random with the seed (e.g. to reproduce the game or test)
+     */
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+        this.random = new GameRandom(randomSeed);
+    }
+
+    /**
+     * Restart the game's random with a new random seed. Must be used for AI simulations:
+     * state copies clone the random, so simulation can foresee real shuffles, dice and coin results.
+     */
+    public void setNewRandomSeed() {
+        setRandomSeed(RandomUtil.getRandom().nextLong());
+    }
+
+    /**
+     * Mark state as changed, see {@link #getStateVersion()}. Use it for direct state changes without events.
+     */
+    public void updateStateVersion() {
+        stateVersion++;
+    }
+
+    private void updateStateVersionByEvent(Game game) {
+        // playable calculation fires simulated events (e.g. mana triggers) without real state changes
+        if (!game.inCheckPlayableState()) {
+            updateStateVersion();
+        }
+    }
+
     public void addPowerInsteadOfToughnessForDamageLethalityFilter(UUID source, FilterCreaturePermanent filter) {
         usePowerInsteadOfToughnessForDamageLethalityFilters.put(source, filter);
     }
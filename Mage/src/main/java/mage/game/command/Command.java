@@ -1,12 +1,19 @@
 package mage.game.command;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * @author Viserion
  */
 public class Command extends ArrayList<CommandObject> {
 
+    // fast search by id, must be rebuilt after any list changes (see modCount)
+    private transient Map<UUID, CommandObject> index = null;
+    private transient int indexModCount;
+
     public Command() {
     }
 
@@ -19,4 +26,25 @@ public class Command extends ArrayList<CommandObject> {
     public Command copy() {
         return new Command(this);
     }
+
+    /**
+     * Find command object by id (emblems, commanders, planes, dungeons, etc)
+     */
+    public CommandObject getCommandObject(UUID objectId) {
+        if (index == null || indexModCount != modCount) {
+            Map<UUID, CommandObject> newIndex = new HashMap<>();
+            for (CommandObject commandObject : this) {
+                newIndex.putIfAbsent(commandObject.getId(), commandObject);
+            }
+            index = newIndex;
+            indexModCount = modCount;
+        }
+        return index.get(objectId);
+    }
+
+    @Override
+    public CommandObject set(int position, CommandObject element) {
+        modCount++; // replace is not a structural change, but index must be rebuilt
+        return super.set(position, element);
+    }
 }
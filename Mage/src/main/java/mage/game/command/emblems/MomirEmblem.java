@@ -80,7 +80,7 @@ class MomirEffect extends OneShotEffect {
         // search for a random non custom set creature
         Token token = null;
         while (!options.isEmpty()) {
-            int index = RandomUtil.nextInt(options.size());
+            int index = RandomUtil.nextInt(options.size(), game);
             ExpansionSet expansionSet = Sets.findSet(options.get(index).getSetCode());
             if (expansionSet == null || !expansionSet.getSetType().isEternalLegal()) {
                 options.remove(index);
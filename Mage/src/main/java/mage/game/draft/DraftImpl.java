@@ -52,6 +52,7 @@ public abstract class DraftImpl implements Draft {
         this.timing = options.getTiming();
         this.sets = sets;
         this.numberBoosters = options.getNumberBoosters();
+        RateCard.prepareSetsRatingsInBackground(sets);
     }
 
     @Override
@@ -7,6 +7,10 @@ import mage.abilities.effects.common.*;
 import mage.abilities.effects.common.continuous.BoostEnchantedEffect;
 import mage.abilities.effects.common.continuous.BoostTargetEffect;
 import mage.cards.Card;
+import mage.cards.ExpansionSet;
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
 import mage.cards.repository.CardScanner;
 import mage.constants.ColoredManaSymbol;
 import mage.constants.Outcome;
@@ -16,8 +20,15 @@ import mage.target.TargetPermanent;
 import mage.target.common.TargetPlayerOrPlaneswalker;
 import org.apache.log4j.Logger;
 
-import java.io.InputStream;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
 
 /**
  * Class responsible for reading ratings from resources and rating given cards.
@@ -29,9 +40,22 @@ public final class RateCard {
 
     public static final boolean PRELOAD_CARD_RATINGS_ON_STARTUP = false; // warning, rating and card classes preloading can cause lags for users with low memory
 
-    private static Map<String, Integer> baseRatings = new HashMap<>();
-    private static final Map<String, Integer> rated = new HashMap<>();
-    private static boolean isLoaded = false;
+    // drafts with bots can work in parallel, so all caches must be thread safe
+    private static final Map<String, Integer> baseRatings = new ConcurrentHashMap<>();
+    private static final Map<String, CardRating> rated = new ConcurrentHashMap<>();
+    private static final Set<String> preparedSets = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService preparingExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "DRAFT-RATINGS");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile boolean isLoaded = false;
+    private static final Object ratingsLoadLock = new Object();
+    private static long ratingsChecksum = 0; // checksum of loaded ratings files, set before isLoaded
+
+    // optional disk cache for precomputed ratings (see enableDiskCache)
+    private static final int DISK_CACHE_FORMAT_VERSION = 1;
+    private static File diskCacheFile = null;
 
     /**
      * Rating that is given for new cards.
@@ -67,10 +91,55 @@ public final class RateCard {
         }
     }
 
+    /**
+     * Precompute ratings in background (draft can work without it, missing ratings will be calculated on first pick)
+     *
+     * @param sets
+     */
+    public static void prepareSetsRatingsInBackground(Collection<ExpansionSet> sets) {
+        List<ExpansionSet> setsToPrepare = new ArrayList<>(sets);
+        preparingExecutor.execute(() -> {
+            try {
+                prepareSetsRatings(setsToPrepare);
+            } catch (Exception e) {
+                log.error("Failed to prepare card ratings", e);
+            }
+        });
+    }
+
+    /**
+     * Precompute ratings for all cards of the sets, so bots picks will use ratings index
+     * instead abilities scan for each card (call it on draft creation)
+     *
+     * @param sets
+     */
+    public static void prepareSetsRatings(Collection<ExpansionSet> sets) {
+        int preparedCount = 0;
+        for (ExpansionSet set : sets) {
+            if (set == null || !preparedSets.add(set.getCode())) {
+                continue;
+            }
+            for (CardInfo cardInfo : CardRepository.instance.findCards(new CardCriteria().setCodes(set.getCode()))) {
+                if (rated.containsKey(cardInfo.getName())) {
+                    continue;
+                }
+                Card card = cardInfo.getCard();
+                if (card != null) {
+                    rateCard(card, null);
+                    preparedCount++;
+                }
+            }
+        }
+        if (preparedCount > 0) {
+            saveDiskCache();
+        }
+    }
+
     /**
      * Get absolute score of the card.
      * Depends on type, manacost, rating.
-     * If allowedColors is null then the rating is retrieved from the cache
+     * Card's score without colors restriction is cached by card name, so only manacost part
+     * is calculated for allowed colors.
      *
      * @param card
      * @param allowedColors
@@ -85,11 +154,14 @@ public final class RateCard {
             return 0;
         }
 
-        if (useCache && allowedColors == null && rated.containsKey(card.getName())) {
-            int rate = rated.get(card.getName());
-            return rate;
+        CardRating rating = useCache ? rated.computeIfAbsent(card.getName(), name -> calculateRating(card)) : calculateRating(card);
+        if (allowedColors == null) {
+            return rating.score;
         }
+        return rating.scoreWithoutManaCost + getManaCostScore(card, allowedColors);
+    }
 
+    private static CardRating calculateRating(Card card) {
         int type;
         if (card.isPlaneswalker()) {
             type = 15;
@@ -104,13 +176,8 @@ public final class RateCard {
         } else {
             type = 6;
         }
-        int score = getBaseCardScore(card) + 2 * type + getManaCostScore(card, allowedColors)
-                + 40 * isRemoval(card);
-
-        if (useCache && allowedColors == null)
-            rated.put(card.getName(), score);
-
-        return score;
+        int scoreWithoutManaCost = getBaseCardScore(card) + 2 * type + 40 * isRemoval(card);
+        return new CardRating(scoreWithoutManaCost + getManaCostScore(card, null), scoreWithoutManaCost);
     }
 
     private static int isRemoval(Card card) {
@@ -212,26 +279,25 @@ public final class RateCard {
             newRating = DEFAULT_NOT_RATED_CARD_RATING;
         }
 
-        int oldRating = baseRatings.getOrDefault(card.getName(), 0);
-        if (oldRating != 0 && oldRating != newRating) {
-            //log.info("card have different rating by sets: " + card.getName() + " (" + oldRating + " <> " + newRating + ")");
-        }
-
-        if (oldRating != 0) {
-            return oldRating;
-        } else {
-            baseRatings.put(card.getName(), newRating);
-            return newRating;
-        }
+        return baseRatings.compute(card.getName(), (name, oldRating) -> oldRating == null || oldRating == 0 ? newRating : oldRating);
     }
 
     /**
      * reads the list of sets that have ratings csv files and read each file
      */
-    public synchronized static void prepareAndLoadRatings() {
+    public static void prepareAndLoadRatings() {
         if (isLoaded) {
             return;
         }
+        synchronized (ratingsLoadLock) {
+            if (!isLoaded) {
+                loadRatings();
+            }
+        }
+    }
+
+    private static void loadRatings() {
+        CRC32 checksum = new CRC32();
 
         // load sets list
         List<String> setsToLoad = new LinkedList<>();
@@ -240,6 +306,7 @@ public final class RateCard {
             Scanner scanner = new Scanner(is);
             while (scanner.hasNextLine()) {
                 String line = scanner.nextLine();
+                updateChecksum(checksum, line);
                 if (!line.substring(0, 1).equals("#")) {
                     setsToLoad.add(line);
                 }
@@ -254,19 +321,25 @@ public final class RateCard {
             for (String code : setsToLoad) {
                 //log.info("Reading ratings for the set " + code);
                 rateFile = RATINGS_DIR + code + ".csv";
-                readFromFile(rateFile);
+                readFromFile(rateFile, checksum);
             }
         } catch (Exception e) {
             log.error("Failed to read ratings set file: " + rateFile, e);
         }
 
+        ratingsChecksum = checksum.getValue();
         isLoaded = true;
     }
 
+    private static void updateChecksum(CRC32 checksum, String line) {
+        checksum.update(line.getBytes(StandardCharsets.UTF_8));
+        checksum.update('\n');
+    }
+
     /**
      * reads ratings from the file
      */
-    private synchronized static void readFromFile(String path) {
+    private static void readFromFile(String path, CRC32 checksum) {
         // card must get max rating from multiple cards
         Integer min = Integer.MAX_VALUE, max = 0;
         Map<String, Integer> thisFileRatings = new HashMap<>();
@@ -276,6 +349,7 @@ public final class RateCard {
         Scanner scanner = new Scanner(is);
         while (scanner.hasNextLine()) {
             String line = scanner.nextLine();
+            updateChecksum(checksum, line);
             String[] s = line.split(":");
             if (s.length == 2) {
                 Integer rating = Integer.parseInt(s[1].trim());
@@ -303,6 +377,82 @@ public final class RateCard {
         }
     }
 
+    /**
+     * Use disk cache for precomputed ratings: load it now and save on new ratings
+     * (server can keep it between restarts to skip cards creation on first drafts)
+     *
+     * @param file can be null to disable disk cache
+     */
+    public static synchronized void enableDiskCache(File file) {
+        diskCacheFile = file;
+        if (file == null || !file.exists()) {
+            return;
+        }
+
+        String header = getDiskCacheHeader();
+        int loadedCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            if (!header.equals(reader.readLine())) {
+                log.info("Card ratings cache is outdated and will be rebuilt: " + file);
+                return;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] s = line.split("\t");
+                if (s.length == 3) {
+                    rated.putIfAbsent(s[0], new CardRating(Integer.parseInt(s[1]), Integer.parseInt(s[2])));
+                    loadedCount++;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.error("Failed to read card ratings cache: " + file, e);
+        }
+        log.info("Loaded " + loadedCount + " card ratings from cache");
+    }
+
+    private static synchronized void saveDiskCache() {
+        if (diskCacheFile == null) {
+            return;
+        }
+
+        File tempFile = new File(diskCacheFile.getPath() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+                writer.write(getDiskCacheHeader());
+                writer.newLine();
+                for (Map.Entry<String, CardRating> entry : new TreeMap<>(rated).entrySet()) {
+                    writer.write(entry.getKey() + "\t" + entry.getValue().score + "\t" + entry.getValue().scoreWithoutManaCost);
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile.toPath(), diskCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Failed to save card ratings cache: " + diskCacheFile, e);
+        }
+    }
+
+    private static String getDiskCacheHeader() {
+        // ratings files and cards content changes can change ratings too
+        prepareAndLoadRatings();
+        return "#version:" + DISK_CACHE_FORMAT_VERSION
+                + ":" + CardRepository.instance.getContentVersionConstant()
+                + ":" + Long.toHexString(ratingsChecksum);
+    }
+
+    /**
+     * Cached card's score (same for all cards with same name)
+     */
+    private static final class CardRating {
+
+        private final int score; // without colors restriction
+        private final int scoreWithoutManaCost;
+
+        private CardRating(int score, int scoreWithoutManaCost) {
+            this.score = score;
+            this.scoreWithoutManaCost = scoreWithoutManaCost;
+        }
+    }
+
     private static final int[] SINGLE_PENALTY = {0, 1, 1, 3, 6, 9};
     private static final int MULTICOLOR_BONUS = 15;
 
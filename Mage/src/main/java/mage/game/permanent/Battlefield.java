@@ -11,6 +11,7 @@ import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -19,6 +20,13 @@ public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
 
+    // controller -> permanents (same order as field), null - must be rebuilt after add/remove
+    private transient Map<UUID, List<Permanent>> controllerIndex = null;
+    private transient Map<UUID, IndexedPermanent> indexedPermanents = null;
+    // permanents with other controller than in the index (control can be reset and changed back on each apply,
+    // so index must be rebuilt only if the controller is still different on next search)
+    private transient Set<UUID> changedControllers = null;
+
     public Battlefield() {
     }
 
@@ -34,12 +42,86 @@ public class Battlefield implements Serializable {
 
     public void reset(Game game) {
         for (Permanent perm : field.values()) {
+            UUID oldControllerId = perm.getControllerId();
             perm.reset(game);
+            if (!Objects.equals(oldControllerId, perm.getControllerId())) {
+                controllerChanged(perm);
+            }
         }
     }
 
     public void clear() {
         field.clear();
+        controllerIndex = null;
+    }
+
+    /**
+     * Must be called on controller change of the battlefield's permanent to keep controller index actual
+     */
+    void controllerChanged(Permanent permanent) {
+        if (controllerIndex == null) {
+            return;
+        }
+        IndexedPermanent indexed = indexedPermanents.get(permanent.getId());
+        if (indexed == null || indexed.permanent != permanent) {
+            // not from that battlefield (e.g. object from other game copy)
+            return;
+        }
+        if (Objects.equals(indexed.controllerId, permanent.getControllerId())) {
+            changedControllers.remove(permanent.getId());
+        } else {
+            changedControllers.add(permanent.getId());
+        }
+    }
+
+    private void updateControllerIndex() {
+        if (controllerIndex != null && changedControllers.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<Permanent>> newIndex = new HashMap<>();
+        Map<UUID, IndexedPermanent> newIndexedPermanents = new HashMap<>(field.size());
+        for (Permanent permanent : field.values()) {
+            newIndex.computeIfAbsent(permanent.getControllerId(), x -> new ArrayList<>()).add(permanent);
+            newIndexedPermanents.put(permanent.getId(), new IndexedPermanent(permanent, newIndexedPermanents.size()));
+        }
+        controllerIndex = newIndex;
+        indexedPermanents = newIndexedPermanents;
+        changedControllers = new HashSet<>();
+    }
+
+    /**
+     * All permanents (phased in and out) controlled by the player in battlefield's order
+     */
+    private List<Permanent> getControlled(UUID controllerId) {
+        if (controllerId == null) {
+            return Collections.emptyList();
+        }
+        updateControllerIndex();
+        return controllerIndex.getOrDefault(controllerId, Collections.emptyList());
+    }
+
+    private Stream<Permanent> streamControlled(UUID controllerId) {
+        return getControlled(controllerId).stream();
+    }
+
+    /**
+     * All permanents (phased in and out) controlled by any of the players in battlefield's order
+     */
+    private Stream<Permanent> streamControlled(Collection<UUID> controllerIds) {
+        updateControllerIndex();
+        List<Permanent> res = new ArrayList<>();
+        int usedLists = 0;
+        for (UUID controllerId : controllerIds) {
+            List<Permanent> controlled = controllerIndex.get(controllerId);
+            if (controlled != null) {
+                res.addAll(controlled);
+                usedLists++;
+            }
+        }
+        if (usedLists > 1) {
+            res.sort(Comparator.comparingInt(permanent -> indexedPermanents.get(permanent.getId()).position));
+        }
+        return res.stream();
     }
 
     /**
@@ -56,10 +138,8 @@ public class Battlefield implements Serializable {
      * @return count
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, game)
+        return (int) streamControlled(controllerId)
+                .filter(permanent -> filter.match(permanent, game)
                         && permanent.isPhasedIn())
                 .count();
 
@@ -84,10 +164,8 @@ public class Battlefield implements Serializable {
                     .count();
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return (int) field.values()
-                    .stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
+            return (int) streamControlled(range)
+                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn()).count();
         }
     }
@@ -109,10 +187,8 @@ public class Battlefield implements Serializable {
      * @return boolean
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, controllerId, source, game)
+        return streamControlled(controllerId)
+                .filter(permanent -> filter.match(permanent, controllerId, source, game)
                         && permanent.isPhasedIn())
                 .count() >= num;
     }
@@ -141,9 +217,8 @@ public class Battlefield implements Serializable {
 
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values().stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
+            return streamControlled(range)
+                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn())
                     .count() >= num;
         }
@@ -151,6 +226,7 @@ public class Battlefield implements Serializable {
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        controllerIndex = null;
     }
 
     /**
@@ -166,7 +242,9 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        if (field.remove(key) != null) {
+            controllerIndex = null;
+        }
     }
 
     /**
@@ -215,10 +293,8 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
+        return streamControlled(controllerId)
+                .filter(Permanent::isPhasedIn)
                 .collect(Collectors.toList());
     }
 
@@ -267,9 +343,8 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
+        return streamControlled(controllerId)
+                .filter(perm -> perm.isPhasedIn() && filter.match(perm, game))
                 .collect(Collectors.toList());
     }
 
@@ -306,9 +381,8 @@ public class Battlefield implements Serializable {
                     .collect(Collectors.toList());
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId())
+            return streamControlled(range)
+                    .filter(perm -> perm.isPhasedIn()
                             && filter.match(perm, sourcePlayerId, source, game)).collect(Collectors.toList());
         }
     }
@@ -327,35 +401,34 @@ public class Battlefield implements Serializable {
             return getAllActivePermanents();
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn()
-                            && range.contains(perm.getControllerId()))
+            return streamControlled(range)
+                    .filter(Permanent::isPhasedIn)
                     .collect(Collectors.toList());
 
         }
     }
 
     public List<Permanent> getPhasedIn(Game game, UUID controllerId) {
-        return field.values()
-                .stream()
+        return streamControlled(controllerId)
                 .filter(perm -> perm.hasAbility(PhasingAbility.getInstance(), game)
-                        && perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
+                        && perm.isPhasedIn())
                 .collect(Collectors.toList());
     }
 
     public List<Permanent> getPhasedOut(Game game, UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> !perm.isPhasedIn() && perm.isControlledBy(controllerId))
+        return streamControlled(controllerId)
+                .filter(perm -> !perm.isPhasedIn())
                 .collect(Collectors.toList());
     }
 
     public void resetPermanentsControl() {
         for (Permanent perm : field.values()) {
             if (perm.isPhasedIn()) {
+                UUID oldControllerId = perm.getControllerId();
                 perm.resetControl();
+                if (!Objects.equals(oldControllerId, perm.getControllerId())) {
+                    controllerChanged(perm);
+                }
             }
         }
     }
@@ -379,18 +452,26 @@ public class Battlefield implements Serializable {
     }
 
     public int countTokens(UUID controllerId) {
-        return field
-                .values()
-                .stream()
-                .filter(Objects::nonNull)
+        return (int) streamControlled(controllerId)
                 .filter(PermanentToken.class::isInstance)
-                .map(permanent -> permanent.isControlledBy(controllerId))
-                .mapToInt(x -> x ? 1 : 0)
-                .sum();
+                .count();
     }
 
     @Override
     public String toString() {
         return "Permanents: " + field.size();
     }
+
+    private static final class IndexedPermanent {
+
+        private final Permanent permanent;
+        private final UUID controllerId;
+        private final int position;
+
+        private IndexedPermanent(Permanent permanent, int position) {
+            this.permanent = permanent;
+            this.controllerId = permanent.getControllerId();
+            this.position = position;
+        }
+    }
 }
@@ -196,6 +196,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
 
     @Override
     public void setControllerId(UUID controllerId) {
+        // new permanents only, control changes on battlefield must use changeControllerId (see battlefield's index)
         this.controllerId = controllerId;
         abilities.setControllerId(controllerId);
     }
@@ -791,6 +792,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         // must change abilities controller too
         this.controllerId = newControllerId;
         this.getAbilities().setControllerId(newControllerId);
+        game.getBattlefield().controllerChanged(this);
         return true;
     }
 
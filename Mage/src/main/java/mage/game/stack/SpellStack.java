@@ -2,8 +2,13 @@
 package mage.game.stack;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.constants.PutCards;
@@ -21,6 +26,9 @@ public class SpellStack extends ArrayDeque<StackObject> {
 
     protected Date dateLastAdded;
 
+    // fast search by ids (game asks stack objects on each getObject call), null - must be rebuilt after stack changes
+    private transient StackIndex index = null;
+
     public SpellStack() {
     }
 
@@ -96,28 +104,39 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public StackObject getStackObject(UUID id) {
-        for (StackObject stackObject : this) {
-            UUID objectId = stackObject.getId();
-            if (objectId.equals(id)) {
-                return stackObject;
-            }
-            UUID sourceId = stackObject.getSourceId();
-            if (sourceId.equals(id)) {
-                return stackObject;
-            }
+        StackIndex currentIndex = getIndex();
+        StackObject stackObject = currentIndex.byId.get(id);
+        if (stackObject == null) {
+            stackObject = currentIndex.bySourceId.get(id);
         }
-        return null;
+        return stackObject;
+    }
+
+    /**
+     * Find stack object by id or spell by card's id (without stack abilities search by source id)
+     */
+    public StackObject findObject(UUID id) {
+        StackIndex currentIndex = getIndex();
+        StackObject stackObject = currentIndex.byId.get(id);
+        if (stackObject == null) {
+            stackObject = currentIndex.spellsByCardId.get(id);
+        }
+        return stackObject;
     }
 
     public Spell getSpell(UUID id) {
-        return getSpell(id, true);
+        StackObject stackObject = findObject(id);
+        return stackObject instanceof Spell ? (Spell) stackObject : null;
     }
 
     public Spell getSpell(UUID id, boolean allowCopies) {
+        if (allowCopies) {
+            return getSpell(id);
+        }
         for (StackObject stackObject : this) {
             if (stackObject instanceof Spell) {
                 if (stackObject.getId().equals(id) || stackObject.getSourceId().equals(id)) {
-                    if (allowCopies || !stackObject.isCopy()) {
+                    if (!stackObject.isCopy()) {
                         return (Spell) stackObject;
                     }
                 }
@@ -136,6 +155,130 @@ public class SpellStack extends ArrayDeque<StackObject> {
         this.dateLastAdded = new Date();
     }
 
+    private StackIndex getIndex() {
+        if (index == null) {
+            index = new StackIndex(this);
+        }
+        return index;
+    }
+
+    // all stack changes must reset the index (ArrayDeque's other methods use it internally)
+
+    @Override
+    public void addFirst(StackObject e) {
+        index = null;
+        super.addFirst(e);
+    }
+
+    @Override
+    public void addLast(StackObject e) {
+        index = null;
+        super.addLast(e);
+    }
+
+    @Override
+    public StackObject pollFirst() {
+        index = null;
+        return super.pollFirst();
+    }
+
+    @Override
+    public StackObject pollLast() {
+        index = null;
+        return super.pollLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        index = null;
+        return super.removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        index = null;
+        return super.removeLastOccurrence(o);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super StackObject> filter) {
+        index = null;
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        index = null;
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        index = null;
+        return super.retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        index = null;
+        super.clear();
+    }
+
+    @Override
+    public Iterator<StackObject> iterator() {
+        return new StackIterator(super.iterator());
+    }
+
+    @Override
+    public Iterator<StackObject> descendingIterator() {
+        return new StackIterator(super.descendingIterator());
+    }
+
+    private final class StackIterator implements Iterator<StackObject> {
+
+        private final Iterator<StackObject> iterator;
+
+        private StackIterator(Iterator<StackObject> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public StackObject next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            index = null;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Stack objects by ids, first object from the top wins (same as search by iterator)
+     */
+    private static final class StackIndex {
+
+        private final Map<UUID, StackObject> byId = new HashMap<>();
+        private final Map<UUID, StackObject> bySourceId = new HashMap<>();
+        private final Map<UUID, StackObject> spellsByCardId = new HashMap<>();
+
+        private StackIndex(SpellStack stack) {
+            for (StackObject stackObject : stack) {
+                byId.putIfAbsent(stackObject.getId(), stackObject);
+                bySourceId.putIfAbsent(stackObject.getSourceId(), stackObject);
+                if (stackObject instanceof Spell) {
+                    spellsByCardId.putIfAbsent(stackObject.getSourceId(), stackObject);
+                }
+            }
+        }
+    }
+
     public Date getDateLastAdded() {
         return dateLastAdded;
     }
@@ -167,6 +167,7 @@ public class ManaPool implements Serializable {
                 if (mana.count() == 0) { // so no items with count 0 stay in list
                     manaItems.remove(mana);
                 }
+                game.getState().updateStateVersion(); // paid event was fired before the pool change
                 lockManaType(); // pay only one mana if mana payment is set to manually
                 return true;
             }
@@ -256,6 +257,7 @@ public class ManaPool implements Serializable {
     }
 
     public int emptyPool(Game game) {
+        game.getState().updateStateVersion();
         int total = 0;
         Iterator<ManaPoolItem> it = manaItems.iterator();
         while (it.hasNext()) {
@@ -508,7 +510,8 @@ public class ManaPool implements Serializable {
         return itemsCopy;
     }
 
-    public void restoreMana(List<ManaPoolItem> manaList) {
+    public void restoreMana(List<ManaPoolItem> manaList, Game game) {
+        game.getState().updateStateVersion();
         manaItems.clear();
         if (!manaList.isEmpty()) {
             List<ManaPoolItem> itemsCopy = new ArrayList<>();
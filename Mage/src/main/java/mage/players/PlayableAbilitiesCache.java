@@ -0,0 +1,91 @@
+package mage.players;
+
+import mage.abilities.ActivatedAbility;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Player's playable abilities cache between game state changes.
+ * <p>
+ * Playable calculation is very expensive (all zones, all abilities, rule modification effects), but
+ * GUI asks it on each game update/select and AI asks it inside simulations, so same result can be used
+ * until the game state version changes (see {@link GameState#getStateVersion()}).
+ * <p>
+ * Cache works for the same state object only: game copies and restored states always calculate new result.
+ */
+public final class PlayableAbilitiesCache {
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private GameState state;
+    private long stateVersion;
+    private final Map<Integer, List<ActivatedAbility>> playables = new HashMap<>();
+
+    PlayableAbilitiesCache() {
+    }
+
+    /**
+     * @return copy of the cached playable list or null if it must be calculated
+     */
+    List<ActivatedAbility> get(Game game, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        List<ActivatedAbility> playable = null;
+        if (isActual(game)) {
+            playable = playables.get(makeKey(hidden, fromZone, hideDuplicatedAbilities));
+        }
+        if (playable == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return new ArrayList<>(playable);
+    }
+
+    /**
+     * @param startedVersion state version before calculation, result will be ignored if state was changed during calculation
+     */
+    void put(Game game, long startedVersion, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities, List<ActivatedAbility> playable) {
+        GameState currentState = game.getState();
+        if (currentState.getStateVersion() != startedVersion) {
+            return;
+        }
+        if (!isActual(game)) {
+            playables.clear();
+            state = currentState;
+            stateVersion = startedVersion;
+        }
+        playables.put(makeKey(hidden, fromZone, hideDuplicatedAbilities), new ArrayList<>(playable));
+    }
+
+    private boolean isActual(Game game) {
+        return state == game.getState() && stateVersion == state.getStateVersion();
+    }
+
+    private static int makeKey(boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        return (fromZone.ordinal() << 2) | (hidden ? 2 : 0) | (hideDuplicatedAbilities ? 1 : 0);
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Hit rate of all players caches (for debug and performance tests)
+     */
+    public static String getHitRateInfo() {
+        long hitsCount = hits.get();
+        long total = hitsCount + misses.get();
+        return String.format("hits %d of %d (%.1f%%)", hitsCount, total, total == 0 ? 0.0 : hitsCount * 100.0 / total);
+    }
+}
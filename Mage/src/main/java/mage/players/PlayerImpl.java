@@ -179,6 +179,9 @@ public abstract class PlayerImpl implements Player, Serializable {
     // Used during available mana calculation to give back possible available net mana from triggered mana abilities (No need to copy)
     protected final List<List<Mana>> availableTriggeredManaList = new ArrayList<>();
 
+    // Playable abilities for the current game state (no need to copy, each game copy has own state)
+    protected transient PlayableAbilitiesCache playableCache;
+
     /**
      * During some steps we can't play anything
      */
@@ -1672,7 +1675,7 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public void shuffleLibrary(Ability source, Game game) {
         if (!game.replaceEvent(GameEvent.getEvent(GameEvent.EventType.SHUFFLE_LIBRARY, playerId, source, playerId))) {
-            this.library.shuffle();
+            this.library.shuffle(RandomUtil.getRandom(game));
             if (!game.isSimulation()) {
                 game.informPlayers(getLogName() + "'s library is shuffled" + CardUtil.getSourceLogName(game, source));
             }
@@ -2728,7 +2731,7 @@ public abstract class PlayerImpl implements Player, Serializable {
                 .stream()
                 .filter(card -> filter.match(card, getId(), source, game))
                 .collect(Collectors.toSet());
-        Card card = RandomUtil.randomFromCollection(cards);
+        Card card = RandomUtil.randomFromCollection(cards, game);
         if (card == null) {
             return false;
         }
@@ -2854,7 +2857,7 @@ public abstract class PlayerImpl implements Player, Serializable {
      */
     @Override
     public boolean flipCoinResult(Game game) {
-        return RandomUtil.nextBoolean();
+        return RandomUtil.nextBoolean(game);
     }
 
     private static final class RollDieResult {
@@ -2885,7 +2888,7 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     @Override
     public int rollDieResult(int sides, Game game) {
-        return RandomUtil.nextInt(sides) + 1;
+        return RandomUtil.nextInt(sides, game) + 1;
     }
 
     /**
@@ -3914,11 +3917,26 @@ public abstract class PlayerImpl implements Player, Serializable {
      * @return
      */
     public List<ActivatedAbility> getPlayable(Game game, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
-        List<ActivatedAbility> playable = new ArrayList<>();
         if (shouldSkipGettingPlayable(game)) {
+            return new ArrayList<>();
+        }
+
+        // same game state - same playable (GUI and AI ask it many times)
+        if (playableCache == null) {
+            playableCache = new PlayableAbilitiesCache();
+        }
+        List<ActivatedAbility> playable = playableCache.get(game, hidden, fromZone, hideDuplicatedAbilities);
+        if (playable != null) {
             return playable;
         }
+        long stateVersion = game.getState().getStateVersion();
+        playable = calculatePlayable(game, hidden, fromZone, hideDuplicatedAbilities);
+        playableCache.put(game, stateVersion, hidden, fromZone, hideDuplicatedAbilities, playable);
+        return playable;
+    }
 
+    private List<ActivatedAbility> calculatePlayable(Game game, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        List<ActivatedAbility> playable = new ArrayList<>();
         boolean previousState = game.inCheckPlayableState();
         game.setCheckPlayableState(true);
         try {
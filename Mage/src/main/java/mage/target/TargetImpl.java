@@ -339,7 +339,7 @@ public abstract class TargetImpl implements Target {
                 }
                 // find valid target
                 while (!possibleTargets.isEmpty()) {
-                    int index = RandomUtil.nextInt(possibleTargets.size());
+                    int index = RandomUtil.nextInt(possibleTargets.size(), game);
                     if (this.canTarget(playerId, possibleTargets.get(index), source, game)) {
                         this.addTarget(possibleTargets.get(index), source, game);
                         possibleTargets.remove(index);
@@ -0,0 +1,167 @@
+package mage.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Simple binary diff/patch for similar byte arrays (e.g. serialized game states).
+ * <p>
+ * Delta format: target size, then list of commands:
+ * COPY (offset and size in base data) or INSERT (size and new bytes). All numbers are varints.
+ */
+public final class BinaryDelta {
+
+    private static final int BLOCK_SIZE = 32;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_REMOVE_MULTIPLIER; // HASH_MULTIPLIER ^ (BLOCK_SIZE - 1)
+
+    private static final int COMMAND_COPY = 0;
+    private static final int COMMAND_INSERT = 1;
+
+    static {
+        int value = 1;
+        for (int i = 0; i < BLOCK_SIZE - 1; i++) {
+            value *= HASH_MULTIPLIER;
+        }
+        HASH_REMOVE_MULTIPLIER = value;
+    }
+
+    private BinaryDelta() {
+    }
+
+    /**
+     * Create delta to build target data from base data
+     */
+    public static byte[] diff(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, target.length / 8));
+        writeVarInt(out, target.length);
+
+        // index all aligned blocks of the base data
+        Map<Integer, Integer> blocks = new HashMap<>();
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length; offset += BLOCK_SIZE) {
+            blocks.putIfAbsent(hash(base, offset), offset);
+        }
+
+        int literalStart = 0;
+        int pos = 0;
+        int hash = target.length >= BLOCK_SIZE ? hash(target, 0) : 0;
+        while (pos + BLOCK_SIZE <= target.length) {
+            Integer baseOffset = blocks.get(hash);
+            if (baseOffset != null && rangeEquals(base, baseOffset, target, pos, BLOCK_SIZE)) {
+                // extend match to both sides
+                int baseStart = baseOffset;
+                int targetStart = pos;
+                while (targetStart > literalStart && baseStart > 0 && base[baseStart - 1] == target[targetStart - 1]) {
+                    baseStart--;
+                    targetStart--;
+                }
+                int size = pos - targetStart + BLOCK_SIZE;
+                while (baseStart + size < base.length && targetStart + size < target.length
+                        && base[baseStart + size] == target[targetStart + size]) {
+                    size++;
+                }
+
+                writeInsert(out, target, literalStart, targetStart);
+                out.write(COMMAND_COPY);
+                writeVarInt(out, baseStart);
+                writeVarInt(out, size);
+
+                pos = targetStart + size;
+                literalStart = pos;
+                if (pos + BLOCK_SIZE <= target.length) {
+                    hash = hash(target, pos);
+                }
+                continue;
+            }
+
+            // rolling hash to next position
+            if (pos + BLOCK_SIZE < target.length) {
+                hash = (hash - target[pos] * HASH_REMOVE_MULTIPLIER) * HASH_MULTIPLIER + target[pos + BLOCK_SIZE];
+            }
+            pos++;
+        }
+        writeInsert(out, target, literalStart, target.length);
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Restore target data from base data and delta
+     */
+    public static byte[] patch(byte[] base, byte[] delta) {
+        int[] pos = new int[]{0};
+        byte[] target = new byte[readVarInt(delta, pos)];
+        int targetPos = 0;
+        while (pos[0] < delta.length) {
+            int command = delta[pos[0]++];
+            switch (command) {
+                case COMMAND_COPY: {
+                    int offset = readVarInt(delta, pos);
+                    int size = readVarInt(delta, pos);
+                    System.arraycopy(base, offset, target, targetPos, size);
+                    targetPos += size;
+                    break;
+                }
+                case COMMAND_INSERT: {
+                    int size = readVarInt(delta, pos);
+                    System.arraycopy(delta, pos[0], target, targetPos, size);
+                    pos[0] += size;
+                    targetPos += size;
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Wrong delta data: unknown command " + command);
+            }
+        }
+        if (targetPos != target.length) {
+            throw new IllegalArgumentException("Wrong delta data: restored " + targetPos + " bytes instead " + target.length);
+        }
+        return target;
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_MULTIPLIER + data[i];
+        }
+        return hash;
+    }
+
+    private static boolean rangeEquals(byte[] a, int aOffset, byte[] b, int bOffset, int size) {
+        for (int i = 0; i < size; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] data, int from, int to) {
+        if (to > from) {
+            out.write(COMMAND_INSERT);
+            writeVarInt(out, to - from);
+            out.write(data, from, to - from);
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] data, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -2,6 +2,8 @@
 
 package mage.util;
 
+import org.apache.log4j.Logger;
+
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -16,6 +18,8 @@ import java.util.zip.GZIPOutputStream;
  */
 public class Copier<T> {
 
+    private static final Logger logger = Logger.getLogger(Copier.class);
+
     private static ClassLoader loader;
 
     public static void setLoader(ClassLoader loader) {
@@ -76,6 +80,40 @@ public class Copier<T> {
         return null;
     }
 
+    public byte[] toBytes(T obj) {
+        FastByteArrayOutputStream fbos = null;
+        ObjectOutputStream out = null;
+        try {
+            fbos = new FastByteArrayOutputStream();
+            out = new ObjectOutputStream(fbos);
+
+            // Write the object out to a byte array
+            out.writeObject(obj);
+            out.flush();
+
+            byte[] copy = new byte[fbos.getSize()];
+            System.arraycopy(fbos.getByteArray(), 0, copy, 0, fbos.getSize());
+            return copy;
+        }
+        catch(IOException e) {
+            logger.error("Can't serialize object: " + e.getMessage(), e);
+            throw new IllegalStateException("Can't serialize object", e);
+        } finally {
+            StreamUtils.closeQuietly(fbos);
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    public T fromBytes(byte[] buffer) {
+        try (ObjectInputStream in = new CopierObjectInputStream(loader, new ByteArrayInputStream(buffer))) {
+            return (T) in.readObject();
+        }
+        catch(IOException | ClassNotFoundException e) {
+            logger.error("Can't deserialize object: " + e.getMessage(), e);
+            throw new IllegalStateException("Can't deserialize object", e);
+        }
+    }
+
     public T uncompressCopy(byte[] buffer) {
         T copy = null;
         try (ObjectInputStream in = new CopierObjectInputStream(loader, new GZIPInputStream(new ByteArrayInputStream(buffer)))) {
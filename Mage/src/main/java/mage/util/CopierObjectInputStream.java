@@ -16,7 +16,8 @@ public class CopierObjectInputStream extends ObjectInputStream {
 
     public CopierObjectInputStream(ClassLoader newLoader, InputStream theStream) throws IOException {
         super(theStream);
-        myLoader = newLoader;
+        // default loader for usage without plugins (e.g. unit tests)
+        myLoader = newLoader != null ? newLoader : CopierObjectInputStream.class.getClassLoader();
     }
 
     @Override
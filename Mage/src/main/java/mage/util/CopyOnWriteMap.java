@@ -0,0 +1,198 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Map with copy-on-write semantic for game state snapshots.
+ * <p>
+ * A copy shares the backing map with its source until one of them is changed,
+ * only then the changed side clones the map. Mutable values (copyValues mode)
+ * are cloned one by one on first update access, so a snapshot pays only for
+ * the entries it really touches.
+ * <p>
+ * Read methods (get, values, keySet) return shared data and must not be used
+ * to change it. Use getForUpdate/valuesForUpdate before any change of a value.
+ *
+ * @param <K> key type
+ * @param <V> value type, must implement Copyable in copyValues mode
+ */
+public class CopyOnWriteMap<K, V> implements Serializable, Copyable<CopyOnWriteMap<K, V>> {
+
+    private final boolean copyValues;
+    private Map<K, V> map;
+    private boolean shared; // backing map can be used by another copy
+    private Set<K> ownedValues; // values already cloned by that copy (copyValues mode only)
+
+    /**
+     * @param copyValues true for mutable values, false for immutable or shared by design values
+     */
+    public CopyOnWriteMap(boolean copyValues) {
+        this.copyValues = copyValues;
+        this.map = new HashMap<>();
+        this.shared = false;
+        this.ownedValues = copyValues ? new HashSet<>() : null;
+    }
+
+    private CopyOnWriteMap(final CopyOnWriteMap<K, V> source) {
+        this.copyValues = source.copyValues;
+        this.map = source.map;
+        this.shared = true;
+        this.ownedValues = copyValues ? new HashSet<>() : null;
+    }
+
+    @Override
+    public CopyOnWriteMap<K, V> copy() {
+        // source loses the ownership too, so both sides must clone before next write
+        this.shared = true;
+        if (this.ownedValues != null) {
+            this.ownedValues.clear();
+        }
+        return new CopyOnWriteMap<>(this);
+    }
+
+    private void prepareForWrite() {
+        if (shared) {
+            map = new HashMap<>(map);
+            shared = false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V prepareValueForWrite(K key, V value) {
+        if (!copyValues || value == null || ownedValues.contains(key)) {
+            return value;
+        }
+        V newValue = ((Copyable<V>) value).copy();
+        map.put(key, newValue);
+        ownedValues.add(key);
+        return newValue;
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    /**
+     * Read only access, value can be shared with other copies
+     */
+    public V get(K key) {
+        return map.get(key);
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Access to the value that can be changed by caller
+     */
+    public V getForUpdate(K key) {
+        V value = map.get(key);
+        if (value == null || !copyValues || ownedValues.contains(key)) {
+            return value;
+        }
+        prepareForWrite();
+        return prepareValueForWrite(key, value);
+    }
+
+    public V put(K key, V value) {
+        prepareForWrite();
+        if (copyValues) {
+            ownedValues.add(key);
+        }
+        return map.put(key, value);
+    }
+
+    /**
+     * Same as Map.computeIfAbsent, result can be changed by caller
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = getForUpdate(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public V remove(K key) {
+        if (!map.containsKey(key)) {
+            return null;
+        }
+        prepareForWrite();
+        if (copyValues) {
+            ownedValues.remove(key);
+        }
+        return map.remove(key);
+    }
+
+    public void clear() {
+        if (shared) {
+            // no needs in full copy
+            map = new HashMap<>();
+            shared = false;
+        } else {
+            map.clear();
+        }
+        if (copyValues) {
+            ownedValues.clear();
+        }
+    }
+
+    /**
+     * Read only values, can be shared with other copies
+     */
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(map.values());
+    }
+
+    /**
+     * All values that can be changed by caller (it clones all not owned values)
+     */
+    @SuppressWarnings("unchecked")
+    public Collection<V> valuesForUpdate() {
+        prepareForWrite();
+        if (copyValues) {
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                if (entry.getValue() != null && ownedValues.add(entry.getKey())) {
+                    entry.setValue(((Copyable<V>) entry.getValue()).copy());
+                }
+            }
+        }
+        return Collections.unmodifiableCollection(map.values());
+    }
+
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    public Set<Map.Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(map).entrySet();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+}
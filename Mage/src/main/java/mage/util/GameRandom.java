@@ -0,0 +1,51 @@
+package mage.util;
+
+import java.util.Random;
+
+/**
+ * Random generator of the single game (shuffles, dice, coins, AI choices), it's part of the game state.
+ * <p>
+ * Uses SplitMix64 algorithm (same as {@link java.util.SplittableRandom}), but it's serializable and copyable
+ * with the game state. It's not thread safe and has no shared state, so games don't contend for the global random
+ * and a game can be reproduced from its seed.
+ */
+public class GameRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state; // no initializer, it's set by super constructor
+
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    protected GameRandom(final GameRandom random) {
+        super(0);
+        this.state = random.state;
+    }
+
+    public GameRandom copy() {
+        return new GameRandom(this);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        long z = state;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,5 +1,7 @@
 package mage.util;
 
+import mage.game.Game;
+
 import java.awt.*;
 import java.util.Collection;
 import java.util.Random;
@@ -20,6 +22,27 @@ public final class RandomUtil {
         return random;
     }
 
+    /**
+     * Random of the game (use it for all game related randoms like shuffle, dice, AI choices),
+     * so games don't contend for the global random and can be reproduced from the seed
+     *
+     * @param game can be null for non game usage
+     */
+    public static Random getRandom(Game game) {
+        if (game == null || game.getState() == null) {
+            return random;
+        }
+        return game.getState().getRandom();
+    }
+
+    public static int nextInt(int max, Game game) {
+        return getRandom(game).nextInt(max);
+    }
+
+    public static boolean nextBoolean(Game game) {
+        return getRandom(game).nextBoolean();
+    }
+
     public static int nextInt() {
         return random.nextInt();
     }
@@ -45,10 +68,14 @@ public final class RandomUtil {
     }
 
     public static <T> T randomFromCollection(Collection<T> collection) {
+        return randomFromCollection(collection, null);
+    }
+
+    public static <T> T randomFromCollection(Collection<T> collection, Game game) {
         if (collection.size() < 2) {
             return collection.stream().findFirst().orElse(null);
         }
-        int rand = nextInt(collection.size());
+        int rand = nextInt(collection.size(), game);
         int count = 0;
         for (T current : collection) {
             if (count == rand) {
@@ -0,0 +1,52 @@
+package mage.util.metrics;
+
+import java.util.Map;
+
+/**
+ * Base class of the server metrics, see {@link MetricsRegistry}
+ */
+public abstract class Metric {
+
+    private final String name;
+    private final String help;
+    private final String labels; // prepared labels text like {method="GAME_UPDATE"}, can be empty
+
+    protected Metric(String name, String help, String labels) {
+        this.name = name;
+        this.help = help;
+        this.labels = labels;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public String getLabels() {
+        return labels;
+    }
+
+    /**
+     * @return metric type for text exposition format: counter, gauge or histogram
+     */
+    public abstract String getType();
+
+    /**
+     * Add current values to the samples (sample name with labels -> value)
+     */
+    public abstract void collect(Map<String, Double> samples);
+
+    protected String sampleName(String suffix) {
+        return name + suffix + labels;
+    }
+
+    protected String sampleName(String suffix, String extraLabel) {
+        if (labels.isEmpty()) {
+            return name + suffix + '{' + extraLabel + '}';
+        }
+        return name + suffix + labels.substring(0, labels.length() - 1) + ',' + extraLabel + '}';
+    }
+}
@@ -0,0 +1,38 @@
+package mage.util.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Value that can only grow (events, bytes, etc)
+ */
+public class MetricCounter extends Metric {
+
+    private final LongAdder value = new LongAdder();
+
+    MetricCounter(String name, String help, String labels) {
+        super(name, help, labels);
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long getValue() {
+        return value.sum();
+    }
+
+    @Override
+    public String getType() {
+        return "counter";
+    }
+
+    @Override
+    public void collect(Map<String, Double> samples) {
+        samples.put(sampleName(""), (double) value.sum());
+    }
+}
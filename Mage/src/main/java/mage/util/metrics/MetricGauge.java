@@ -0,0 +1,30 @@
+package mage.util.metrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Value from the outside source, reads on each collect (queue sizes, active threads, etc)
+ */
+public class MetricGauge extends Metric {
+
+    private final String type;
+    private final Supplier<? extends Number> supplier;
+
+    MetricGauge(String name, String help, String labels, String type, Supplier<? extends Number> supplier) {
+        super(name, help, labels);
+        this.type = type;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public void collect(Map<String, Double> samples) {
+        Number value = supplier.get();
+        samples.put(sampleName(""), value == null ? Double.NaN : value.doubleValue());
+    }
+}
@@ -0,0 +1,85 @@
+package mage.util.metrics;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Durations histogram in seconds (fixed buckets from 50 microseconds to 10 seconds, most of the game
+ * engine's operations take less than 1 ms).
+ * <p>
+ * Lock free, so it can be used in the game and AI threads. Usage:
+ * <pre>
+ * long startTime = System.nanoTime();
+ * ...
+ * timer.recordSince(startTime);
+ * </pre>
+ */
+public class MetricTimer extends Metric {
+
+    private static final long[] BUCKETS_MICROS = {50, 100, 250, 500, 1000, 5000, 10000, 50000, 100000, 500000, 1000000, 5000000, 10000000};
+    private static final long[] BUCKETS_NANOS = new long[BUCKETS_MICROS.length];
+    private static final String[] BUCKETS_LABELS = new String[BUCKETS_MICROS.length];
+
+    static {
+        for (int i = 0; i < BUCKETS_MICROS.length; i++) {
+            BUCKETS_NANOS[i] = TimeUnit.MICROSECONDS.toNanos(BUCKETS_MICROS[i]);
+            // plain seconds without exponent, e.g. 0.00005
+            BUCKETS_LABELS[i] = "le=\"" + BigDecimal.valueOf(BUCKETS_MICROS[i], 6).stripTrailingZeros().toPlainString() + '"';
+        }
+    }
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS_MICROS.length];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+
+    MetricTimer(String name, String help, String labels) {
+        super(name, help, labels);
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public void record(long nanos) {
+        count.increment();
+        sumNanos.add(nanos);
+        for (int i = 0; i < BUCKETS_NANOS.length; i++) {
+            if (nanos <= BUCKETS_NANOS[i]) {
+                buckets[i].increment();
+                break;
+            }
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+    @Override
+    public String getType() {
+        return "histogram";
+    }
+
+    @Override
+    public void collect(Map<String, Double> samples) {
+        // read count first, so buckets can't be greater than +Inf bucket
+        long total = count.sum();
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS_LABELS.length; i++) {
+            cumulative += buckets[i].sum();
+            samples.put(sampleName("_bucket", BUCKETS_LABELS[i]), (double) Math.min(cumulative, total));
+        }
+        samples.put(sampleName("_bucket", "le=\"+Inf\""), (double) total);
+        samples.put(sampleName("_sum"), sumNanos.sum() / 1_000_000_000.0);
+        samples.put(sampleName("_count"), (double) total);
+    }
+}
@@ -0,0 +1,142 @@
+package mage.util.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * Server wide metrics: engine, database, network and thread pools.
+ * <p>
+ * Metrics are created once and kept in static fields of the measured code, so recording is cheap
+ * (lock free counters without map lookups). Same name and labels return the same metric.
+ * <p>
+ * Server exposes it by JMX and by admin's request in text format (see {@link #printText()}).
+ */
+public enum MetricsRegistry {
+
+    instance;
+
+    // sorted by name, so metrics with the same name and different labels are printed together
+    private final ConcurrentMap<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param labels label name and value pairs, e.g. "method", "GAME_UPDATE"
+     */
+    public MetricCounter counter(String name, String help, String... labels) {
+        return register(new MetricCounter(name, help, makeLabels(labels)), MetricCounter.class);
+    }
+
+    public MetricTimer timer(String name, String help, String... labels) {
+        return register(new MetricTimer(name, help, makeLabels(labels)), MetricTimer.class);
+    }
+
+    /**
+     * Remove metric of the finished object (e.g. game's metrics), so the registry doesn't grow
+     */
+    public void remove(String name, String... labels) {
+        metrics.remove(makeKey(name, makeLabels(labels)));
+    }
+
+    /**
+     * Current value from the outside source (replaces old source with same name, e.g. after server restart in tests)
+     */
+    public void gauge(String name, String help, Supplier<? extends Number> supplier) {
+        MetricGauge gauge = new MetricGauge(name, help, "", "gauge", supplier);
+        metrics.put(makeKey(gauge), gauge);
+    }
+
+    /**
+     * Same as gauge, but for the outside values that can only grow
+     */
+    public void externalCounter(String name, String help, Supplier<? extends Number> supplier) {
+        MetricGauge gauge = new MetricGauge(name, help, "", "counter", supplier);
+        metrics.put(makeKey(gauge), gauge);
+    }
+
+    private <T extends Metric> T register(T metric, Class<T> metricClass) {
+        Metric res = metrics.putIfAbsent(makeKey(metric), metric);
+        if (res == null) {
+            return metric;
+        }
+        if (!metricClass.isInstance(res)) {
+            throw new IllegalArgumentException("Metric " + metric.getName() + " already registered with another type: " + res.getType());
+        }
+        return metricClass.cast(res);
+    }
+
+    private static String makeKey(Metric metric) {
+        return makeKey(metric.getName(), metric.getLabels());
+    }
+
+    private static String makeKey(String name, String labels) {
+        // space is less than any name symbol, so same name metrics go together
+        return name + ' ' + labels;
+    }
+
+    private static String makeLabels(String... labels) {
+        if (labels.length == 0) {
+            return "";
+        }
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name and value pairs: " + Arrays.toString(labels));
+        }
+        StringBuilder res = new StringBuilder("{");
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                res.append(',');
+            }
+            res.append(labels[i]).append("=\"")
+                    .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+        }
+        return res.append('}').toString();
+    }
+
+    public Collection<Metric> getMetrics() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    /**
+     * @return current values of all metrics (sample name with labels -> value)
+     */
+    public Map<String, Double> getSamples() {
+        Map<String, Double> samples = new LinkedHashMap<>();
+        for (Metric metric : metrics.values()) {
+            metric.collect(samples);
+        }
+        return samples;
+    }
+
+    /**
+     * Current values in the plain text exposition format (compatible with Prometheus)
+     */
+    public String printText() {
+        StringBuilder res = new StringBuilder();
+        String prevName = null;
+        Map<String, Double> samples = new LinkedHashMap<>();
+        for (Metric metric : metrics.values()) {
+            if (!metric.getName().equals(prevName)) {
+                res.append("# HELP ").append(metric.getName()).append(' ').append(metric.getHelp()).append('\n');
+                res.append("# TYPE ").append(metric.getName()).append(' ').append(metric.getType()).append('\n');
+                prevName = metric.getName();
+            }
+            samples.clear();
+            metric.collect(samples);
+            for (Map.Entry<String, Double> sample : samples.entrySet()) {
+                res.append(sample.getKey()).append(' ').append(printValue(sample.getValue())).append('\n');
+            }
+        }
+        return res.toString();
+    }
+
+    private static String printValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return String.valueOf(value);
+    }
+}
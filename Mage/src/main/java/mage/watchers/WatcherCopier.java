@@ -0,0 +1,231 @@
+package mage.watchers;
+
+import mage.cards.Cards;
+import mage.players.PlayerList;
+import mage.util.Copyable;
+import org.apache.log4j.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fast copy of watchers without runtime reflection.
+ * <p>
+ * Watcher class is analysed only once: constructor and fields are converted to
+ * method handles and copy strategies, so the copy itself is plain handle calls
+ * (watchers are copied on each game state copy).
+ * <p>
+ * Copy rules are the same as before: new instance from the single declared constructor with
+ * default args, then copy of class and parent class fields (collections are copied to the new
+ * collections of the created watcher).
+ */
+final class WatcherCopier {
+
+    private static final Logger logger = Logger.getLogger(WatcherCopier.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<WatcherCopier> copiers = new ClassValue<WatcherCopier>() {
+        @Override
+        protected WatcherCopier computeValue(Class<?> type) {
+            return new WatcherCopier(type);
+        }
+    };
+
+    @FunctionalInterface
+    private interface FieldCopier {
+        void copy(Object source, Object target) throws Throwable;
+    }
+
+    private final String errorMessage; // watcher class is not supported
+    private final MethodHandle constructor; // ()Object
+    private final FieldCopier[] fieldCopiers;
+
+    private WatcherCopier(Class<?> watcherClass) {
+        MethodHandle newConstructor = null;
+        List<FieldCopier> newFieldCopiers = new ArrayList<>();
+        String newErrorMessage = null;
+        try {
+            //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
+            Constructor<?>[] constructors = watcherClass.getDeclaredConstructors();
+            if (constructors.length > 1) {
+                newErrorMessage = watcherClass.getSimpleName() + " has multiple constructors";
+            } else {
+                newConstructor = createConstructor(constructors[0]);
+
+                List<Field> allFields = new ArrayList<>();
+                allFields.addAll(Arrays.asList(watcherClass.getDeclaredFields()));
+                allFields.addAll(Arrays.asList(watcherClass.getSuperclass().getDeclaredFields()));
+                for (Field field : allFields) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        newFieldCopiers.add(createFieldCopier(field));
+                    }
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            newErrorMessage = "Can't copy watcher " + watcherClass.getSimpleName() + ": " + e.getMessage();
+        }
+        this.errorMessage = newErrorMessage;
+        this.constructor = newConstructor;
+        this.fieldCopiers = newFieldCopiers.toArray(new FieldCopier[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Watcher> T copy(Watcher watcher) {
+        WatcherCopier copier = copiers.get(watcher.getClass());
+        if (copier.errorMessage != null) {
+            logger.error(copier.errorMessage);
+            return null;
+        }
+        try {
+            Object newWatcher = (Object) copier.constructor.invokeExact();
+            for (FieldCopier fieldCopier : copier.fieldCopiers) {
+                fieldCopier.copy(watcher, newWatcher);
+            }
+            return (T) newWatcher;
+        } catch (Throwable e) {
+            logger.error("Can't copy watcher: " + e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private static MethodHandle createConstructor(Constructor<?> constructor) throws IllegalAccessException {
+        constructor.setAccessible(true);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int index = 0; index < parameterTypes.length; index++) {
+            args[index] = getDefaultValue(parameterTypes[index]);
+        }
+        MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+        return MethodHandles.insertArguments(handle, 0, args)
+                .asType(MethodType.methodType(Object.class));
+    }
+
+    private static Object getDefaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return (char) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else {
+            return 0d;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldCopier createFieldCopier(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        MethodHandle getter = LOOKUP.unreflectGetter(field);
+
+        if (field.getType() == Set.class) {
+            // Set<UUID, xxx>
+            MethodHandle get = toObjectGetter(getter);
+            return (source, target) -> {
+                Set<Object> targetSet = (Set<Object>) (Object) get.invokeExact(target);
+                targetSet.clear();
+                targetSet.addAll((Set<Object>) (Object) get.invokeExact(source));
+            };
+        } else if (field.getType() == Map.class || field.getType() == HashMap.class) {
+            // Map<UUID, xxx>
+            MethodHandle get = toObjectGetter(getter);
+            return createMapCopier(field, get);
+        } else if (field.getType() == List.class) {
+            // List<Object>
+            MethodHandle get = toObjectGetter(getter);
+            return (source, target) -> {
+                List<Object> targetList = (List<Object>) (Object) get.invokeExact(target);
+                targetList.clear();
+                targetList.addAll((List<Object>) (Object) get.invokeExact(source));
+            };
+        } else {
+            // Object (direct copy of value, primitives are copied without boxing)
+            // final fields are supported too: field is accessible, so its setter can be created
+            MethodHandle setter = LOOKUP.unreflectSetter(field);
+            MethodHandle copy = MethodHandles.filterArguments(setter, 1, getter)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (source, target) -> {
+                copy.invokeExact(target, source);
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldCopier createMapCopier(Field field, MethodHandle get) {
+        Type genericType = field.getGenericType();
+        if (!(genericType instanceof ParameterizedType)) {
+            return createShallowMapCopier(get);
+        }
+        Type valueType = ((ParameterizedType) genericType).getActualTypeArguments()[1];
+        if (valueType.getTypeName().contains("SortedSet")) {
+            // Map<UUID, SortedSet<Object>>
+            return createDeepMapCopier(get, value -> new TreeSet<>((Set<Object>) value));
+        } else if (valueType.getTypeName().contains("Set")) {
+            // Map<UUID, Set<Object>>
+            return createDeepMapCopier(get, value -> new HashSet<>((Set<Object>) value));
+        } else if (valueType.getTypeName().contains("PlayerList")) {
+            // Map<UUID, PlayerList>
+            return createDeepMapCopier(get, value -> ((PlayerList) value).copy());
+        } else if (valueType.getTypeName().endsWith("Cards")) {
+            // Map<UUID, Cards>
+            return createDeepMapCopier(get, value -> ((Cards) value).copy());
+        } else if (valueType instanceof Class && Arrays.stream(((Class<?>) valueType).getInterfaces()).anyMatch(c -> c.equals(Copyable.class))) {
+            // Map<UUID, Copyable>
+            return createDeepMapCopier(get, value -> ((Copyable<?>) value).copy());
+        } else if (valueType.getTypeName().contains("List")) {
+            // Map<UUID, List<Object>>
+            return createDeepMapCopier(get, value -> new ArrayList<>((List<Object>) value));
+        } else if (valueType.getTypeName().contains("Map")) {
+            // Map<UUID, Map<UUID, Object>> (nested maps are copied too)
+            return createDeepMapCopier(get, WatcherCopier::copyNestedMap);
+        } else {
+            // Map<UUID, Object>
+            return createShallowMapCopier(get);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldCopier createDeepMapCopier(MethodHandle get, UnaryOperator<Object> valueCopier) {
+        return (source, target) -> {
+            Map<Object, Object> sourceMap = (Map<Object, Object>) (Object) get.invokeExact(source);
+            Map<Object, Object> targetMap = (Map<Object, Object>) (Object) get.invokeExact(target);
+            targetMap.clear();
+            for (Map.Entry<Object, Object> e : sourceMap.entrySet()) {
+                targetMap.put(e.getKey(), valueCopier.apply(e.getValue()));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyNestedMap(Object value) {
+        Map<Object, Object> res = new HashMap<>((Map<Object, Object>) value);
+        res.replaceAll((k, v) -> v instanceof Map ? copyNestedMap(v) : v);
+        return res;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldCopier createShallowMapCopier(MethodHandle get) {
+        return (source, target) -> {
+            Map<Object, Object> targetMap = (Map<Object, Object>) (Object) get.invokeExact(target);
+            targetMap.putAll((Map<Object, Object>) (Object) get.invokeExact(source));
+        };
+    }
+
+    private static MethodHandle toObjectGetter(MethodHandle getter) {
+        return getter.asType(MethodType.methodType(Object.class, Object.class));
+    }
+}
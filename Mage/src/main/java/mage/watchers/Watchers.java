@@ -5,7 +5,12 @@ import mage.game.events.GameEvent;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -14,6 +19,23 @@ public class Watchers extends HashMap<String, Watcher> {
 
     private static Logger logger = LogManager.getLogger(Watcher.class.getSimpleName());
 
+    // watchers with overridden watch method can't use declared event types from parent class
+    private static final ClassValue<Boolean> eventTypesSupported = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> typesClass = type.getMethod("getWatchedEventTypes").getDeclaringClass();
+                Class<?> watchClass = type.getMethod("watch", GameEvent.class, Game.class).getDeclaringClass();
+                return watchClass.isAssignableFrom(typesClass);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    // dispatch table: watchers by event type (with watchers for any event), lazy filled and cleared on any changes
+    private final Map<GameEvent.EventType, List<Watcher>> watchersByEventType = new EnumMap<>(GameEvent.EventType.class);
+
     public Watchers() {
     }
 
@@ -30,11 +52,39 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        for (Watcher watcher : getWatchers(event.getType())) {
             watcher.watch(event, game);
         }
     }
 
+    private List<Watcher> getWatchers(GameEvent.EventType eventType) {
+        List<Watcher> res = watchersByEventType.get(eventType);
+        if (res == null) {
+            res = new ArrayList<>();
+            for (Watcher watcher : this.values()) {
+                Set<GameEvent.EventType> eventTypes = getWatchedEventTypes(watcher);
+                if (eventTypes == null || eventTypes.contains(eventType)) {
+                    res.add(watcher);
+                }
+            }
+            watchersByEventType.put(eventType, res);
+        }
+        return res;
+    }
+
+    /**
+     * Find used event types of the watcher
+     *
+     * @param watcher
+     * @return event types or null for any event
+     */
+    public static Set<GameEvent.EventType> getWatchedEventTypes(Watcher watcher) {
+        if (!eventTypesSupported.get(watcher.getClass())) {
+            return null;
+        }
+        return watcher.getWatchedEventTypes();
+    }
+
     public void reset() {
         this.values().forEach(Watcher::reset);
     }
@@ -51,4 +101,31 @@ public class Watchers extends HashMap<String, Watcher> {
         logger.error(key + " not found in watchers", new Throwable());
         return null;
     }
+
+    @Override
+    public Watcher put(String key, Watcher watcher) {
+        watchersByEventType.clear();
+        return super.put(key, watcher);
+    }
+
+    @Override
+    public Watcher putIfAbsent(String key, Watcher watcher) {
+        Watcher oldWatcher = super.putIfAbsent(key, watcher);
+        if (oldWatcher == null) {
+            watchersByEventType.clear();
+        }
+        return oldWatcher;
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        watchersByEventType.clear();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        watchersByEventType.clear();
+        super.clear();
+    }
 }
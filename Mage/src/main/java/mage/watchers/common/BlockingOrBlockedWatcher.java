@@ -42,6 +42,11 @@ public class BlockingOrBlockedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED, GameEvent.EventType.END_COMBAT_STEP_POST, GameEvent.EventType.REMOVED_FROM_COMBAT);
+    }
+
     @Override
     public void reset() {
         super.reset();
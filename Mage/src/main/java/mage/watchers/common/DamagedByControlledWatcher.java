@@ -8,6 +8,7 @@ import mage.game.permanent.Permanent;
 import mage.watchers.Watcher;
 
 import java.util.HashSet;
+import java.util.Set;
 
 /**
  *
@@ -15,7 +16,7 @@ import java.util.HashSet;
  */
 public class DamagedByControlledWatcher extends Watcher {
 
-    private final HashSet<MageObjectReference> damagedPermanents = new HashSet<>();
+    private final Set<MageObjectReference> damagedPermanents = new HashSet<>();
 
     public DamagedByControlledWatcher() {
         super(WatcherScope.PLAYER);
@@ -0,0 +1,97 @@
+package mage;
+
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.watchers.Watcher;
+import mage.watchers.Watchers;
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for {@link Watchers} events dispatching
+ */
+public class WatchersTest {
+
+    @Test
+    public void testDispatchByEventType() {
+        // given
+        Watchers watchers = new Watchers();
+        CountWatcher anyEventWatcher = new CountWatcher();
+        DrawWatcher drawWatcher = new DrawWatcher();
+        watchers.add(anyEventWatcher);
+        watchers.add(drawWatcher);
+
+        // when
+        watchers.watch(createEvent(GameEvent.EventType.DREW_CARD), null);
+        watchers.watch(createEvent(GameEvent.EventType.GAINED_LIFE), null);
+
+        // then
+        assertEquals(2, anyEventWatcher.count);
+        assertEquals(1, drawWatcher.count);
+    }
+
+    @Test
+    public void testOverriddenWatchIgnoresParentTypes() {
+        // given
+        Watchers watchers = new Watchers();
+        LifeWatcher lifeWatcher = new LifeWatcher();
+        watchers.watch(createEvent(GameEvent.EventType.GAINED_LIFE), null); // fill dispatch table before add
+        watchers.add(lifeWatcher);
+
+        // when
+        watchers.watch(createEvent(GameEvent.EventType.GAINED_LIFE), null);
+
+        // then
+        assertNull(Watchers.getWatchedEventTypes(lifeWatcher));
+        assertEquals(1, lifeWatcher.count);
+    }
+
+    private static GameEvent createEvent(GameEvent.EventType eventType) {
+        return GameEvent.getEvent(eventType, UUID.randomUUID(), null, UUID.randomUUID());
+    }
+
+    private static class CountWatcher extends Watcher {
+
+        int count = 0;
+
+        CountWatcher() {
+            super(WatcherScope.GAME);
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            count++;
+        }
+    }
+
+    private static class DrawWatcher extends CountWatcher {
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            if (event.getType() == GameEvent.EventType.DREW_CARD) {
+                count++;
+            }
+        }
+
+        @Override
+        public Set<GameEvent.EventType> getWatchedEventTypes() {
+            return EnumSet.of(GameEvent.EventType.DREW_CARD);
+        }
+    }
+
+    private static class LifeWatcher extends DrawWatcher {
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            if (event.getType() == GameEvent.EventType.GAINED_LIFE) {
+                count++;
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package mage.abilities;
+
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.permanent.token.TreasureToken;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for {@link TriggeredAbilities} (events dispatching index)
+ * <p>
+ * Test abilities never pass checkEventType, so checkTriggers can be called without a game
+ */
+public class TriggeredAbilitiesTest {
+
+    private final List<String> checked = new ArrayList<>();
+
+    @Test
+    public void shouldDispatchByDeclaredEventTypes() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("damage", new TypedAbility("damage", checked, GameEvent.EventType.DAMAGED_PLAYER));
+        abilities.put("draw", new TypedAbility("draw", checked, GameEvent.EventType.DREW_CARD, GameEvent.EventType.DISCARDED_CARD));
+
+        // when
+        fire(abilities, GameEvent.EventType.DAMAGED_PLAYER);
+        // then
+        assertChecked("damage");
+
+        // when
+        fire(abilities, GameEvent.EventType.DISCARDED_CARD);
+        // then
+        assertChecked("draw");
+
+        // when
+        fire(abilities, GameEvent.EventType.GAINED_LIFE);
+        // then
+        assertChecked();
+    }
+
+    @Test
+    public void shouldDispatchAnyEventAbilitiesForAllEvents() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("typed", new TypedAbility("typed", checked, GameEvent.EventType.DAMAGED_PLAYER));
+        abilities.put("any", new AnyEventAbility("any", checked));
+        abilities.put("custom", new CustomCheckAbility("custom", checked));
+
+        // then
+        assertNull(TriggeredAbilities.getTriggerEventTypes(abilities.get("any")));
+        // child class overrides checkEventType only, so parent's types must be ignored
+        assertNull(TriggeredAbilities.getTriggerEventTypes(abilities.get("custom")));
+        assertEquals(EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER), TriggeredAbilities.getTriggerEventTypes(abilities.get("typed")));
+
+        // when
+        fire(abilities, GameEvent.EventType.DAMAGED_PLAYER);
+        // then
+        assertChecked("any", "custom", "typed");
+
+        // when
+        fire(abilities, GameEvent.EventType.GAINED_LIFE);
+        // then
+        assertChecked("any", "custom");
+    }
+
+    @Test
+    public void shouldKeepIndexAfterPutAndRemove() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("a", new TypedAbility("a-old", checked, GameEvent.EventType.DAMAGED_PLAYER));
+        abilities.put("b", new AnyEventAbility("b", checked));
+
+        // when: replace ability by the same key with other event types
+        abilities.put("a", new TypedAbility("a-new", checked, GameEvent.EventType.GAINED_LIFE));
+
+        // then
+        fire(abilities, GameEvent.EventType.DAMAGED_PLAYER);
+        assertChecked("b");
+        fire(abilities, GameEvent.EventType.GAINED_LIFE);
+        assertChecked("a-new", "b");
+
+        // when
+        abilities.remove("a");
+        abilities.remove("b");
+        abilities.remove("unknown");
+
+        // then
+        assertTrue(abilities.isEmpty());
+        fire(abilities, GameEvent.EventType.GAINED_LIFE);
+        assertChecked();
+    }
+
+    @Test
+    public void shouldKeepIndexAfterRemoveAllAndClear() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        UUID sourceId = UUID.randomUUID();
+        TypedAbility gained = new TypedAbility("gained", checked, GameEvent.EventType.DAMAGED_PLAYER);
+        abilities.put("own_" + sourceId, new TypedAbility("own", checked, GameEvent.EventType.DAMAGED_PLAYER));
+        abilities.add(gained, UUID.randomUUID(), new TreasureToken());
+        abilities.put("any", new AnyEventAbility("any", checked));
+
+        // when
+        abilities.removeAbilitiesOfSource(sourceId);
+
+        // then
+        fire(abilities, GameEvent.EventType.DAMAGED_PLAYER);
+        assertChecked("any", "gained");
+
+        // when
+        abilities.removeAllGainedAbilities();
+
+        // then
+        fire(abilities, GameEvent.EventType.DAMAGED_PLAYER);
+        assertChecked("any");
+
+        // when
+        abilities.clear();
+        abilities.put("new", new TypedAbility("new", checked, GameEvent.EventType.GAINED_LIFE));
+
+        // then
+        fire(abilities, GameEvent.EventType.DAMAGED_PLAYER);
+        assertChecked();
+        fire(abilities, GameEvent.EventType.GAINED_LIFE);
+        assertChecked("new");
+    }
+
+    @Test
+    public void shouldCopyIndexWithCopiedAbilities() {
+        // given
+        TriggeredAbilities original = new TriggeredAbilities();
+        original.put("typed", new TypedAbility("typed", checked, GameEvent.EventType.DAMAGED_PLAYER));
+        original.put("any", new AnyEventAbility("any", checked));
+
+        // when
+        TriggeredAbilities copy = original.copy();
+        copy.remove("typed");
+
+        // then: copy must contain copied abilities in the index, not the original objects
+        assertNotSame(original.get("any"), copy.get("any"));
+        fire(original, GameEvent.EventType.DAMAGED_PLAYER);
+        assertChecked("any", "typed");
+        fire(copy, GameEvent.EventType.DAMAGED_PLAYER);
+        assertChecked("any");
+    }
+
+    private void fire(TriggeredAbilities abilities, GameEvent.EventType eventType) {
+        checked.clear();
+        abilities.checkTriggers(GameEvent.getEvent(eventType, UUID.randomUUID(), null, UUID.randomUUID()), null);
+    }
+
+    private void assertChecked(String... names) {
+        List<String> res = new ArrayList<>(checked);
+        Collections.sort(res);
+        assertEquals(Arrays.asList(names), res);
+    }
+
+    private static class AnyEventAbility extends TriggeredAbilityImpl {
+
+        protected final String name;
+        protected final List<String> checked;
+
+        AnyEventAbility(String name, List<String> checked) {
+            super(Zone.BATTLEFIELD, null);
+            this.name = name;
+            this.checked = checked;
+        }
+
+        AnyEventAbility(final AnyEventAbility ability) {
+            super(ability);
+            this.name = ability.name;
+            this.checked = ability.checked;
+        }
+
+        @Override
+        public AnyEventAbility copy() {
+            return new AnyEventAbility(this);
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            checked.add(name);
+            return false;
+        }
+
+        @Override
+        public boolean checkTrigger(GameEvent event, Game game) {
+            return false;
+        }
+    }
+
+    private static class TypedAbility extends AnyEventAbility {
+
+        private final Set<GameEvent.EventType> eventTypes;
+
+        TypedAbility(String name, List<String> checked, GameEvent.EventType eventType, GameEvent.EventType... otherTypes) {
+            super(name, checked);
+            this.eventTypes = EnumSet.of(eventType, otherTypes);
+        }
+
+        TypedAbility(final TypedAbility ability) {
+            super(ability);
+            this.eventTypes = ability.eventTypes;
+        }
+
+        @Override
+        public TypedAbility copy() {
+            return new TypedAbility(this);
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            if (eventTypes.contains(event.getType())) {
+                checked.add(name);
+            }
+            return false;
+        }
+
+        @Override
+        public Set<GameEvent.EventType> getTriggerEventTypes() {
+            return eventTypes;
+        }
+    }
+
+    private static class CustomCheckAbility extends TypedAbility {
+
+        CustomCheckAbility(String name, List<String> checked) {
+            super(name, checked, GameEvent.EventType.DAMAGED_PLAYER);
+        }
+
+        CustomCheckAbility(final CustomCheckAbility ability) {
+            super(ability);
+        }
+
+        @Override
+        public CustomCheckAbility copy() {
+            return new CustomCheckAbility(this);
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            checked.add(name);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package mage.abilities.mana;
+
+import mage.ConditionalMana;
+import mage.Mana;
+import mage.abilities.Ability;
+import mage.abilities.condition.Condition;
+import mage.game.Game;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for {@link ManaOptionsFrontier}
+ */
+public class ManaOptionsFrontierTest {
+
+    @Test
+    public void shouldCompareByAllManaTypes() {
+        // given
+        long red = ManaOptionsFrontier.pack(Mana.RedMana(1));
+        long redWhite = ManaOptionsFrontier.pack(new Mana(1, 0, 0, 1, 0, 0, 0, 0));
+        long green = ManaOptionsFrontier.pack(Mana.GreenMana(1));
+        long any = ManaOptionsFrontier.pack(Mana.AnyMana(1));
+
+        // then
+        assertTrue(ManaOptionsFrontier.includes(redWhite, red));
+        assertTrue(ManaOptionsFrontier.includes(red, red));
+        assertFalse(ManaOptionsFrontier.includes(red, redWhite));
+        assertFalse(ManaOptionsFrontier.includes(redWhite, green));
+        assertFalse(ManaOptionsFrontier.includes(any, red));
+        assertFalse(ManaOptionsFrontier.includes(red, any));
+    }
+
+    @Test
+    public void shouldKeepOnlyNotIncludedOptions() {
+        // given
+        ManaOptionsFrontier frontier = new ManaOptionsFrontier(100);
+
+        // when
+        assertTrue(frontier.add(Mana.RedMana(1)));
+        assertTrue(frontier.add(Mana.GreenMana(1)));
+        assertFalse(frontier.add(Mana.RedMana(1))); // duplicated
+        assertTrue(frontier.add(new Mana(1, 0, 0, 1, 0, 0, 0, 0))); // {R}{W} includes {R}
+        assertFalse(frontier.add(Mana.WhiteMana(1))); // included in {R}{W}
+
+        // then
+        assertEquals(2, frontier.size());
+        assertEquals(Mana.GreenMana(1), frontier.get(0));
+        assertEquals(new Mana(1, 0, 0, 1, 0, 0, 0, 0), frontier.get(1));
+    }
+
+    @Test
+    public void shouldKeepNotPackedMana() {
+        // given
+        ManaOptionsFrontier frontier = new ManaOptionsFrontier(100);
+        Mana bigMana = Mana.RedMana(1000);
+        ConditionalMana conditionalMana = new ConditionalMana(Mana.RedMana(1));
+
+        // when
+        frontier.add(Mana.RedMana(2));
+        frontier.add(bigMana);
+        frontier.add(conditionalMana);
+
+        // then
+        assertEquals(3, frontier.size());
+        assertSame(bigMana, frontier.get(1));
+        assertSame(conditionalMana, frontier.get(2));
+    }
+
+    @Test
+    public void shouldRemoveDuplicatedConditionalMana() {
+        // given
+        ManaOptionsFrontier frontier = new ManaOptionsFrontier(100);
+        ConditionalMana creatureMana = new ConditionalMana(Mana.RedMana(1));
+        creatureMana.addCondition(new TestCondition("creature"));
+        ConditionalMana artifactMana = new ConditionalMana(Mana.RedMana(1));
+        artifactMana.addCondition(new TestCondition("artifact"));
+
+        // when
+        assertTrue(frontier.add(creatureMana));
+        assertFalse(frontier.add(new ConditionalMana(creatureMana))); // same mana and conditions
+        assertTrue(frontier.add(artifactMana)); // other conditions
+        assertTrue(frontier.add(Mana.RedMana(1)));
+
+        // then
+        assertEquals(3, frontier.size());
+        assertSame(creatureMana, frontier.get(0));
+        assertSame(artifactMana, frontier.get(1));
+    }
+
+    @Test
+    public void shouldRemoveEmptyOptionsOnlyOnDemand() {
+        // given
+        ManaOptionsFrontier keepEmpty = new ManaOptionsFrontier(100);
+        ManaOptionsFrontier removeEmpty = new ManaOptionsFrontier(100, true);
+
+        // when
+        keepEmpty.add(new Mana());
+        removeEmpty.add(new Mana());
+        removeEmpty.add(Mana.RedMana(1));
+
+        // then
+        assertEquals(1, keepEmpty.size());
+        assertEquals(1, removeEmpty.size());
+        assertEquals(Mana.RedMana(1), removeEmpty.get(0));
+    }
+
+    @Test
+    public void shouldRemoveEmptyAndDuplicatedConditionalManaFromAvailableMana() {
+        // given
+        ConditionalMana creatureMana = new ConditionalMana(Mana.GreenMana(1));
+        creatureMana.addCondition(new TestCondition("creature"));
+        ManaOptions options = new ManaOptions();
+        options.add(new Mana());
+        options.add(creatureMana);
+        options.add(new ConditionalMana(creatureMana));
+        options.add(Mana.RedMana(2));
+
+        // when
+        options.removeFullyIncludedVariations();
+
+        // then
+        assertEquals(2, options.size());
+        assertTrue(options.contains(Mana.RedMana(2)));
+        assertEquals(1, options.stream().filter(ConditionalMana.class::isInstance).count());
+        assertFalse(options.contains(new Mana()));
+    }
+
+    @Test
+    public void shouldLimitOptions() {
+        // given
+        ManaOptionsFrontier frontier = new ManaOptionsFrontier(3);
+
+        // when
+        for (int red = 0; red < 10; red++) {
+            frontier.add(new Mana(0, 0, 0, red, 10 - red, 0, 0, 0));
+        }
+
+        // then
+        assertEquals(3, frontier.size());
+        assertEquals(7, frontier.getSkippedByLimit());
+    }
+
+    private static class TestCondition implements Condition {
+
+        private final String text;
+
+        TestCondition(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean apply(Game game, Ability source) {
+            return true;
+        }
+
+        @Override
+        public String getManaText() {
+            return text;
+        }
+    }
+}
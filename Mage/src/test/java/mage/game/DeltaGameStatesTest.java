@@ -0,0 +1,88 @@
+package mage.game;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for {@link DeltaGameStates}
+ */
+public class DeltaGameStatesTest {
+
+    private static GameState createState(int turn) {
+        GameState state = new GameState();
+        state.setTurnNum(turn);
+        return state;
+    }
+
+    @Test
+    public void shouldRestoreAnyState() {
+        // given
+        DeltaGameStates states = new DeltaGameStates(3);
+
+        // when
+        for (int i = 1; i <= 10; i++) {
+            states.save(createState(i));
+        }
+
+        // then
+        assertEquals(10, states.getSize());
+        assertEquals(7, states.get(6).getTurnNum()); // delta
+        assertEquals(4, states.get(3).getTurnNum()); // key frame
+        assertEquals(10, states.get(9).getTurnNum());
+        assertEquals(1, states.get(0).getTurnNum());
+        assertNull(states.get(10));
+        assertNotSame(states.get(5), states.get(5));
+    }
+
+    @Test
+    public void shouldRollbackAndSaveNewStates() {
+        // given
+        DeltaGameStates states = new DeltaGameStates(4);
+        for (int i = 1; i <= 10; i++) {
+            states.save(createState(i));
+        }
+
+        // when
+        GameState restored = states.rollback(5);
+        states.save(createState(100));
+
+        // then
+        assertEquals(6, restored.getTurnNum());
+        assertEquals(7, states.getSize());
+        assertEquals(100, states.get(6).getTurnNum());
+        assertEquals(6, states.get(5).getTurnNum());
+
+        // when
+        states.remove(2);
+
+        // then
+        assertEquals(2, states.getSize());
+        assertEquals(2, states.get(1).getTurnNum());
+    }
+
+    @Test
+    public void shouldRestoreFromSavedFrames() {
+        // given
+        DeltaGameStates states = new DeltaGameStates(4);
+        for (int i = 1; i <= 10; i++) {
+            states.save(createState(i));
+        }
+        List<byte[]> frames = new ArrayList<>();
+        for (int i = 0; i < states.getSize(); i++) {
+            frames.add(states.getFrame(i));
+        }
+
+        // when
+        DeltaGameStates restored = new DeltaGameStates(states.getKeyFrameInterval(), frames);
+
+        // then
+        assertEquals(10, restored.getSize());
+        assertEquals(7, restored.get(6).getTurnNum());
+        assertEquals(1, restored.get(0).getTurnNum());
+        assertEquals(10, restored.get(9).getTurnNum());
+    }
+}
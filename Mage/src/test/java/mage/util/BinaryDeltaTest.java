@@ -0,0 +1,61 @@
+package mage.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for {@link BinaryDelta}
+ */
+public class BinaryDeltaTest {
+
+    private static byte[] randomData(Random random, int size) {
+        byte[] data = new byte[size];
+        random.nextBytes(data);
+        return data;
+    }
+
+    @Test
+    public void shouldRestoreChangedData() {
+        // given
+        Random random = new Random(42);
+        byte[] base = randomData(random, 100_000);
+        byte[] target = Arrays.copyOf(base, base.length + 10);
+        target[500] = (byte) (target[500] + 1);
+        System.arraycopy(base, 20_000, target, 20_010, 50_000); // shifted part
+        target[99_000] = 0;
+
+        // when
+        byte[] delta = BinaryDelta.diff(base, target);
+
+        // then
+        assertArrayEquals(target, BinaryDelta.patch(base, delta));
+        assertTrue("delta must be small for similar data, but got " + delta.length, delta.length < 1_000);
+    }
+
+    @Test
+    public void shouldRestoreDifferentData() {
+        // given
+        Random random = new Random(42);
+        byte[] base = randomData(random, 1_000);
+        byte[] target = randomData(random, 2_000);
+
+        // when
+        byte[] delta = BinaryDelta.diff(base, target);
+
+        // then
+        assertArrayEquals(target, BinaryDelta.patch(base, delta));
+    }
+
+    @Test
+    public void shouldSupportEmptyAndSmallData() {
+        byte[] empty = new byte[0];
+        byte[] small = new byte[]{1, 2, 3};
+        assertArrayEquals(empty, BinaryDelta.patch(small, BinaryDelta.diff(small, empty)));
+        assertArrayEquals(small, BinaryDelta.patch(empty, BinaryDelta.diff(empty, small)));
+        assertArrayEquals(small, BinaryDelta.patch(small, BinaryDelta.diff(small, small)));
+    }
+}
@@ -0,0 +1,103 @@
+package mage.util;
+
+import mage.game.CardState;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for {@link CopyOnWriteMap}
+ */
+public class CopyOnWriteMapTest {
+
+    @Test
+    public void shouldShareDataUntilFirstChange() {
+        // given
+        CopyOnWriteMap<UUID, Integer> original = new CopyOnWriteMap<>(false);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        original.put(id1, 1);
+
+        // when
+        CopyOnWriteMap<UUID, Integer> copy = original.copy();
+
+        // then
+        assertTrue(original.isShared());
+        assertTrue(copy.isShared());
+        assertEquals(Integer.valueOf(1), copy.get(id1));
+
+        // when
+        copy.put(id1, 2);
+        copy.put(id2, 3);
+
+        // then
+        assertFalse(copy.isShared());
+        assertEquals(Integer.valueOf(1), original.get(id1));
+        assertFalse(original.containsKey(id2));
+        assertEquals(Integer.valueOf(2), copy.get(id1));
+        assertEquals(2, copy.size());
+        assertEquals(1, original.size());
+    }
+
+    @Test
+    public void shouldKeepSourceAfterCopyClear() {
+        // given
+        CopyOnWriteMap<UUID, Integer> original = new CopyOnWriteMap<>(false);
+        UUID id = UUID.randomUUID();
+        original.put(id, 1);
+        CopyOnWriteMap<UUID, Integer> copy = original.copy();
+
+        // when
+        copy.clear();
+        copy.remove(id);
+
+        // then
+        assertTrue(copy.isEmpty());
+        assertEquals(Integer.valueOf(1), original.get(id));
+    }
+
+    @Test
+    public void shouldCopyMutableValuesOnUpdateOnly() {
+        // given
+        CopyOnWriteMap<UUID, CardState> original = new CopyOnWriteMap<>(true);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        original.put(id1, new CardState());
+        original.put(id2, new CardState());
+
+        // when
+        CopyOnWriteMap<UUID, CardState> copy = original.copy();
+        CardState changed = copy.getForUpdate(id1);
+        changed.setFaceDown(true);
+
+        // then
+        assertNotSame(original.get(id1), changed);
+        assertFalse(original.get(id1).isFaceDown());
+        assertTrue(copy.get(id1).isFaceDown());
+        assertSame("not changed value must be shared", original.get(id2), copy.get(id2));
+        assertSame("owned value must not be copied twice", changed, copy.getForUpdate(id1));
+    }
+
+    @Test
+    public void shouldCopyAllValuesOnFullUpdate() {
+        // given
+        CopyOnWriteMap<UUID, CardState> original = new CopyOnWriteMap<>(true);
+        UUID id = UUID.randomUUID();
+        original.put(id, new CardState());
+        CopyOnWriteMap<UUID, CardState> copy = original.copy();
+
+        // when
+        copy.valuesForUpdate().forEach(state -> state.setFaceDown(true));
+
+        // then
+        assertFalse(original.get(id).isFaceDown());
+        assertTrue(copy.get(id).isFaceDown());
+
+        // and source must copy its values after new snapshot too
+        CopyOnWriteMap<UUID, CardState> copy2 = copy.copy();
+        copy.getForUpdate(id).setFaceDown(false);
+        assertTrue(copy2.get(id).isFaceDown());
+    }
+}
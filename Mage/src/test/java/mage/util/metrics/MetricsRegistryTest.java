@@ -0,0 +1,87 @@
+package mage.util.metrics;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for {@link MetricsRegistry}
+ */
+public class MetricsRegistryTest {
+
+    @Test
+    public void shouldReturnSameMetricForSameNameAndLabels() {
+        // given
+        MetricCounter counter1 = MetricsRegistry.instance.counter("test_registry_total", "Test counter", "method", "A");
+
+        // when
+        MetricCounter counter2 = MetricsRegistry.instance.counter("test_registry_total", "Test counter", "method", "A");
+        MetricCounter counter3 = MetricsRegistry.instance.counter("test_registry_total", "Test counter", "method", "B");
+
+        // then
+        assertSame(counter1, counter2);
+        assertNotSame(counter1, counter3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnSameNameWithAnotherType() {
+        MetricsRegistry.instance.counter("test_registry_type", "Test counter");
+        MetricsRegistry.instance.timer("test_registry_type", "Test timer");
+    }
+
+    @Test
+    public void shouldRemoveMetric() {
+        // given
+        MetricTimer timer = MetricsRegistry.instance.timer("test_remove_seconds", "Test timer", "game", "1");
+        MetricsRegistry.instance.timer("test_remove_seconds", "Test timer", "game", "2");
+
+        // when
+        MetricsRegistry.instance.remove("test_remove_seconds", "game", "1");
+
+        // then
+        assertFalse(MetricsRegistry.instance.getMetrics().contains(timer));
+        assertNotSame(timer, MetricsRegistry.instance.timer("test_remove_seconds", "Test timer", "game", "1"));
+        assertTrue(MetricsRegistry.instance.getSamples().containsKey("test_remove_seconds_count{game=\"2\"}"));
+    }
+
+    @Test
+    public void shouldPrintTextFormat() {
+        // given
+        MetricsRegistry.instance.counter("test_text_total", "Test counter", "method", "A").add(5);
+        MetricsRegistry.instance.counter("test_text_total", "Test counter", "method", "B").add(7);
+        MetricsRegistry.instance.gauge("test_text_gauge", "Test gauge", () -> 1.5);
+        MetricTimer timer = MetricsRegistry.instance.timer("test_text_seconds", "Test timer");
+        timer.record(TimeUnit.MICROSECONDS.toNanos(80));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(3));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(20));
+        timer.record(TimeUnit.SECONDS.toNanos(20));
+
+        // when
+        String text = MetricsRegistry.instance.printText();
+        Map<String, Double> samples = MetricsRegistry.instance.getSamples();
+
+        // then
+        assertTrue(text, text.contains("# HELP test_text_total Test counter\n"
+                + "# TYPE test_text_total counter\n"
+                + "test_text_total{method=\"A\"} 5\n"
+                + "test_text_total{method=\"B\"} 7\n"));
+        assertTrue(text, text.contains("# TYPE test_text_gauge gauge\ntest_text_gauge 1.5\n"));
+        assertTrue(text, text.contains("# TYPE test_text_seconds histogram\n"
+                + "test_text_seconds_bucket{le=\"0.00005\"} 0\n"
+                + "test_text_seconds_bucket{le=\"0.0001\"} 1\n"
+                + "test_text_seconds_bucket{le=\"0.00025\"} 1\n"
+                + "test_text_seconds_bucket{le=\"0.0005\"} 1\n"
+                + "test_text_seconds_bucket{le=\"0.001\"} 1\n"
+                + "test_text_seconds_bucket{le=\"0.005\"} 2\n"
+                + "test_text_seconds_bucket{le=\"0.01\"} 2\n"
+                + "test_text_seconds_bucket{le=\"0.05\"} 3\n"));
+        assertTrue(text, text.contains("test_text_seconds_bucket{le=\"10\"} 3\n"
+                + "test_text_seconds_bucket{le=\"+Inf\"} 4\n"
+                + "test_text_seconds_sum 20.02308\n"
+                + "test_text_seconds_count 4\n"));
+        assertEquals(Double.valueOf(7), samples.get("test_text_total{method=\"B\"}"));
+    }
+}